@@ -0,0 +1,54 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Counter of bytes allocated by the current thread,
+ * it uses the HotSpot extension of the {@link ThreadMXBean}.
+ *
+ * @author Korovin Anatoliy
+ */
+final class AllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = lookupThreadBean();
+
+    private AllocationCounter() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * @return true if the JVM counts allocated bytes per thread
+     */
+    static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * @return total count of bytes which were allocated by the current thread, -1 if it isn't supported
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean lookupThreadBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+            if (!threadBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threadBean;
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+}
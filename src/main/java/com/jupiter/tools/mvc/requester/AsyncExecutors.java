@@ -0,0 +1,48 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Default executor for asynchronous requests.
+ *
+ * @author Korovin Anatoliy
+ */
+final class AsyncExecutors {
+
+    private AsyncExecutors() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * @return executor which starts a virtual thread per task when the JVM supports them,
+     * otherwise a cached pool of daemon threads
+     */
+    static Executor defaultExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final Executor EXECUTOR = create();
+    }
+
+    private static ExecutorService create() {
+        try {
+            // the library is compiled for Java 8, so virtual threads are looked up at runtime
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "mvc-requester-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
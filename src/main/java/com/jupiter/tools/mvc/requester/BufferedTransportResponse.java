@@ -0,0 +1,127 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Response which was completely received in memory: the status,
+ * headers and the body.
+ *
+ * @author Korovin Anatoliy
+ */
+class BufferedTransportResponse implements MvcTransportResponse {
+
+    private final HttpMethod method;
+    private final URI uri;
+    private final int status;
+    private final HttpHeaders headers;
+    private final byte[] content;
+
+    BufferedTransportResponse(HttpMethod method,
+                              URI uri,
+                              int status,
+                              HttpHeaders headers,
+                              byte[] content) {
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.headers = headers;
+        this.content = content;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.keySet();
+    }
+
+    @Override
+    public byte[] getContentAsByteArray() {
+        return content;
+    }
+
+    @Override
+    public <T> Stream<T> streamContent(ObjectReader reader) {
+        return JsonStreams.stream(wrap(() -> reader.readValues(content)));
+    }
+
+    @Override
+    public MvcResult getMvcResult() {
+        return makeMvcResult(method, uri, status, headers, content);
+    }
+
+    @Override
+    public void print() {
+        System.out.println();
+        System.out.println("Request:");
+        System.out.println("    " + method + " " + uri);
+        System.out.println("Response:");
+        System.out.println("    Status = " + status);
+        System.out.println("    Headers = " + headers);
+        System.out.println("    Body = " + new String(content, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Make the {@link MvcResult} from the received response,
+     * to use it with MockMvc result matchers.
+     */
+    static MvcResult makeMvcResult(HttpMethod method,
+                                   URI uri,
+                                   int status,
+                                   HttpHeaders headers,
+                                   byte[] content) {
+
+        return makeMvcResult(method, uri, status, headers, content, new MockHttpServletResponse());
+    }
+
+    /**
+     * Make the {@link MvcResult} from the received response with the selected instance of the servlet response
+     */
+    static MvcResult makeMvcResult(HttpMethod method,
+                                   URI uri,
+                                   int status,
+                                   HttpHeaders headers,
+                                   byte[] content,
+                                   MockHttpServletResponse response) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest(method.name(), uri.getPath());
+        response.setStatus(status);
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        wrap(() -> {
+            response.getOutputStream().write(content);
+            return null;
+        });
+        return new StubMvcResult(request, response);
+    }
+}
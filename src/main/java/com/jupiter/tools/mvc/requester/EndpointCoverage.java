@@ -0,0 +1,259 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Counters of requests by controller endpoints, to know which endpoints a test suite exercises
+ * and how heavily:
+ * <pre>{@code
+ * EndpointCoverage coverage = EndpointCoverage.create()
+ *                                             .withInventory(handlerMapping)
+ *                                             .reportAtExit();
+ *
+ * MvcRequester requester = MvcRequester.on(mockMvc).withEndpointCoverage(coverage);
+ * }</pre>
+ * A request is resolved to the {@link HandlerMethod} which handled it (by the handler of the MvcResult),
+ * requests of transports without a handler (real HTTP, WebTestClient) are counted by the method and the URI template
+ * (like `GET /orders/{id}`). When the transport throws an exception instead of a response,
+ * the request is counted by the URI template as an error (see {@link EndpointStats#getErrors()}).
+ * Apply the coverage before {@link MvcRequester#withDetachedResults()}, detached responses don't keep the handler.
+ * <p>
+ * Counters of hits, statuses and the time are {@link LongAdder} in a concurrent map,
+ * so requests from parallel tests are counted without locks and contention.
+ * With the inventory of request mappings the report lists endpoints which were never requested.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class EndpointCoverage {
+
+    private final ConcurrentMap<Object, Counter> counters = new ConcurrentHashMap<>();
+    private final RequestMappingHandlerMapping inventory;
+
+    private EndpointCoverage(RequestMappingHandlerMapping inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @return EndpointCoverage
+     */
+    public static EndpointCoverage create() {
+        return new EndpointCoverage(null);
+    }
+
+    /**
+     * @param handlerMapping mapping of all endpoints of the application,
+     *                       like the `requestMappingHandlerMapping` bean of the context
+     * @return new empty coverage which reports endpoints of the mapping which were not requested
+     */
+    public EndpointCoverage withInventory(RequestMappingHandlerMapping handlerMapping) {
+        return new EndpointCoverage(handlerMapping);
+    }
+
+    /**
+     * Print the report to the standard output when the JVM exits
+     *
+     * @return this coverage
+     */
+    public EndpointCoverage reportAtExit() {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(report()),
+                                                        "endpoint-coverage-report"));
+        return this;
+    }
+
+    /**
+     * Write the report to the file when the JVM exits
+     *
+     * @param file file of the report, it's overwritten
+     * @return this coverage
+     */
+    public EndpointCoverage reportAtExit(Path file) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                Files.write(file, report().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                System.err.println("Unable to write the endpoint coverage report to " + file + ": " + e);
+            }
+        }, "endpoint-coverage-report"));
+        return this;
+    }
+
+    /**
+     * Make the request by the transport and count it
+     *
+     * @param request   request
+     * @param transport transport which makes the request
+     * @return response of the transport
+     */
+    MvcTransportResponse perform(MvcRequestSpec request, MvcTransport transport) throws Exception {
+        long start = System.nanoTime();
+        MvcTransportResponse response;
+        try {
+            response = transport.perform(request);
+        } catch (Throwable e) {
+            counter(request, null).recordError(System.nanoTime() - start);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        counter(request, response).record(response.getStatus(), elapsed);
+        return response;
+    }
+
+    /**
+     * @return counters of requested endpoints, the most requested first
+     */
+    public List<EndpointStats> getEndpoints() {
+        List<EndpointStats> endpoints = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            endpoints.add(counter.snapshot());
+        }
+        endpoints.sort(Comparator.comparingLong(EndpointStats::getHits).reversed()
+                                 .thenComparing(EndpointStats::getEndpoint));
+        return endpoints;
+    }
+
+    /**
+     * @return mappings of endpoints of the inventory which were not requested, like `{GET /orders/{id}} OrderController#get(Long)`,
+     * an empty list without the inventory
+     */
+    public List<String> getUntestedEndpoints() {
+        List<String> untested = new ArrayList<>();
+        if (inventory == null) {
+            return untested;
+        }
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> mapping : inventory.getHandlerMethods().entrySet()) {
+            HandlerMethod handlerMethod = mapping.getValue();
+            if (!counters.containsKey(handlerMethod.getMethod())) {
+                untested.add(mapping.getKey() + " " + name(handlerMethod));
+            }
+        }
+        untested.sort(null);
+        return untested;
+    }
+
+    /**
+     * @return human readable report: counters of requested endpoints and untested endpoints of the inventory
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Endpoint coverage:");
+        List<EndpointStats> endpoints = getEndpoints();
+        for (EndpointStats endpoint : endpoints) {
+            report.append(System.lineSeparator()).append("  ").append(endpoint);
+        }
+        if (inventory != null) {
+            List<String> untested = getUntestedEndpoints();
+            report.append(System.lineSeparator())
+                  .append("Untested endpoints (").append(untested.size())
+                  .append(" of ").append(inventory.getHandlerMethods().size()).append("):");
+            for (String endpoint : untested) {
+                report.append(System.lineSeparator()).append("  ").append(endpoint);
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    private Counter counter(MvcRequestSpec request, MvcTransportResponse response) {
+        Object handler = response == null ? null : handlerOf(response);
+        Object key;
+        if (handler instanceof HandlerMethod) {
+            key = ((HandlerMethod) handler).getMethod();
+        } else {
+            key = request.getMethod() + " " + request.getUriTemplate();
+        }
+        // get doesn't lock, computeIfAbsent is used only for the first request of the endpoint
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new Counter(handler instanceof HandlerMethod
+                                                                     ? name((HandlerMethod) handler)
+                                                                     : (String) k));
+        }
+        return counter;
+    }
+
+    /**
+     * Only MockMvc responses keep the handler, other transports build a new MvcResult on each call
+     */
+    private static Object handlerOf(MvcTransportResponse response) {
+        MvcTransportResponse origin = response instanceof SilentTransportResponse
+                                      ? ((SilentTransportResponse) response).getOrigin()
+                                      : response;
+        return origin instanceof MockMvcTransportResponse ? origin.getMvcResult().getHandler() : null;
+    }
+
+    private static String name(HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        StringBuilder name = new StringBuilder(handlerMethod.getBeanType().getSimpleName())
+                .append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            name.append(i == 0 ? "" : ", ").append(parameterTypes[i].getSimpleName());
+        }
+        return name.append(')').toString();
+    }
+
+    private static final class Counter {
+
+        private final String endpoint;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private Counter(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private void record(int status, long elapsedNanos) {
+            hits.increment();
+            nanos.add(elapsedNanos);
+            LongAdder count = statuses.get(status);
+            if (count == null) {
+                count = statuses.computeIfAbsent(status, s -> new LongAdder());
+            }
+            count.increment();
+        }
+
+        private void recordError(long elapsedNanos) {
+            hits.increment();
+            nanos.add(elapsedNanos);
+            errors.increment();
+        }
+
+        private EndpointStats snapshot() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return new EndpointStats(endpoint, hits.sum(), nanos.sum(), errors.sum(), counts);
+        }
+    }
+}
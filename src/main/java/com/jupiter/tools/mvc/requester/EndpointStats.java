@@ -0,0 +1,81 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Snapshot of counters of the single endpoint in the {@link EndpointCoverage}.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class EndpointStats {
+
+    private final String endpoint;
+    private final long hits;
+    private final long totalNanos;
+    private final long errors;
+    private final Map<Integer, Long> statuses;
+
+    EndpointStats(String endpoint, long hits, long totalNanos, long errors, Map<Integer, Long> statuses) {
+        this.endpoint = endpoint;
+        this.hits = hits;
+        this.totalNanos = totalNanos;
+        this.errors = errors;
+        this.statuses = Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * @return name of the handler method, like `OrderController#get(Long)`,
+     * or the method and the URI template of requests which were not resolved to a handler
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return count of requests to the endpoint
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return total time of requests to the endpoint
+     */
+    public Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * @return mean time of a request to the endpoint
+     */
+    public Duration getMeanTime() {
+        return hits == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / hits);
+    }
+
+    /**
+     * @return count of requests which failed with an exception of the transport instead of a response,
+     * they are counted in hits but not in statuses
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return counts of responses by status codes, sorted by codes
+     */
+    public Map<Integer, Long> getStatuses() {
+        return statuses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                             "%s hits: %d, total: %.3f ms, mean: %.3f ms, statuses: %s, errors: %d",
+                             endpoint, hits, totalNanos / 1e6, getMeanTime().toNanos() / 1e6, statuses, errors);
+    }
+}
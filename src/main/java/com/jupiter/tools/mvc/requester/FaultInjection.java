@@ -0,0 +1,281 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Deterministic faults around the dispatch of requests, to test timeouts, retries
+ * and circuit breakers of clients under the load:
+ * <pre>{@code
+ * FaultInjection faults = FaultInjection.create(42)
+ *                                       .withLatency("/orders/**", LatencyDistribution.logNormal(Duration.ofMillis(20), 0.8))
+ *                                       .withErrorRate("/payments/{id}", 0.05, 503)
+ *                                       .withSlowBody("/reports/**", 4096, Duration.ofMillis(2));
+ *
+ * MvcRequester degraded = requester.withFaultInjection(faults);
+ * }</pre>
+ * Rules are selected by Ant-style patterns of the request path (URI templates like `/orders/{id}` match too),
+ * all matching rules are applied:
+ * <ul>
+ * <li>latency - a pause before the dispatch</li>
+ * <li>error rate - a part of requests is answered by the error status without the dispatch</li>
+ * <li>slow body - a pause after the dispatch for each chunk of the response body, like a slow network</li>
+ * </ul>
+ * Each request takes the next number of the sequence and decisions are made by the random generator
+ * seeded with the seed and this number, so a sequential run injects the same faults with the same seed.
+ * Injected pauses are reported apart from the real time by {@link RequestMeasurement#getInjectedLatency()},
+ * {@link RequestMeasurement#getRealLatency()}, {@link #getInjectedTime()} and reports of load generators.
+ * <p>
+ * The configuration is immutable and thread-safe, methods `withX` return a new instance
+ * with a new sequence and zero statistics.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class FaultInjection {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    /**
+     * injected nanoseconds of the current thread, it only grows, so readers take a difference
+     */
+    private static final ThreadLocal<long[]> INJECTED_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final long seed;
+    private final List<Rule> rules;
+    private final LongConsumer sleeper;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder delayedRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder injectedNanos = new LongAdder();
+
+    private FaultInjection(long seed, List<Rule> rules, LongConsumer sleeper) {
+        this.seed = seed;
+        this.rules = rules;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Static factory method, without rules the requests are not changed
+     *
+     * @param seed seed of random decisions
+     * @return FaultInjection
+     */
+    public static FaultInjection create(long seed) {
+        return new FaultInjection(seed, Collections.emptyList(), FaultInjection::pause);
+    }
+
+    /**
+     * @param pathPattern Ant-style pattern of the request path, like `/orders/**`
+     * @param latency     distribution of the latency which is added before the dispatch
+     * @return new FaultInjection with the additional rule
+     */
+    public FaultInjection withLatency(String pathPattern, LatencyDistribution latency) {
+        return withRule(new Rule(pathPattern, latency, 0, 0, 0, 0));
+    }
+
+    /**
+     * @param pathPattern Ant-style pattern of the request path, like `/orders/**`
+     * @param rate        part of requests which fail, from 0 to 1
+     * @param status      HTTP status of failed requests, like 503
+     * @return new FaultInjection with the additional rule
+     */
+    public FaultInjection withErrorRate(String pathPattern, double rate, int status) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1");
+        }
+        if (status < 100 || status > 599) {
+            throw new IllegalArgumentException("Wrong HTTP status: " + status);
+        }
+        return withRule(new Rule(pathPattern, null, rate, status, 0, 0));
+    }
+
+    /**
+     * The response body is buffered by transports, so the streaming is simulated
+     * by a pause for each chunk after the response is received.
+     *
+     * @param pathPattern Ant-style pattern of the request path, like `/reports/**`
+     * @param chunkBytes  size of the chunk of the body
+     * @param chunkDelay  pause for each chunk
+     * @return new FaultInjection with the additional rule
+     */
+    public FaultInjection withSlowBody(String pathPattern, int chunkBytes, Duration chunkDelay) {
+        if (chunkBytes <= 0 || chunkDelay.isNegative()) {
+            throw new IllegalArgumentException("Size of the chunk must be positive and the delay can't be negative");
+        }
+        return withRule(new Rule(pathPattern, null, 0, 0, chunkBytes, chunkDelay.toNanos()));
+    }
+
+    FaultInjection withSleeper(LongConsumer sleeper) {
+        return new FaultInjection(seed, rules, sleeper);
+    }
+
+    /**
+     * @return count of requests which got an injected pause
+     */
+    public long getDelayedRequests() {
+        return delayedRequests.sum();
+    }
+
+    /**
+     * @return count of requests which were answered by the injected error
+     */
+    public long getFailedRequests() {
+        return failedRequests.sum();
+    }
+
+    /**
+     * @return total time of injected pauses
+     */
+    public Duration getInjectedTime() {
+        return Duration.ofNanos(injectedNanos.sum());
+    }
+
+    /**
+     * @return human readable statistics of injected faults
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "requests: %d, delayed: %d, failed: %d, injected time: %.3f ms",
+                             sequence.get(), getDelayedRequests(), getFailedRequests(), injectedNanos.sum() / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    /**
+     * Make the request with faults of matching rules
+     *
+     * @param request   request to send
+     * @param transport transport which makes the request
+     * @return received response or the injected error
+     * @throws Exception when the request failed
+     */
+    MvcTransportResponse perform(MvcRequestSpec request, MvcTransport transport) throws Exception {
+        long number = sequence.getAndIncrement();
+        if (rules.isEmpty()) {
+            return transport.perform(request);
+        }
+        String path = request.getUri().getPath();
+        SplittableRandom random = new SplittableRandom(seed + number * GOLDEN_GAMMA);
+        long delay = 0;
+        int errorStatus = 0;
+        for (Rule rule : rules) {
+            if (!PATH_MATCHER.match(rule.pathPattern, path)) {
+                continue;
+            }
+            if (rule.latency != null) {
+                delay += rule.latency.sampleNanos(random);
+            }
+            // the random value is taken for each error rule, so decisions don't depend on previous results
+            if (rule.errorStatus != 0 && random.nextDouble() < rule.errorRate && errorStatus == 0) {
+                errorStatus = rule.errorStatus;
+            }
+        }
+        inject(delay);
+        if (errorStatus != 0) {
+            countDelayed(delay);
+            failedRequests.increment();
+            return new BufferedTransportResponse(request.getMethod(),
+                                                 request.getUri(),
+                                                 errorStatus,
+                                                 new HttpHeaders(),
+                                                 new byte[0]);
+        }
+        MvcTransportResponse response = transport.perform(request);
+        long bodyDelay = 0;
+        for (Rule rule : rules) {
+            if (rule.chunkBytes > 0 && PATH_MATCHER.match(rule.pathPattern, path)) {
+                long chunks = (response.getContentAsByteArray().length + rule.chunkBytes - 1) / rule.chunkBytes;
+                bodyDelay += chunks * rule.chunkDelayNanos;
+            }
+        }
+        inject(bodyDelay);
+        countDelayed(delay + bodyDelay);
+        return response;
+    }
+
+    /**
+     * Time of pauses which were injected in requests of the current thread,
+     * load generators take the difference of two calls around a request to split its latency
+     *
+     * @return total injected nanoseconds of the current thread, only the difference of two calls makes sense
+     */
+    public static long currentThreadInjectedNanos() {
+        return INJECTED_NANOS.get()[0];
+    }
+
+    private void inject(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        sleeper.accept(nanos);
+        // the actual time of the pause, it can be longer than planned, so the real latency isn't overstated
+        long injected = System.nanoTime() - start;
+        INJECTED_NANOS.get()[0] += injected;
+        injectedNanos.add(injected);
+    }
+
+    private void countDelayed(long nanos) {
+        if (nanos > 0) {
+            delayedRequests.increment();
+        }
+    }
+
+    private FaultInjection withRule(Rule rule) {
+        List<Rule> extended = new ArrayList<>(rules);
+        extended.add(rule);
+        return new FaultInjection(seed, Collections.unmodifiableList(extended), sleeper);
+    }
+
+    private static void pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static final class Rule {
+
+        private final String pathPattern;
+        private final LatencyDistribution latency;
+        private final double errorRate;
+        private final int errorStatus;
+        private final int chunkBytes;
+        private final long chunkDelayNanos;
+
+        private Rule(String pathPattern,
+                     LatencyDistribution latency,
+                     double errorRate,
+                     int errorStatus,
+                     int chunkBytes,
+                     long chunkDelayNanos) {
+            this.pathPattern = pathPattern;
+            this.latency = latency;
+            this.errorRate = errorRate;
+            this.errorStatus = errorStatus;
+            this.chunkBytes = chunkBytes;
+            this.chunkDelayNanos = chunkDelayNanos;
+        }
+    }
+}
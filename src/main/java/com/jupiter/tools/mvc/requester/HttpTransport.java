@@ -0,0 +1,164 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Transport which sends real HTTP requests to the server by the selected base URL,
+ * for example to the embedded Tomcat or Jetty started on the localhost.
+ * <p>
+ * Connections are kept alive and reused by the JDK connection cache
+ * (its size is set by the `http.maxConnections` system property),
+ * to return a connection in the cache the body of each response is read completely.
+ * Request parameters are sent in the query string, MockMvc post-processors are applied
+ * to a stub servlet request and only the headers which they set are sent.
+ * <p>
+ * The HttpURLConnection doesn't support the PATCH method and silently replaces GET by POST
+ * when the request has a body, such requests are rejected before the connection.
+ *
+ * @author Korovin Anatoliy
+ */
+class HttpTransport implements MvcTransport {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+    private static final Set<HttpMethod> SUPPORTED_METHODS = EnumSet.of(HttpMethod.GET,
+                                                                         HttpMethod.HEAD,
+                                                                         HttpMethod.POST,
+                                                                         HttpMethod.PUT,
+                                                                         HttpMethod.DELETE,
+                                                                         HttpMethod.OPTIONS,
+                                                                         HttpMethod.TRACE);
+    private static final Set<HttpMethod> METHODS_WITHOUT_BODY = EnumSet.of(HttpMethod.GET,
+                                                                           HttpMethod.HEAD,
+                                                                           HttpMethod.TRACE);
+
+    private final String baseUrl;
+
+    HttpTransport(URI baseUri) {
+        String url = baseUri.toString();
+        this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    @Override
+    public MvcTransportResponse perform(MvcRequestSpec request) throws IOException {
+
+        checkSupported(request);
+
+        URL url = new URL(baseUrl + request.getUriWithQueryParams());
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod(request.getMethod().name());
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setUseCaches(false);
+            connection.setInstanceFollowRedirects(false);
+            request.forEachHeader(connection::addRequestProperty);
+            request.forEachPostProcessedHeader(connection::addRequestProperty);
+
+            if (request.isMultipart()) {
+                String boundary = UUID.randomUUID().toString();
+                connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+                writeBody(connection, makeMultipartBody(request.getFiles(), boundary));
+            } else {
+                if (request.getContentType() != null) {
+                    connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, request.getContentType().toString());
+                }
+                if (request.getContent() != null) {
+                    writeBody(connection, request.getContent());
+                }
+            }
+            return readResponse(connection, request);
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    private void writeBody(HttpURLConnection connection, byte[] body) throws IOException {
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body);
+        }
+    }
+
+    private MvcTransportResponse readResponse(HttpURLConnection connection,
+                                              MvcRequestSpec request) throws IOException {
+
+        int status = connection.getResponseCode();
+        HttpHeaders headers = new HttpHeaders();
+        for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+            // the status line is returned with the null key
+            if (header.getKey() != null) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+        InputStream body = status >= 400
+                           ? connection.getErrorStream()
+                           : connection.getInputStream();
+        byte[] content;
+        if (body == null) {
+            content = new byte[0];
+        } else {
+            try (InputStream inputStream = body) {
+                content = StreamUtils.copyToByteArray(inputStream);
+            }
+        }
+        return new BufferedTransportResponse(request.getMethod(),
+                                             request.getUriWithQueryParams(),
+                                             status,
+                                             headers,
+                                             content);
+    }
+
+    private byte[] makeMultipartBody(Map<String, MvcRequestFileData> files, String boundary) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (Map.Entry<String, MvcRequestFileData> entry : files.entrySet()) {
+            MvcRequestFileData data = entry.getValue();
+            StringBuilder partHeader = new StringBuilder();
+            partHeader.append("--").append(boundary).append("\r\n")
+                      .append("Content-Disposition: form-data; name=\"").append(entry.getKey()).append('"');
+            if (data.getOriginalFileName() != null) {
+                partHeader.append("; filename=\"").append(data.getOriginalFileName()).append('"');
+            }
+            partHeader.append("\r\n");
+            if (data.getMimeType() != null) {
+                partHeader.append("Content-Type: ").append(data.getMimeType()).append("\r\n");
+            }
+            partHeader.append("\r\n");
+            body.write(partHeader.toString().getBytes(StandardCharsets.UTF_8));
+            body.write(data.getFileData());
+            body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static void checkSupported(MvcRequestSpec request) {
+        if (!SUPPORTED_METHODS.contains(request.getMethod())) {
+            throw new MvcRequestException("Method " + request.getMethod() + " is not supported by the HTTP transport");
+        }
+        boolean hasBody = request.getContent() != null || request.isMultipart();
+        if (hasBody && METHODS_WITHOUT_BODY.contains(request.getMethod())) {
+            throw new MvcRequestException(request.getMethod() + " request with a body is not supported by the HTTP transport");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+final class JsonStreams {
+
+    private JsonStreams() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * Convert the iterator over JSON values in the stream,
+     * underlying parser will be closed with the stream.
+     *
+     * @param iterator iterator of values
+     * @param <T>      type of values
+     * @return Stream
+     */
+    static <T> Stream<T> stream(MappingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                            .onClose(() -> wrap(() -> {
+                                iterator.close();
+                                return null;
+                            }));
+    }
+}
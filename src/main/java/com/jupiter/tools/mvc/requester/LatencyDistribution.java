@@ -0,0 +1,70 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Distribution of the latency which is injected before the dispatch of a request
+ * (see {@link FaultInjection#withLatency(String, LatencyDistribution)}).
+ *
+ * @author Korovin Anatoliy
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @param random seeded source of randomness of the request
+     * @return latency in nanoseconds, not negative
+     */
+    long sampleNanos(SplittableRandom random);
+
+    /**
+     * @param latency latency of each request
+     * @return LatencyDistribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Latency can't be negative");
+        }
+        return random -> nanos;
+    }
+
+    /**
+     * @param min min latency, inclusive
+     * @param max max latency, exclusive
+     * @return LatencyDistribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (minNanos < 0 || maxNanos <= minNanos) {
+            throw new IllegalArgumentException("Latency range must be positive and not empty");
+        }
+        return random -> random.nextLong(minNanos, maxNanos);
+    }
+
+    /**
+     * Log-normal distribution, like latencies of real services: most of requests are close
+     * to the median and a long tail is slow.
+     *
+     * @param median median latency
+     * @param sigma  standard deviation of the logarithm of the latency, like 0.5 for a moderate tail
+     * @return LatencyDistribution
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        long medianNanos = median.toNanos();
+        if (medianNanos <= 0 || sigma < 0) {
+            throw new IllegalArgumentException("Median must be positive and sigma can't be negative");
+        }
+        return random -> {
+            // Box-Muller transform, SplittableRandom has no nextGaussian in Java 8
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            double gaussian = Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+            return (long) Math.min(medianNanos * Math.exp(sigma * gaussian), Long.MAX_VALUE);
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Map;
+
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.fileUpload;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Transport which makes requests by the {@link MockMvc}
+ *
+ * @author Korovin Anatoliy
+ */
+class MockMvcTransport implements MvcTransport {
+
+    private final MockMvc mockMvc;
+
+    MockMvcTransport(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Override
+    public MvcTransportResponse perform(MvcRequestSpec request) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(make(request)).andReturn();
+        return new MockMvcTransportResponse(mvcResult);
+    }
+
+    private MockHttpServletRequestBuilder make(MvcRequestSpec request) {
+
+        MockHttpServletRequestBuilder builder = request.isMultipart()
+                                                ? makeUpload(request)
+                                                : MockMvcRequestBuilders.request(request.getMethod(),
+                                                                                 request.getUri());
+        if (request.getContentType() != null) {
+            builder.contentType(request.getContentType());
+        }
+        if (request.getContent() != null) {
+            builder.content(request.getContent());
+        }
+        return prepareRequest(builder, request);
+    }
+
+    /**
+     * set request parameters, headers and postProcessors
+     *
+     * @param builder request
+     */
+    private MockHttpServletRequestBuilder prepareRequest(MockHttpServletRequestBuilder builder,
+                                                         MvcRequestSpec request) {
+        request.forEachParam(builder::param);
+        request.forEachHeader(builder::header);
+        request.getPostProcessors().forEach(builder::with);
+        return builder;
+    }
+
+    /**
+     * Make a POST request to upload a file
+     *
+     * @param request request with multipart files
+     * @return MockHttpServletRequestBuilder
+     */
+    private MockMultipartHttpServletRequestBuilder makeUpload(MvcRequestSpec request) {
+        // here using the deprecated method - `fileUpload`, instead of new version -
+        // `multipart`, because this provide an ability to use MvcRequester with Spring 4.xx
+        MockMultipartHttpServletRequestBuilder builder = fileUpload(request.getUri());
+        for (Map.Entry<String, MvcRequestFileData> entry : request.getFiles().entrySet()) {
+            MvcRequestFileData data = entry.getValue();
+
+            String contentType = data.getMimeType() == null
+                                 ? null
+                                 : data.getMimeType().toString();
+
+            MockMultipartFile mockMultipartFile = new MockMultipartFile(entry.getKey(),
+                                                                        data.getOriginalFileName(),
+                                                                        contentType,
+                                                                        data.getFileData());
+            builder.file(mockMultipartFile);
+        }
+        return builder;
+    }
+}
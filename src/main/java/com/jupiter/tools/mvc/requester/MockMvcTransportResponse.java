@@ -0,0 +1,71 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+
+import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Response of the {@link MockMvcTransport}
+ *
+ * @author Korovin Anatoliy
+ */
+class MockMvcTransportResponse implements MvcTransportResponse {
+
+    private final MvcResult mvcResult;
+
+    MockMvcTransportResponse(MvcResult mvcResult) {
+        this.mvcResult = mvcResult;
+    }
+
+    @Override
+    public int getStatus() {
+        return mvcResult.getResponse().getStatus();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return mvcResult.getResponse().getHeader(name);
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        return mvcResult.getResponse().getHeaders(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return mvcResult.getResponse().getHeaderNames();
+    }
+
+    @Override
+    public byte[] getContentAsByteArray() {
+        return mvcResult.getResponse().getContentAsByteArray();
+    }
+
+    @Override
+    public <T> Stream<T> streamContent(ObjectReader reader) {
+        return JsonStreams.stream(wrap(() -> reader.readValues(getContentAsByteArray())));
+    }
+
+    @Override
+    public MvcResult getMvcResult() {
+        return mvcResult;
+    }
+
+    @Override
+    public void print() {
+        wrap(() -> {
+            MockMvcResultHandlers.print().handle(mvcResult);
+            return null;
+        });
+    }
+}
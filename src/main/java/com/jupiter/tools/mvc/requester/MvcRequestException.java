@@ -10,4 +10,8 @@ public class MvcRequestException extends RuntimeException {
     public MvcRequestException(Exception e) {
         super(e);
     }
+
+    public MvcRequestException(String message) {
+        super(message);
+    }
 }
@@ -2,30 +2,25 @@ package com.jupiter.tools.mvc.requester;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
+import com.jupiter.tools.mvc.requester.auth.Credentials;
+import com.jupiter.tools.mvc.requester.auth.CredentialsProvider;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
-import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.util.MimeType;
 
 import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
-import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.fileUpload;
 
 /**
  * Created on 03.08.2018.
@@ -36,6 +31,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
  * - set request body <br>
  * - set authorization token <br>
  * - upload files <br>
+ * <p>
+ * The builder is not thread-safe, configure it in a single thread. A configured builder
+ * can make requests from many threads: each request works with its own immutable {@link MvcRequestSpec}.
  *
  * @author Sergey Vdovin
  * @author Korovin Anatoliy
@@ -43,26 +41,48 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 public class MvcRequestPointed {
 
     private final URI uri;
-    private final MockMvc mockMvc;
-    private final Multimap<String, String> params;
-    private final Map<String, MvcRequestFileData> files;
+    private final String uriTemplate;
+    private final MvcTransport transport;
+    private final NameValuePairs params;
+    private Map<String, MvcRequestFileData> files;
     private final ObjectMapper sendJsonMapper;
     private final ObjectMapper receiveJsonMapper;
-    private final Multimap<String, String> headers;
-    private final List<RequestPostProcessor> postProcessors;
+    private final NameValuePairs headers;
+    private List<RequestPostProcessor> postProcessors;
+    private CredentialsProvider credentials;
+    private final MvcSession session;
+    private final Executor asyncExecutor;
+    private final boolean lazy;
+    private final RequestTrace trace;
+    private int warmupRuns;
+    /**
+     * 0 for a single run without the measurement of allocations
+     */
+    private int measuredRuns;
 
-    MvcRequestPointed(MockMvc mockMvc,
+    MvcRequestPointed(MvcTransport transport,
                       URI uri,
+                      String uriTemplate,
                       ObjectMapper sendJsonMapper,
-                      ObjectMapper receiveJsonMapper) {
+                      ObjectMapper receiveJsonMapper,
+                      Executor asyncExecutor,
+                      NameValuePairs defaultHeaders,
+                      boolean lazy,
+                      RequestTrace trace,
+                      CredentialsProvider credentials,
+                      MvcSession session) {
         this.uri = uri;
-        this.mockMvc = mockMvc;
-        this.params = ArrayListMultimap.create();
-        this.files = new HashMap<>();
+        this.uriTemplate = uriTemplate;
+        this.transport = transport;
+        this.params = new NameValuePairs();
         this.sendJsonMapper = sendJsonMapper;
         this.receiveJsonMapper = receiveJsonMapper;
-        this.headers = ArrayListMultimap.create();
-        this.postProcessors = new ArrayList<>();
+        this.headers = NameValuePairs.copyOf(defaultHeaders);
+        this.asyncExecutor = asyncExecutor;
+        this.lazy = lazy;
+        this.trace = trace;
+        this.credentials = credentials;
+        this.session = session;
     }
 
     /**
@@ -74,7 +94,7 @@ public class MvcRequestPointed {
      */
     public MvcRequestPointed withParam(String name, Object... values) {
         for (Object value : values) {
-            this.params.put(name, String.valueOf(value));
+            this.params.add(name, String.valueOf(value));
         }
         return this;
     }
@@ -88,7 +108,7 @@ public class MvcRequestPointed {
      */
     public MvcRequestPointed withHeader(String name, Object... values) {
         for (Object value : values) {
-            this.headers.put(name, String.valueOf(value));
+            this.headers.add(name, String.valueOf(value));
         }
         return this;
     }
@@ -100,7 +120,10 @@ public class MvcRequestPointed {
      * @return MvcRequestPointed
      */
     public MvcRequestPointed withOAuth(String token) {
-        postProcessors.add(new OAuthRequestPostProcessor(token));
+        String authorization = Credentials.bearerAuthorization(token);
+        if (authorization != null) {
+            this.headers.add(HttpHeaders.AUTHORIZATION, authorization);
+        }
         return this;
     }
 
@@ -112,12 +135,44 @@ public class MvcRequestPointed {
      * @return MvcRequestPointed
      */
     public MvcRequestPointed withBasicAuth(String username, String password) {
-        postProcessors.add(httpBasic(username, password));
+        this.headers.add(HttpHeaders.AUTHORIZATION, Credentials.basicAuthorization(username, password));
+        return this;
+    }
+
+    /**
+     * Use the Authorization header from the provider, the header is asked at the start of each request,
+     * it replaces credentials of the {@link MvcRequester} (see {@link MvcRequester#withCredentials}).
+     * The provider is not used when the request already has the Authorization header.
+     *
+     * @param credentials provider of the Authorization header, like {@link Credentials#bearer(String)}
+     * @return MvcRequestPointed
+     */
+    public MvcRequestPointed withCredentials(CredentialsProvider credentials) {
+        this.credentials = credentials;
         return this;
     }
 
     public MvcRequestPointed withCsrf() {
-        postProcessors.add(csrf());
+        addPostProcessor(csrf());
+        return this;
+    }
+
+    /**
+     * Repeat the request to measure its latency and allocations with less noise,
+     * the result keeps the median of measured runs and the response of the last run.
+     * Allocations are counted only in this mode (see {@link MvcRequestResult#expectAllocatedBytesBelow(long)}),
+     * use `withMeasurement(0, 1)` to count them for a single request. Use it only with idempotent requests.
+     *
+     * @param warmupRuns   count of requests before the measurement
+     * @param measuredRuns count of measured requests
+     * @return MvcRequestPointed
+     */
+    public MvcRequestPointed withMeasurement(int warmupRuns, int measuredRuns) {
+        if (warmupRuns < 0 || measuredRuns <= 0) {
+            throw new IllegalArgumentException("Count of warmup runs can't be negative and measured runs must be positive");
+        }
+        this.warmupRuns = warmupRuns;
+        this.measuredRuns = measuredRuns;
         return this;
     }
 
@@ -127,8 +182,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult post() {
-        ResultActions resultActions = wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::post)));
-        return new MvcRequestResult(resultActions, receiveJsonMapper);
+        return perform(HttpMethod.POST, null, null);
     }
 
     /**
@@ -137,9 +191,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult put() {
-        ResultActions resultActions = wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::put)));
-        return new MvcRequestResult(resultActions,
-                                    receiveJsonMapper);
+        return perform(HttpMethod.PUT, null, null);
     }
 
     /**
@@ -156,6 +208,9 @@ public class MvcRequestPointed {
                                       MimeType mimeType,
                                       byte[] fileData) {
 
+        if (files == null) {
+            files = new LinkedHashMap<>();
+        }
         this.files.put(fieldName,
                        new MvcRequestFileData(originalFileName, mimeType, fileData));
 
@@ -170,8 +225,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult upload() {
-        ResultActions resultActions = wrap(() -> this.mockMvc.perform(makeUpload(null)));
-        return new MvcRequestResult(resultActions, receiveJsonMapper);
+        return performUpload(null);
     }
 
     /**
@@ -183,8 +237,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult uploadWithAuth(String token) {
-        ResultActions resultActions = wrap(() -> this.mockMvc.perform(makeUpload(token)));
-        return new MvcRequestResult(resultActions, receiveJsonMapper);
+        return performUpload(token);
     }
 
     /**
@@ -194,15 +247,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult post(Object content) {
-
-        String jsonContent = wrap(() -> sendJsonMapper.writeValueAsString(content));
-
-        ResultActions resultActions =
-                wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::post)
-                                                   .contentType(MediaType.APPLICATION_JSON)
-                                                   .content(jsonContent)));
-
-        return new MvcRequestResult(resultActions, receiveJsonMapper);
+        return perform(HttpMethod.POST, MediaType.APPLICATION_JSON, toJson(content));
     }
 
     /**
@@ -212,11 +257,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult put(Object content) {
-        return new MvcRequestResult(
-                wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::put)
-                                                   .contentType(MediaType.APPLICATION_JSON)
-                                                   .content(sendJsonMapper.writeValueAsString(content)))),
-                receiveJsonMapper);
+        return perform(HttpMethod.PUT, MediaType.APPLICATION_JSON, toJson(content));
     }
 
     /**
@@ -225,10 +266,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult delete() {
-        return new MvcRequestResult(
-                wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::delete)
-                                                   .contentType(MediaType.APPLICATION_JSON))),
-                receiveJsonMapper);
+        return perform(HttpMethod.DELETE, MediaType.APPLICATION_JSON, null);
     }
 
     /**
@@ -238,11 +276,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult delete(Object content) {
-        return new MvcRequestResult(
-                wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::delete)
-                                                   .contentType(MediaType.APPLICATION_JSON)
-                                                   .content(sendJsonMapper.writeValueAsString(content)))),
-                receiveJsonMapper);
+        return perform(HttpMethod.DELETE, MediaType.APPLICATION_JSON, toJson(content));
     }
 
     /**
@@ -251,8 +285,7 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult get() {
-        return new MvcRequestResult(wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::get))),
-                                    receiveJsonMapper);
+        return perform(HttpMethod.GET, null, null);
     }
 
     /**
@@ -262,71 +295,280 @@ public class MvcRequestPointed {
      * @return MvcRequestResult
      */
     public MvcRequestResult get(Object content) {
-        return new MvcRequestResult(
-                wrap(() -> mockMvc.perform(make(MockMvcRequestBuilders::get)
-                                                   .contentType(MediaType.APPLICATION_JSON)
-                                                   .content(sendJsonMapper.writeValueAsString(content)))),
-                receiveJsonMapper);
+        return perform(HttpMethod.GET, MediaType.APPLICATION_JSON, toJson(content));
+    }
+
+    /**
+     * Make a request with the raw body, the body is sent as is without the JSON serialization
+     *
+     * @param method      HTTP method of the request
+     * @param contentType type of the body, null for requests without the body
+     * @param content     body of the request or null
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult perform(HttpMethod method, MediaType contentType, byte[] content) {
+        return executeOrDefer(spec(method, contentType, content));
     }
 
-    private MockHttpServletRequestBuilder make(Function<URI, MockHttpServletRequestBuilder> builderSupplier) {
+    /**
+     * Make a GET request asynchronously.
+     * <p>
+     * Asynchronous requests are running in the executor of the {@link MvcRequester},
+     * the request is captured at the call, so this builder can be changed and reused right after it.
+     *
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> getAsync() {
+        return async(spec(HttpMethod.GET, null, null));
+    }
 
-        MockHttpServletRequestBuilder builder = builderSupplier.apply(uri);
-        return prepareRequest(builder);
+    /**
+     * Make a GET request with the body asynchronously
+     *
+     * @param content object which will send as JSON body in the request
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> getAsync(Object content) {
+        return async(spec(HttpMethod.GET, MediaType.APPLICATION_JSON, toJson(content)));
     }
 
     /**
-     * set request parameters, headers and postProcessors
+     * Make a POST request without the body asynchronously
      *
-     * @param builder request
-     */
-    private MockHttpServletRequestBuilder prepareRequest(MockHttpServletRequestBuilder builder) {
-        if (!params.isEmpty()) {
-            params.asMap().forEach(
-                    (key, values) ->
-                            values.forEach(value ->
-                                                   builder.param(key, value)));
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> postAsync() {
+        return async(spec(HttpMethod.POST, null, null));
+    }
+
+    /**
+     * Make a POST request with the selected body asynchronously
+     *
+     * @param content request body, which convert in JSON before send
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> postAsync(Object content) {
+        return async(spec(HttpMethod.POST, MediaType.APPLICATION_JSON, toJson(content)));
+    }
+
+    /**
+     * Make a PUT request without the body asynchronously
+     *
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> putAsync() {
+        return async(spec(HttpMethod.PUT, null, null));
+    }
+
+    /**
+     * Make a PUT request with the body asynchronously
+     *
+     * @param content request body, which convert in JSON before send
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> putAsync(Object content) {
+        return async(spec(HttpMethod.PUT, MediaType.APPLICATION_JSON, toJson(content)));
+    }
+
+    /**
+     * Make a DELETE request without the body asynchronously
+     *
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> deleteAsync() {
+        return async(spec(HttpMethod.DELETE, MediaType.APPLICATION_JSON, null));
+    }
+
+    /**
+     * Make a DELETE request with json body asynchronously
+     *
+     * @param content object which will send as JSON body in the request
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> deleteAsync(Object content) {
+        return async(spec(HttpMethod.DELETE, MediaType.APPLICATION_JSON, toJson(content)));
+    }
+
+    /**
+     * Make a file upload asynchronously
+     *
+     * @return future of the MvcRequestResult
+     */
+    public CompletableFuture<MvcRequestResult> uploadAsync() {
+        return async(uploadSpec(null));
+    }
+
+    /**
+     * Return a view of this request which makes invocations in the form of the Reactor {@code Mono},
+     * requires the reactor-core in the classpath.
+     *
+     * @return ReactiveMvcRequestPointed
+     */
+    public ReactiveMvcRequestPointed reactive() {
+        return new ReactiveMvcRequestPointed(this, asyncExecutor);
+    }
+
+    /**
+     * Run the request in the async executor, the request and counts of runs
+     * are captured in the calling thread
+     */
+    private CompletableFuture<MvcRequestResult> async(MvcRequestSpec request) {
+        int warmup = warmupRuns;
+        int measured = measuredRuns;
+        return CompletableFuture.supplyAsync(() -> execute(request, warmup, measured), asyncExecutor);
+    }
+
+    private MvcRequestResult executeOrDefer(MvcRequestSpec request) {
+        if (!lazy) {
+            return execute(request, warmupRuns, measuredRuns);
+        }
+        int warmup = warmupRuns;
+        int measured = measuredRuns;
+        return MvcRequestResult.pending(() -> execute(request, warmup, measured), receiveJsonMapper, trace);
+    }
+
+    private void addPostProcessor(RequestPostProcessor postProcessor) {
+        if (postProcessors == null) {
+            postProcessors = new ArrayList<>(2);
+        }
+        postProcessors.add(postProcessor);
+    }
+
+    private MvcRequestSpec spec(HttpMethod method, MediaType contentType, byte[] content) {
+        return new MvcRequestSpec(method,
+                                  uri,
+                                  uriTemplate,
+                                  params,
+                                  authorized(headers),
+                                  withSession(postProcessors),
+                                  null,
+                                  contentType,
+                                  content);
+    }
+
+    /**
+     * The state of the session is applied by a post-processor of the request itself,
+     * so decorators of the transport (like the response cache) see that the request has a session
+     */
+    private List<RequestPostProcessor> withSession(List<RequestPostProcessor> requestPostProcessors) {
+        if (session == null) {
+            return requestPostProcessors;
+        }
+        List<RequestPostProcessor> extended = requestPostProcessors == null
+                                              ? new ArrayList<>(1)
+                                              : new ArrayList<>(requestPostProcessors);
+        extended.add(session.getPostProcessor());
+        return extended;
+    }
+
+    /**
+     * Add the header of the credentials provider, the builder keeps its own headers unchanged.
+     * The explicit Authorization header of the request (withOAuth, withBasicAuth or a default header)
+     * is sent instead of the provider, so the request never has two Authorization headers.
+     */
+    private NameValuePairs authorized(NameValuePairs requestHeaders) {
+        if (credentials == null || requestHeaders.containsIgnoreCase(HttpHeaders.AUTHORIZATION)) {
+            return requestHeaders;
         }
-        if (!headers.isEmpty()) {
-            headers.asMap().forEach(
-                    (key, values) ->
-                            values.forEach(value ->
-                                                   builder.header(key, value)));
+        String authorization = credentials.getAuthorization();
+        if (authorization == null) {
+            return requestHeaders;
         }
-        if (!postProcessors.isEmpty()) {
-            postProcessors.forEach(builder::with);
+        NameValuePairs authorizedHeaders = NameValuePairs.copyOf(requestHeaders);
+        authorizedHeaders.add(HttpHeaders.AUTHORIZATION, authorization);
+        return authorizedHeaders;
+    }
+
+    private byte[] toJson(Object content) {
+        long start = System.nanoTime();
+        byte[] json = wrap(() -> sendJsonMapper.writeValueAsBytes(content));
+        if (trace != null) {
+            trace.serialized(uriTemplate, start, System.nanoTime());
         }
-        return builder;
+        return json;
     }
 
     /**
      * Make a POST request to upload a file
      *
      * @param token OAuth token
-     * @return MockHttpServletRequestBuilder
-     */
-    private MockHttpServletRequestBuilder makeUpload(String token) {
-        // here using the deprecated method - `fileUpload`, instead of new version -
-        // `multipart`, because this provide an ability to use MvcRequester with Spring 4.xx
-        MockMultipartHttpServletRequestBuilder builder = fileUpload(uri);
-        if (isNotBlank(token)) {
-            builder.header("Authorization", String.format("Bearer %s", token));
-        }
-        for (Map.Entry<String, MvcRequestFileData> entry : this.files.entrySet()) {
-            MvcRequestFileData data = entry.getValue();
-
-            String contentType = data.getMimeType() == null
-                                 ? null
-                                 : data.getMimeType().toString();
-
-            MockMultipartFile mockMultipartFile = new MockMultipartFile(entry.getKey(),
-                                                                        data.getOriginalFileName(),
-                                                                        contentType,
-                                                                        data.getFileData());
-            builder.file(mockMultipartFile);
+     * @return MvcRequestResult
+     */
+    private MvcRequestResult performUpload(String token) {
+        return executeOrDefer(uploadSpec(token));
+    }
+
+    private MvcRequestSpec uploadSpec(String token) {
+        NameValuePairs uploadHeaders = headers;
+        String authorization = Credentials.bearerAuthorization(token);
+        if (authorization != null) {
+            uploadHeaders = NameValuePairs.copyOf(headers);
+            uploadHeaders.add(HttpHeaders.AUTHORIZATION, authorization);
         }
-        return prepareRequest(builder);
+        return new MvcRequestSpec(HttpMethod.POST,
+                                  uri,
+                                  uriTemplate,
+                                  params,
+                                  authorized(uploadHeaders),
+                                  withSession(postProcessors),
+                                  files == null ? Collections.emptyMap() : files,
+                                  null,
+                                  null);
     }
 
+    private MvcRequestResult execute(MvcRequestSpec request, int warmupRuns, int measuredRuns) {
+        return wrap(() -> {
+            if (measuredRuns == 0) {
+                // nobody asked for the measurement, only the latency is taken
+                long injectedBefore = FaultInjection.currentThreadInjectedNanos();
+                long start = System.nanoTime();
+                MvcTransportResponse response = transport.perform(request);
+                long end = System.nanoTime();
+                trace(request, response, start, end);
+                return new MvcRequestResult(response,
+                                            receiveJsonMapper,
+                                            new RequestMeasurement(request.getMethod().name(),
+                                                                   uriTemplate,
+                                                                   end - start,
+                                                                   FaultInjection.currentThreadInjectedNanos() - injectedBefore),
+                                            trace);
+            }
+            for (int i = 0; i < warmupRuns; i++) {
+                long start = System.nanoTime();
+                MvcTransportResponse warmup = transport.perform(request);
+                trace(request, warmup, start, System.nanoTime());
+            }
+            long[] latencies = new long[measuredRuns];
+            long[] allocations = new long[measuredRuns];
+            long[] injected = new long[measuredRuns];
+            MvcTransportResponse response = null;
+            for (int i = 0; i < measuredRuns; i++) {
+                long allocatedBefore = AllocationCounter.currentThreadAllocatedBytes();
+                long injectedBefore = FaultInjection.currentThreadInjectedNanos();
+                long start = System.nanoTime();
+                response = transport.perform(request);
+                long end = System.nanoTime();
+                long allocatedAfter = AllocationCounter.currentThreadAllocatedBytes();
+                latencies[i] = end - start;
+                // -1 of the counter means the JVM or the thread doesn't count allocations
+                allocations[i] = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+                injected[i] = FaultInjection.currentThreadInjectedNanos() - injectedBefore;
+                trace(request, response, start, end);
+            }
+            return new MvcRequestResult(response,
+                                        receiveJsonMapper,
+                                        new RequestMeasurement(request.getMethod().name(),
+                                                               uriTemplate,
+                                                               latencies,
+                                                               allocations,
+                                                               injected),
+                                        trace);
+        });
+    }
 
+    private void trace(MvcRequestSpec request, MvcTransportResponse response, long startNanos, long endNanos) {
+        if (trace != null) {
+            trace.dispatched(request, uriTemplate, response.getStatus(), startNanos, endNanos);
+        }
+    }
 }
@@ -1,40 +1,97 @@
 package com.jupiter.tools.mvc.requester;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.json.JsonCompareOptions;
+import com.jupiter.tools.mvc.requester.json.JsonComparator;
+import com.jupiter.tools.mvc.requester.json.JsonDiff;
+import com.jupiter.tools.mvc.requester.json.JsonSchemas;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
-import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.ResultMatcher;
 
 import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
 
 /**
  * Created on 03.08.2018.
  * <p>
  * Checks or returns the result of request.
+ * <p>
+ * The result of a lazy requester (see {@link MvcRequester#withLazyExecution()}) is pending:
+ * its request is made only on the first expectation or return of a value.
  *
  * @author Sergey Vdovin
  * @author Korovin Anatoliy
  */
 public class MvcRequestResult {
 
-    private final ResultActions resultActions;
+    private final MvcTransportResponse response;
     private final ObjectMapper jsonMapper;
+    private final RequestMeasurement measurement;
+    /**
+     * request which is made on the first use of a lazy result, null when the request is already made
+     */
+    private final PendingRequest pending;
+    /**
+     * trace of the deserialization, null when the requester doesn't trace requests
+     */
+    private final RequestTrace trace;
 
-    private Charset charset = StandardCharsets.UTF_8;
+    private volatile Charset charset;
+
+    MvcRequestResult(MvcTransportResponse response, ObjectMapper jsonMapper, RequestMeasurement measurement) {
+        this(response, jsonMapper, measurement, null);
+    }
+
+    MvcRequestResult(MvcTransportResponse response,
+                     ObjectMapper jsonMapper,
+                     RequestMeasurement measurement,
+                     RequestTrace trace) {
+        this(response, jsonMapper, measurement, StandardCharsets.UTF_8, null, trace);
+    }
 
-    MvcRequestResult(ResultActions resultActions, ObjectMapper jsonMapper) {
-        this.resultActions = resultActions;
+    private MvcRequestResult(MvcTransportResponse response,
+                             ObjectMapper jsonMapper,
+                             RequestMeasurement measurement,
+                             Charset charset,
+                             PendingRequest pending,
+                             RequestTrace trace) {
+        this.response = response;
         this.jsonMapper = jsonMapper;
+        this.measurement = measurement;
+        this.charset = charset;
+        this.pending = pending;
+        this.trace = trace;
+    }
+
+    /**
+     * Make a lazy result, the request is made on the first expectation or return of a value
+     *
+     * @param request    request which makes the executed result
+     * @param jsonMapper mapper to read JSON from the response
+     * @param trace      trace of the deserialization or null
+     * @return MvcRequestResult
+     */
+    static MvcRequestResult pending(Supplier<MvcRequestResult> request, ObjectMapper jsonMapper, RequestTrace trace) {
+        return new MvcRequestResult(null, jsonMapper, null, StandardCharsets.UTF_8, new PendingRequest(request), trace);
     }
 
     /**
@@ -45,8 +102,8 @@ public class MvcRequestResult {
      */
     public MvcRequestResult doExpect(ResultMatcher matcher) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            resultActions.andExpect(matcher);
+            response().print();
+            matcher.match(response().getMvcResult());
             return this;
         });
     }
@@ -59,8 +116,8 @@ public class MvcRequestResult {
      */
     public MvcRequestResult expectStatus(HttpStatus status) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            resultActions.andExpect(status().is(status.value()));
+            response().print();
+            assertEquals("Status", status.value(), response().getStatus());
             return this;
         });
     }
@@ -74,12 +131,114 @@ public class MvcRequestResult {
      */
     public MvcRequestResult expectHeader(String name, String value) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            resultActions.andExpect(header().string(name, value));
+            response().print();
+            assertEquals("Response header '" + name + "'", value, response().getHeader(name));
+            return this;
+        });
+    }
+
+    /**
+     * Check that the request was faster than the budget,
+     * the latency is measured around the transport call (see {@link #returnMeasurement()}).
+     *
+     * @param budget maximum expected latency
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult expectLatencyBelow(Duration budget) {
+        return wrap(() -> {
+            response().print();
+            assertTrue("Latency " + measurement().getLatency().toNanos() / 1_000_000.0 + " ms of " +
+                       measurement().getRuns() + " run(s) exceeds the budget " + budget.toNanos() / 1_000_000.0 + " ms",
+                       measurement().getLatency().compareTo(budget) < 0);
+            return this;
+        });
+    }
+
+    /**
+     * Check that the request allocated less memory than the budget,
+     * only allocations of the thread which made the request are counted (see {@link #returnMeasurement()}).
+     * Allocations are counted by {@link MvcRequestPointed#withMeasurement(int, int)},
+     * unknown allocations fail the expectation.
+     *
+     * @param budget maximum expected count of allocated bytes
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult expectAllocatedBytesBelow(long budget) {
+        return wrap(() -> {
+            response().print();
+            assertTrue("Allocated bytes are unknown: the request must be measured by withMeasurement(warmupRuns, measuredRuns) " +
+                       "in a thread which counts allocations (not a virtual thread)",
+                       measurement().getAllocatedBytes() >= 0);
+            assertTrue("Allocated " + measurement().getAllocatedBytes() + " bytes of " +
+                       measurement().getRuns() + " run(s) exceeds the budget " + budget + " bytes",
+                       measurement().getAllocatedBytes() < budget);
             return this;
         });
     }
 
+    /**
+     * Compare the JSON response with the expected document exactly (see {@link #expectJsonEquals(Object, JsonCompareOptions)})
+     *
+     * @param expected expected document
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult expectJsonEquals(Object expected) {
+        return expectJsonEquals(expected, JsonCompareOptions.strict());
+    }
+
+    /**
+     * Compare the JSON response with the expected document structurally,
+     * a failure describes differences by paths, like `/items/3/name: expected "a" but was "b"`.
+     * Arrays which order is ignored are matched by hashes of elements,
+     * so large arrays are compared without a quadratic count of comparisons.
+     *
+     * @param expected expected document: a JSON text (String or byte[]), a Path to the JSON file,
+     *                 a JsonNode or an object which is converted to JSON
+     * @param options  options of the comparison, like ignoring of the array order or paths
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult expectJsonEquals(Object expected, JsonCompareOptions options) {
+        return wrap(() -> {
+            response().print();
+            JsonNode actualTree = jsonMapper.readTree(response().getContentAsByteArray());
+            JsonDiff diff = JsonComparator.compare(readExpectedJson(expected), actualTree, options);
+            assertTrue("JSON response is different from the expected document, " + diff, diff.isEmpty());
+            return this;
+        });
+    }
+
+    /**
+     * Validate the JSON response by the schema, schemas are loaded and compiled once
+     * and shared by all tests of the JVM (see {@link JsonSchemas}).
+     * A failure lists all violations of the schema.
+     *
+     * @param schemaLocation path of the schema in the classpath (like `schemas/order.json`),
+     *                       or an URI with the `classpath:`, `file:` or `http:` scheme
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult expectMatchesSchema(String schemaLocation) {
+        return wrap(() -> {
+            response().print();
+            JsonNode document = jsonMapper.readTree(response().getContentAsByteArray());
+            List<String> violations = JsonSchemas.validate(schemaLocation, document);
+            assertTrue("JSON response doesn't match the schema " + schemaLocation + ", " + violations.size() +
+                       " violation(s):" + System.lineSeparator() + "  " +
+                       String.join(System.lineSeparator() + "  ", violations),
+                       violations.isEmpty());
+            return this;
+        });
+    }
+
+    /**
+     * Return the latency and allocations of the request, when the request was repeated
+     * (see {@link MvcRequestPointed#withMeasurement(int, int)}) it contains median values.
+     *
+     * @return RequestMeasurement
+     */
+    public RequestMeasurement returnMeasurement() {
+        return measurement();
+    }
+
     /**
      * Convert the response from JSON to expected object type.
      * You can use it to return a value which parametrized by generic type.
@@ -90,9 +249,12 @@ public class MvcRequestResult {
      */
     public <ResultType> ResultType doReturn(TypeReference<ResultType> typeReference) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            String body = getResponseBody(resultActions);
-            return isBlank(body) ? null : jsonMapper.readValue(body, typeReference);
+            response().print();
+            String body = getResponseBody();
+            long start = System.nanoTime();
+            ResultType value = isBlank(body) ? null : jsonMapper.readValue(body, typeReference);
+            traceDeserialization(typeReference.getType().getTypeName(), start);
+            return value;
         });
     }
 
@@ -105,9 +267,12 @@ public class MvcRequestResult {
      */
     public <ResultType> ResultType returnAs(Class<ResultType> returnType) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            String body = getResponseBody(resultActions);
-            return isBlank(body) ? null : jsonMapper.readerFor(returnType).readValue(body);
+            response().print();
+            String body = getResponseBody();
+            long start = System.nanoTime();
+            ResultType value = isBlank(body) ? null : jsonMapper.readerFor(returnType).readValue(body);
+            traceDeserialization(returnType.getName(), start);
+            return value;
         });
     }
 
@@ -120,22 +285,148 @@ public class MvcRequestResult {
      */
     public <ResultType> ResultType returnAsPrimitive(Class<ResultType> returnType) {
         return wrap(() -> {
-            resultActions.andDo(print());
-            String body = getResponseBody(resultActions);
+            response().print();
+            String body = getResponseBody();
             return isBlank(body) ? null : (ResultType) PrimitiveConverter.convertToPrimitive(body, returnType);
         });
     }
 
+    /**
+     * Return a single value from the JSON response by the JSON pointer,
+     * the body is parsed in the streaming mode and only the selected value is converted.
+     *
+     * @param jsonPointer  JSON pointer to the value, like `/items/0/id`
+     * @param returnType   expected type of the value
+     * @param <ResultType> expected type of the value
+     * @return value or null if the response doesn't contain it
+     */
+    public <ResultType> ResultType returnValueAt(String jsonPointer, Class<ResultType> returnType) {
+        return wrap(() -> {
+            response().print();
+            byte[] body = response().getContentAsByteArray();
+            if (body.length == 0) {
+                return null;
+            }
+            try (JsonParser parser = new FilteringParserDelegate(jsonMapper.getFactory().createParser(body),
+                                                                 new JsonPointerBasedFilter(jsonPointer),
+                                                                 false,
+                                                                 false)) {
+                long start = System.nanoTime();
+                ResultType value = parser.nextToken() == null
+                                   ? null
+                                   : jsonMapper.readValue(parser, returnType);
+                traceDeserialization(returnType.getName(), start);
+                return value;
+            }
+        });
+    }
+
+    /**
+     * Return elements of the JSON array from the response body one by one.
+     * When the transport supports streaming (like the WebTestClient), the body is
+     * read directly from the received buffers without collecting it in memory.
+     * The returned stream should be closed after use.
+     *
+     * @param elementType  type of array elements
+     * @param <ResultType> type of array elements
+     * @return Stream of elements
+     */
+    public <ResultType> Stream<ResultType> returnAsStream(Class<ResultType> elementType) {
+        return response().streamContent(jsonMapper.readerFor(elementType));
+    }
+
+    /**
+     * Return timings of phases of the request in the server (filters, handler, reading and writing of bodies),
+     * they are measured when the MockMvc is instrumented (see {@link MvcRequester#instrumented}).
+     *
+     * @return timings of the request or null if the MockMvc is not instrumented
+     * or the response is detached from the MockMvc result
+     */
+    public ServerTimings returnServerTimings() {
+        Object timings = response().getMvcResult().getRequest().getAttribute(ServerTimings.ATTRIBUTE);
+        return timings instanceof ServerTimings ? (ServerTimings) timings : null;
+    }
+
+    /**
+     * Return the hex encoded SHA-256 digest of the response body,
+     * to compare large bodies without keeping them.
+     *
+     * @return digest of the body
+     */
+    public String returnBodyDigest() {
+        return wrap(response()::getContentDigest);
+    }
+
+    /**
+     * @return HTTP status code of the response
+     */
+    public int returnStatus() {
+        return response().getStatus();
+    }
+
+    /**
+     * @return raw bytes of the response body
+     */
+    public byte[] returnBodyAsBytes() {
+        return response().getContentAsByteArray();
+    }
+
+    /**
+     * Make a copy of this result which keeps only the status, headers and the body
+     * and doesn't reference the MockMvc request, response, handler and model,
+     * so the heavy result of the transport can be collected by GC.
+     * Use it to retain results in long load loops and batches.
+     *
+     * @return detached MvcRequestResult
+     */
+    public MvcRequestResult detach() {
+        return wrap(() -> new MvcRequestResult(DetachedTransportResponse.detach(response(), true),
+                                               jsonMapper,
+                                               measurement(),
+                                               charset,
+                                               null,
+                                               trace));
+    }
+
+    /**
+     * Make a detached copy of this result (see {@link #detach()}) which keeps
+     * only the SHA-256 digest of the body instead of the body itself,
+     * methods which read the body fail for this copy.
+     *
+     * @return detached MvcRequestResult
+     */
+    public MvcRequestResult detachWithDigest() {
+        return wrap(() -> new MvcRequestResult(DetachedTransportResponse.detach(response(), false),
+                                               jsonMapper,
+                                               measurement(),
+                                               charset,
+                                               null,
+                                               trace));
+    }
+
     /**
      * Set charset for response converting
      * @param charset expected charset for response
      * @return MvcRequestResult instance
+     * @deprecated changes the charset of the result which can be shared between threads,
+     * use {@link #withCharset(Charset)}
      */
+    @Deprecated
     public MvcRequestResult charset(Charset charset){
         this.charset = charset;
         return this;
     }
 
+    /**
+     * Copy of the result to convert the response with the selected charset,
+     * the original result is not changed
+     * @param charset expected charset for response
+     * @return copy of this MvcRequestResult with the selected charset
+     */
+    public MvcRequestResult withCharset(Charset charset){
+        return new MvcRequestResult(response, jsonMapper, measurement, charset, pending, trace);
+    }
+
     /**
      * Return a plain received response of the REST-API invocation
      *
@@ -143,15 +434,97 @@ public class MvcRequestResult {
      */
     public MockHttpServletResponse returnResponse() {
         return wrap(() -> {
-            resultActions.andDo(print());
-            return resultActions.andReturn().getResponse();
+            response().print();
+            return response().getMvcResult().getResponse();
         });
     }
 
-    private String getResponseBody(ResultActions resultActions) {
-        byte[] bytes = resultActions.andReturn()
-                                    .getResponse()
-                                    .getContentAsByteArray();
+    private String getResponseBody() {
+        byte[] bytes = response().getContentAsByteArray();
         return new String(bytes, this.charset);
     }
+
+    /**
+     * Make the request of a lazy result now (see {@link MvcRequester#withLazyExecution()}),
+     * it is useful for requests which results are not read, like a POST before a GET.
+     * A result of the eager request is returned as is.
+     *
+     * @return MvcRequestResult
+     */
+    public MvcRequestResult dispatch() {
+        if (pending != null) {
+            pending.get();
+        }
+        return this;
+    }
+
+    /**
+     * @return true when this is a lazy result and its request is not made yet
+     */
+    public boolean isPending() {
+        return pending != null && !pending.isDone();
+    }
+
+    private JsonNode readExpectedJson(Object expected) throws IOException {
+        if (expected instanceof JsonNode) {
+            return (JsonNode) expected;
+        }
+        if (expected instanceof byte[]) {
+            return jsonMapper.readTree((byte[]) expected);
+        }
+        if (expected instanceof Path) {
+            return jsonMapper.readTree(Files.readAllBytes((Path) expected));
+        }
+        if (expected instanceof CharSequence) {
+            return jsonMapper.readTree(expected.toString());
+        }
+        return jsonMapper.valueToTree(expected);
+    }
+
+    private void traceDeserialization(String type, long startNanos) {
+        if (trace != null) {
+            trace.deserialized(type, startNanos, System.nanoTime());
+        }
+    }
+
+    private MvcTransportResponse response() {
+        return pending == null ? response : pending.get().response;
+    }
+
+    private RequestMeasurement measurement() {
+        return pending == null ? measurement : pending.get().measurement;
+    }
+
+    /**
+     * Request of a lazy result, it is made once by the first of concurrent callers
+     */
+    private static final class PendingRequest {
+
+        private Supplier<MvcRequestResult> request;
+        private volatile MvcRequestResult result;
+
+        private PendingRequest(Supplier<MvcRequestResult> request) {
+            this.request = request;
+        }
+
+        private MvcRequestResult get() {
+            MvcRequestResult executed = result;
+            if (executed == null) {
+                synchronized (this) {
+                    executed = result;
+                    if (executed == null) {
+                        executed = request.get();
+                        result = executed;
+                        // the builder state captured by the request is not needed anymore
+                        request = null;
+                    }
+                }
+            }
+            return executed;
+        }
+
+        private boolean isDone() {
+            return result != null;
+        }
+    }
 }
@@ -0,0 +1,167 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Description of the request which was built by the {@link MvcRequestPointed},
+ * it is passed to the {@link MvcTransport} to make an invocation.
+ * The description is immutable (except the body array), later changes of the builder don't affect it.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class MvcRequestSpec {
+
+    private final HttpMethod method;
+    private final URI uri;
+    private final String uriTemplate;
+    private final NameValuePairs params;
+    private final NameValuePairs headers;
+    private final List<RequestPostProcessor> postProcessors;
+    private final Map<String, MvcRequestFileData> files;
+    private final MediaType contentType;
+    private final byte[] content;
+
+    MvcRequestSpec(HttpMethod method,
+                   URI uri,
+                   String uriTemplate,
+                   NameValuePairs params,
+                   NameValuePairs headers,
+                   List<RequestPostProcessor> postProcessors,
+                   Map<String, MvcRequestFileData> files,
+                   MediaType contentType,
+                   byte[] content) {
+        this.method = method;
+        this.uri = uri;
+        this.uriTemplate = uriTemplate;
+        this.params = params.snapshot();
+        this.headers = headers.snapshot();
+        this.postProcessors = postProcessors == null
+                              ? Collections.emptyList()
+                              : Collections.unmodifiableList(new ArrayList<>(postProcessors));
+        this.files = files == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(files));
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * @return template of the URI without the query string, like `/orders/{id}`,
+     * requests of the same endpoint with different variables have the same template
+     */
+    public String getUriTemplate() {
+        if (uriTemplate == null) {
+            return uri.getPath();
+        }
+        int query = uriTemplate.indexOf('?');
+        return query < 0 ? uriTemplate : uriTemplate.substring(0, query);
+    }
+
+    /**
+     * @return URI of the request with all request parameters in the query string
+     */
+    public URI getUriWithQueryParams() {
+        if (params.isEmpty()) {
+            return uri;
+        }
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(uri);
+        params.forEach((name, value) ->
+                               builder.queryParam(UriUtils.encodeQueryParam(name, StandardCharsets.UTF_8),
+                                                  UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8)));
+        return builder.build(true).toUri();
+    }
+
+    /**
+     * Iterate over all request parameters in the order of adding
+     *
+     * @param consumer receives the name and the value of each parameter
+     */
+    public void forEachParam(BiConsumer<String, String> consumer) {
+        params.forEach(consumer);
+    }
+
+    /**
+     * Iterate over all request headers in the order of adding
+     *
+     * @param consumer receives the name and the value of each header
+     */
+    public void forEachHeader(BiConsumer<String, String> consumer) {
+        headers.forEach(consumer);
+    }
+
+    /**
+     * @return MockMvc post-processors of the request, transports which don't work with
+     * the MockHttpServletRequest apply them to a stub request and use only the resulting headers
+     */
+    public List<RequestPostProcessor> getPostProcessors() {
+        return postProcessors;
+    }
+
+    /**
+     * Apply post-processors to a stub servlet request and iterate over headers which they set,
+     * it is used by transports which don't work with the MockHttpServletRequest.
+     *
+     * @param consumer receives the name and the value of each header
+     */
+    public void forEachPostProcessedHeader(BiConsumer<String, String> consumer) {
+        if (postProcessors.isEmpty()) {
+            return;
+        }
+        MockHttpServletRequest stub = new MockHttpServletRequest(method.name(), uri.getPath());
+        for (RequestPostProcessor postProcessor : postProcessors) {
+            stub = postProcessor.postProcessRequest(stub);
+        }
+        for (String name : Collections.list(stub.getHeaderNames())) {
+            for (String value : Collections.list(stub.getHeaders(name))) {
+                consumer.accept(name, value);
+            }
+        }
+    }
+
+    /**
+     * @return multipart files of the request, null if this is not a multipart request
+     */
+    public Map<String, MvcRequestFileData> getFiles() {
+        return files;
+    }
+
+    public boolean isMultipart() {
+        return files != null;
+    }
+
+    /**
+     * @return content type of the body, or null if it was not set
+     */
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return body of the request, or null if the request hasn't a body
+     */
+    public byte[] getContent() {
+        return content;
+    }
+}
@@ -1,10 +1,17 @@
 package com.jupiter.tools.mvc.requester;
 
 
+import java.net.URI;
+import java.util.concurrent.Executor;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.auth.CredentialsProvider;
+import com.jupiter.tools.mvc.requester.openapi.OpenApiContract;
 import com.jupiter.tools.mvc.requester.url.UriBuilder;
 
+import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.ConfigurableMockMvcBuilder;
 
 
 /**
@@ -12,6 +19,13 @@ import org.springframework.test.web.servlet.MockMvc;
  * <p>
  * Wrapper for MockMvc to send request and assert response
  * in more intuitive way.
+ * <p>
+ * Requests are made by the {@link MvcTransport}, so the same API
+ * works with the {@link WebTestClient} or any custom transport.
+ * <p>
+ * The requester is immutable and thread-safe: it can be shared by tests which run in parallel,
+ * methods `withX` return a configured copy. Each call of {@link #to(String, Object...)}
+ * returns a new {@link MvcRequestPointed} builder which is not shared with other threads.
  *
  * @author Sergey Vdovin
  * @author Korovin Anatoliy
@@ -20,26 +34,58 @@ public class MvcRequester {
 
     private final ObjectMapper sendJsonMapper;
     private final ObjectMapper receiveJsonMapper;
-    private final MockMvc mockMvc;
+    private final MvcTransport transport;
     private final UriBuilder uriBuilder;
+    private final Executor asyncExecutor;
+    private final NameValuePairs defaultHeaders;
+    private final boolean lazy;
+    private final RequestTrace trace;
+    private final CredentialsProvider credentials;
+    private final MvcSession session;
 
-    private MvcRequester(MockMvc mockMvc) {
+    private MvcRequester(MvcTransport transport) {
 
-        this.mockMvc = mockMvc;
-        this.sendJsonMapper = new ObjectMapper();
-        this.receiveJsonMapper = new ObjectMapper();
-        this.uriBuilder = new UriBuilder();
+        this(transport, new ObjectMapper(), new ObjectMapper(), new UriBuilder());
     }
 
-    private MvcRequester(MockMvc mockMvc,
+    private MvcRequester(MvcTransport transport,
                          ObjectMapper sendJsonMapper,
                          ObjectMapper receiveJsonMapper,
                          UriBuilder uriBuilder) {
 
-        this.mockMvc = mockMvc;
+        this(transport,
+             sendJsonMapper,
+             receiveJsonMapper,
+             uriBuilder,
+             AsyncExecutors.defaultExecutor(),
+             NameValuePairs.EMPTY,
+             false,
+             null,
+             null,
+             null);
+    }
+
+    private MvcRequester(MvcTransport transport,
+                         ObjectMapper sendJsonMapper,
+                         ObjectMapper receiveJsonMapper,
+                         UriBuilder uriBuilder,
+                         Executor asyncExecutor,
+                         NameValuePairs defaultHeaders,
+                         boolean lazy,
+                         RequestTrace trace,
+                         CredentialsProvider credentials,
+                         MvcSession session) {
+
+        this.transport = transport;
         this.sendJsonMapper = sendJsonMapper;
         this.receiveJsonMapper = receiveJsonMapper;
         this.uriBuilder = uriBuilder;
+        this.asyncExecutor = asyncExecutor;
+        this.defaultHeaders = defaultHeaders;
+        this.lazy = lazy;
+        this.trace = trace;
+        this.credentials = credentials;
+        this.session = session;
     }
 
     /**
@@ -49,7 +95,19 @@ public class MvcRequester {
      * @return MvcRequester
      */
     public static MvcRequester on(MockMvc mockMvc) {
-        return new MvcRequester(mockMvc);
+        return new MvcRequester(new MockMvcTransport(mockMvc));
+    }
+
+    /**
+     * Static factory method which registers the instrumentation of server timings in the builder
+     * (see {@link ServerTimings#instrumentation()}) and makes requests by the built {@link MockMvc},
+     * timings of each request are returned by {@link MvcRequestResult#returnServerTimings()}.
+     *
+     * @param mockMvcBuilder builder of the {@link MockMvc}, like `MockMvcBuilders.standaloneSetup(controller)`
+     * @return MvcRequester
+     */
+    public static MvcRequester instrumented(ConfigurableMockMvcBuilder<?> mockMvcBuilder) {
+        return on(mockMvcBuilder.apply(ServerTimings.instrumentation()).build());
     }
 
     /**
@@ -63,7 +121,7 @@ public class MvcRequester {
     public static MvcRequester on(MockMvc mockMvc,
                                   ObjectMapper objectMapper) {
 
-        return new MvcRequester(mockMvc, objectMapper, objectMapper, new UriBuilder());
+        return new MvcRequester(new MockMvcTransport(mockMvc), objectMapper, objectMapper, new UriBuilder());
     }
 
     /**
@@ -79,7 +137,292 @@ public class MvcRequester {
                                   ObjectMapper sendJsonMapper,
                                   ObjectMapper receiveJsonMapper) {
 
-        return new MvcRequester(mockMvc, sendJsonMapper, receiveJsonMapper, new UriBuilder());
+        return new MvcRequester(new MockMvcTransport(mockMvc), sendJsonMapper, receiveJsonMapper, new UriBuilder());
+    }
+
+    /**
+     * Static factory method to make requests by the {@link WebTestClient},
+     * to test WebFlux applications with the same API.
+     *
+     * @param webTestClient {@link WebTestClient} which will be used to make a request
+     * @return MvcRequester
+     */
+    public static MvcRequester on(WebTestClient webTestClient) {
+        return new MvcRequester(new WebTestClientTransport(webTestClient));
+    }
+
+    /**
+     * Static factory method to make requests by the {@link WebTestClient},
+     * with a definition of {@link ObjectMapper} which will be used to read/write JSON data.
+     *
+     * @param webTestClient {@link WebTestClient} which will be used to make a request
+     * @param objectMapper  {@link ObjectMapper} used to read/write JSON in response/request
+     * @return MvcRequester
+     */
+    public static MvcRequester on(WebTestClient webTestClient,
+                                  ObjectMapper objectMapper) {
+
+        return new MvcRequester(new WebTestClientTransport(webTestClient), objectMapper, objectMapper, new UriBuilder());
+    }
+
+    /**
+     * Static factory method to send real HTTP requests to the server,
+     * for example to the embedded Tomcat or Jetty started on the localhost.
+     *
+     * @param baseUri base URI of the server, like `http://localhost:8080`
+     * @return MvcRequester
+     */
+    public static MvcRequester on(URI baseUri) {
+        return new MvcRequester(new HttpTransport(baseUri));
+    }
+
+    /**
+     * Static factory method to send real HTTP requests to the server,
+     * with a definition of {@link ObjectMapper} which will be used to read/write JSON data.
+     *
+     * @param baseUri      base URI of the server, like `http://localhost:8080`
+     * @param objectMapper {@link ObjectMapper} used to read/write JSON in response/request
+     * @return MvcRequester
+     */
+    public static MvcRequester on(URI baseUri,
+                                  ObjectMapper objectMapper) {
+
+        return new MvcRequester(new HttpTransport(baseUri), objectMapper, objectMapper, new UriBuilder());
+    }
+
+    /**
+     * Static factory method to make requests by a custom transport.
+     *
+     * @param transport         {@link MvcTransport} which will be used to make a request
+     * @param sendJsonMapper    {@link ObjectMapper} to write JSON data before send it in request
+     * @param receiveJsonMapper {@link ObjectMapper} to read JSON data from response
+     * @return MvcRequester
+     */
+    public static MvcRequester on(MvcTransport transport,
+                                  ObjectMapper sendJsonMapper,
+                                  ObjectMapper receiveJsonMapper) {
+
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, new UriBuilder());
+    }
+
+    /**
+     * Make a copy of this requester which runs asynchronous requests
+     * (like {@link MvcRequestPointed#getAsync()}) in the selected executor.
+     * By default, virtual threads are used when they are available in the JVM.
+     *
+     * @param asyncExecutor executor to run asynchronous requests
+     * @return MvcRequester
+     */
+    public MvcRequester withAsyncExecutor(Executor asyncExecutor) {
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, defaultHeaders, lazy, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which uses the selected {@link ObjectMapper}
+     * to write JSON in requests and to read JSON from responses.
+     *
+     * @param objectMapper {@link ObjectMapper} used to read/write JSON in response/request
+     * @return MvcRequester
+     */
+    public MvcRequester withJsonMapper(ObjectMapper objectMapper) {
+        return new MvcRequester(transport, objectMapper, objectMapper, uriBuilder, asyncExecutor, defaultHeaders, lazy, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which adds the header in all requests,
+     * values are added to values of previous default headers with the same name.
+     *
+     * @param name   header name
+     * @param values header values
+     * @return MvcRequester
+     */
+    public MvcRequester withDefaultHeader(String name, Object... values) {
+        NameValuePairs headers = NameValuePairs.copyOf(defaultHeaders);
+        for (Object value : values) {
+            headers.add(name, String.valueOf(value));
+        }
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, headers.snapshot(), lazy, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which detaches all results right after the request
+     * (see {@link MvcRequestResult#detach()}), so they don't retain the MockMvc objects.
+     *
+     * @return MvcRequester
+     */
+    public MvcRequester withDetachedResults() {
+        return new MvcRequester(request -> DetachedTransportResponse.detach(transport.perform(request), true),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which doesn't print requests and responses,
+     * use it for a large number of requests (like load tests and bulk runs).
+     *
+     * @return MvcRequester
+     */
+    public MvcRequester withoutPrinting() {
+        return new MvcRequester(request -> new SilentTransportResponse(transport.perform(request)),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which returns cached responses of repeated GET requests
+     * and invalidates them by other requests to the same resources (see {@link ResponseCache}).
+     * Requesters which share the cache share its entries.
+     *
+     * @param cache cache of responses
+     * @return MvcRequester
+     */
+    public MvcRequester withResponseCache(ResponseCache cache) {
+        return new MvcRequester(request -> cache.perform(request, transport),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which counts hits, statuses and the time of requests
+     * by handler methods of controllers (see {@link EndpointCoverage}).
+     * Requesters which share the coverage share its counters.
+     *
+     * @param coverage counters of endpoints
+     * @return MvcRequester
+     */
+    public MvcRequester withEndpointCoverage(EndpointCoverage coverage) {
+        return new MvcRequester(request -> coverage.perform(request, transport),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which injects latencies, errors and slow bodies
+     * in requests to the selected paths (see {@link FaultInjection}), so the same scenario
+     * can run clean or degraded. Requesters which share the injection share its sequence of decisions.
+     *
+     * @param faults configuration of faults
+     * @return MvcRequester
+     */
+    public MvcRequester withFaultInjection(FaultInjection faults) {
+        return new MvcRequester(request -> faults.perform(request, transport),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which validates each request and its response
+     * by the OpenAPI document (see {@link OpenApiContract}), a violation fails
+     * the request with an {@link AssertionError}. The document is loaded once per location.
+     *
+     * @param location location of the OpenAPI document, like `openapi.yaml`
+     * @return MvcRequester
+     */
+    public MvcRequester withOpenApiContract(String location) {
+        OpenApiContract contract = OpenApiContract.load(location);
+        return new MvcRequester(request -> {
+            MvcTransportResponse response = transport.perform(request);
+            contract.verify(request, response);
+            return response;
+        }, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, defaultHeaders, lazy, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which defers requests: methods like
+     * {@link MvcRequestPointed#get()} return a pending result and the request is made
+     * on the first expectation or return of a value, requests which results are never used
+     * are not made at all. Use {@link MvcRequestResult#dispatch()} to make a request
+     * which result is not read. Asynchronous and reactive requests are not deferred.
+     *
+     * @return MvcRequester
+     */
+    public MvcRequester withLazyExecution() {
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, defaultHeaders, true, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which records the timeline of requests to the trace
+     * (see {@link RequestTrace}): serialization of bodies, dispatches and deserialization of responses.
+     *
+     * @param trace trace of requests
+     * @return MvcRequester
+     */
+    public MvcRequester withTrace(RequestTrace trace) {
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, defaultHeaders, lazy, trace, credentials, session);
+    }
+
+    /**
+     * Make a copy of this requester which keeps the MockMvc session, cookies and the CSRF token
+     * between requests (see {@link MvcSession}). Requests of the session are never taken from
+     * the {@link ResponseCache}, whatever the order of `withSession` and {@link #withResponseCache}.
+     * Apply it before {@link #withDetachedResults()}, the session is taken from the MockMvc result,
+     * otherwise the first request fails with the {@link IllegalStateException}.
+     *
+     * @param session state of the client
+     * @return MvcRequester
+     * @throws IllegalStateException when this requester already has a session
+     */
+    public MvcRequester withSession(MvcSession session) {
+        if (this.session != null) {
+            throw new IllegalStateException("The requester already has a session");
+        }
+        return new MvcRequester(request -> session.perform(request, transport),
+                                sendJsonMapper,
+                                receiveJsonMapper,
+                                uriBuilder,
+                                asyncExecutor,
+                                defaultHeaders,
+                                lazy,
+                                trace,
+                                credentials,
+                                session);
+    }
+
+    /**
+     * Make a copy of this requester which sends the Authorization header from the provider in all requests,
+     * the header is asked at the start of each request (see {@link com.jupiter.tools.mvc.requester.auth.Credentials}).
+     * The provider is shared by all threads which use the requester.
+     *
+     * @param credentials provider of the Authorization header
+     * @return MvcRequester
+     */
+    public MvcRequester withCredentials(CredentialsProvider credentials) {
+        return new MvcRequester(transport, sendJsonMapper, receiveJsonMapper, uriBuilder, asyncExecutor, defaultHeaders, lazy, trace, credentials, session);
     }
 
     /**
@@ -91,10 +434,17 @@ public class MvcRequester {
      */
     public MvcRequestPointed to(String pattern, Object... args) {
 
-        return new MvcRequestPointed(mockMvc,
+        return new MvcRequestPointed(transport,
                                      uriBuilder.build(pattern, args),
+                                     pattern,
                                      sendJsonMapper,
-                                     receiveJsonMapper);
+                                     receiveJsonMapper,
+                                     asyncExecutor,
+                                     defaultHeaders,
+                                     lazy,
+                                     trace,
+                                     credentials,
+                                     session);
     }
 
 
@@ -0,0 +1,230 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * State of a client which is kept between requests, like in a browser:
+ * <ul>
+ * <li>the {@link MockHttpSession} of MockMvc requests (including the security context after a form login)</li>
+ * <li>cookies from `Set-Cookie` headers of responses</li>
+ * <li>the CSRF token of the session, it is sent in the header of each unsafe request
+ * (POST, PUT, PATCH, DELETE), so `withCsrf()` is not needed</li>
+ * </ul>
+ * <pre>{@code
+ * MvcRequester user = MvcRequester.on(mockMvc).withSession(MvcSession.create());
+ *
+ * user.to("/login").withParam("username", "user").withParam("password", "secret").post();
+ * user.to("/orders").post(order);  // the same session, cookies and CSRF token
+ * }</pre>
+ * A session represents a single user, requests of the session are made one after another
+ * (see {@link MvcSessionPool} for concurrent virtual users).
+ * Requests of the session are not cached by the {@link ResponseCache}: the state is applied
+ * by a post-processor of the request, and the cache skips requests with post-processors.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class MvcSession {
+
+    /**
+     * cookie and header of the CookieCsrfTokenRepository
+     */
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String CSRF_COOKIE_HEADER = "X-XSRF-TOKEN";
+
+    private MockHttpSession httpSession;
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private String csrfHeaderName;
+    private String csrfToken;
+    private final RequestPostProcessor postProcessor = this::apply;
+
+    private MvcSession() {
+    }
+
+    /**
+     * @return new session without cookies
+     */
+    public static MvcSession create() {
+        return new MvcSession();
+    }
+
+    /**
+     * @return the MockMvc session, or null if the server hasn't created it yet
+     */
+    public synchronized MockHttpSession getHttpSession() {
+        return httpSession;
+    }
+
+    /**
+     * @return copy of current cookies
+     */
+    public synchronized List<Cookie> getCookies() {
+        return new ArrayList<>(cookies.values());
+    }
+
+    /**
+     * @return value of the CSRF token which is sent in unsafe requests, or null if it's unknown
+     */
+    public synchronized String getCsrfToken() {
+        return csrfToken;
+    }
+
+    /**
+     * Add the cookie which will be sent in next requests
+     *
+     * @param name  cookie name
+     * @param value cookie value
+     * @return MvcSession
+     */
+    public synchronized MvcSession withCookie(String name, String value) {
+        cookies.put(name, new Cookie(name, value));
+        return this;
+    }
+
+    /**
+     * Forget the session, cookies and the CSRF token, like a log out in the browser
+     */
+    public synchronized void clear() {
+        httpSession = null;
+        cookies.clear();
+        csrfHeaderName = null;
+        csrfToken = null;
+    }
+
+    /**
+     * @return post-processor which applies the state of this session to the request,
+     * it's added to requests of the session by the {@link MvcRequestPointed}
+     */
+    RequestPostProcessor getPostProcessor() {
+        return postProcessor;
+    }
+
+    /**
+     * Make the request and keep the state of the response
+     *
+     * @param request   request to send, with the post-processor of this session
+     * @param transport transport which makes the request
+     * @return received response
+     * @throws Exception when the request failed
+     */
+    MvcTransportResponse perform(MvcRequestSpec request, MvcTransport transport) throws Exception {
+        MvcTransportResponse response = transport.perform(request);
+        if (isDetached(response)) {
+            throw new IllegalStateException("The session needs the MockMvc result of the request, " +
+                                            "apply withSession before withDetachedResults");
+        }
+        update(response);
+        return response;
+    }
+
+    private static boolean isDetached(MvcTransportResponse response) {
+        MvcTransportResponse origin = response instanceof SilentTransportResponse
+                                      ? ((SilentTransportResponse) response).getOrigin()
+                                      : response;
+        return origin instanceof DetachedTransportResponse;
+    }
+
+    private synchronized MockHttpServletRequest apply(MockHttpServletRequest request) {
+        if (httpSession != null) {
+            request.setSession(httpSession);
+        }
+        if (!cookies.isEmpty()) {
+            Map<String, Cookie> merged = new LinkedHashMap<>(cookies);
+            if (request.getCookies() != null) {
+                // cookies of the request override cookies of the session
+                for (Cookie cookie : request.getCookies()) {
+                    merged.put(cookie.getName(), cookie);
+                }
+            }
+            request.setCookies(merged.values().toArray(new Cookie[0]));
+        }
+        if (isUnsafe(request.getMethod())) {
+            addCsrfHeader(request);
+        }
+        return request;
+    }
+
+    private void addCsrfHeader(MockHttpServletRequest request) {
+        if (csrfToken != null) {
+            if (request.getHeader(csrfHeaderName) == null) {
+                request.addHeader(csrfHeaderName, csrfToken);
+            }
+            return;
+        }
+        Cookie cookie = cookies.get(CSRF_COOKIE);
+        if (cookie != null && request.getHeader(CSRF_COOKIE_HEADER) == null) {
+            request.addHeader(CSRF_COOKIE_HEADER, cookie.getValue());
+        }
+    }
+
+    private synchronized void update(MvcTransportResponse response) {
+        for (String setCookie : response.getHeaders(HttpHeaders.SET_COOKIE)) {
+            for (HttpCookie cookie : HttpCookie.parse(setCookie)) {
+                if (cookie.getMaxAge() == 0) {
+                    cookies.remove(cookie.getName());
+                } else {
+                    cookies.put(cookie.getName(), new Cookie(cookie.getName(), cookie.getValue()));
+                }
+            }
+        }
+        HttpServletRequest request = response.getMvcResult().getRequest();
+        HttpSession session = request.getSession(false);
+        if (session instanceof MockHttpSession) {
+            MockHttpSession mockSession = (MockHttpSession) session;
+            if (mockSession.isInvalid()) {
+                clearServerSession();
+            } else {
+                httpSession = mockSession;
+            }
+        } else if (httpSession != null && httpSession.isInvalid()) {
+            clearServerSession();
+        }
+        Object token = request.getAttribute(CsrfToken.class.getName());
+        if (token instanceof CsrfToken) {
+            CsrfToken csrf = (CsrfToken) token;
+            csrfHeaderName = csrf.getHeaderName();
+            csrfToken = csrf.getToken();
+        }
+    }
+
+    /**
+     * The server invalidated the session (like a log out), its CSRF token is not valid anymore
+     */
+    private void clearServerSession() {
+        httpSession = null;
+        csrfHeaderName = null;
+        csrfToken = null;
+    }
+
+    private static boolean isUnsafe(String method) {
+        HttpMethod httpMethod = HttpMethod.resolve(method);
+        return httpMethod != HttpMethod.GET
+               && httpMethod != HttpMethod.HEAD
+               && httpMethod != HttpMethod.OPTIONS
+               && httpMethod != HttpMethod.TRACE;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MvcSession{session: " + (httpSession == null ? null : httpSession.getId()) +
+               ", cookies: " + Collections.unmodifiableCollection(cookies.keySet()) +
+               ", csrf: " + (csrfToken != null) + "}";
+    }
+}
@@ -0,0 +1,104 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Pool of sessions which are authenticated once before the load,
+ * so virtual users don't spend the time of the test on logins:
+ * <pre>{@code
+ * MvcSessionPool pool = MvcSessionPool.authenticate(requester, 16, user ->
+ *         user.to("/login")
+ *             .withParam("username", "user")
+ *             .withParam("password", "secret")
+ *             .post()
+ *             .doExpect(status().is3xxRedirection()));
+ *
+ * // a session per virtual user of the scenario, the pool is as large as the count of virtual users
+ * pool.requester(session.getVirtualUser()).to("/orders").get();
+ *
+ * // or an exclusive session for the duration of the action
+ * pool.call(user -> user.to("/orders").post(order));
+ * }</pre>
+ *
+ * @author Korovin Anatoliy
+ */
+public final class MvcSessionPool {
+
+    private final List<MvcRequester> requesters;
+    private final BlockingQueue<MvcRequester> idle;
+
+    private MvcSessionPool(List<MvcRequester> requesters) {
+        this.requesters = Collections.unmodifiableList(requesters);
+        this.idle = new ArrayBlockingQueue<>(requesters.size(), false, requesters);
+    }
+
+    /**
+     * Create sessions and log in each of them, logins are made one after another in the calling thread
+     *
+     * @param requester requester which makes requests of sessions
+     * @param size      count of sessions
+     * @param login     requests which authenticate the session
+     * @return MvcSessionPool
+     */
+    public static MvcSessionPool authenticate(MvcRequester requester, int size, Consumer<MvcRequester> login) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size of the session pool must be positive");
+        }
+        List<MvcRequester> requesters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MvcRequester user = requester.withSession(MvcSession.create());
+            login.accept(user);
+            requesters.add(user);
+        }
+        return new MvcSessionPool(requesters);
+    }
+
+    /**
+     * Return the requester of the session which is assigned to the virtual user.
+     * A session must not be shared by concurrent users, so the pool must have a session
+     * for each virtual user, use {@link #call(Function)} when users are more than sessions.
+     *
+     * @param virtualUser number of the virtual user from zero, like {@code ScenarioSession#getVirtualUser()}
+     * @return MvcRequester of the session
+     * @throws IllegalArgumentException when the pool has no session for the virtual user
+     */
+    public MvcRequester requester(int virtualUser) {
+        if (virtualUser < 0 || virtualUser >= requesters.size()) {
+            throw new IllegalArgumentException("The pool has " + requesters.size() + " sessions, " +
+                                               "there is no session for the virtual user " + virtualUser);
+        }
+        return requesters.get(virtualUser);
+    }
+
+    /**
+     * Run the action with a session which is not used by other threads until the end of the action,
+     * waits while all sessions are busy.
+     *
+     * @param action requests of the virtual user
+     * @param <T>    type of the action result
+     * @return result of the action
+     */
+    public <T> T call(Function<MvcRequester, T> action) {
+        MvcRequester requester = SneakyThrow.wrap(idle::take);
+        try {
+            return action.apply(requester);
+        } finally {
+            idle.add(requester);
+        }
+    }
+
+    /**
+     * @return count of sessions
+     */
+    public int size() {
+        return requesters.size();
+    }
+}
@@ -0,0 +1,22 @@
+package com.jupiter.tools.mvc.requester;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Execution backend of the {@link MvcRequester}, it takes a request
+ * which was built by the {@link MvcRequestPointed} and makes a real invocation
+ * (by the MockMvc, the WebTestClient and etc.)
+ *
+ * @author Korovin Anatoliy
+ */
+public interface MvcTransport {
+
+    /**
+     * Make a request
+     *
+     * @param request request to send
+     * @return received response
+     * @throws Exception when the request failed
+     */
+    MvcTransportResponse perform(MvcRequestSpec request) throws Exception;
+}
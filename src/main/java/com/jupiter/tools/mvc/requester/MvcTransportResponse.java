@@ -0,0 +1,73 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Response which was received by the {@link MvcTransport}.
+ *
+ * @author Korovin Anatoliy
+ */
+public interface MvcTransportResponse {
+
+    /**
+     * @return HTTP status code of the response
+     */
+    int getStatus();
+
+    /**
+     * @param name header name
+     * @return first value of the header or null if the response doesn't contain it
+     */
+    String getHeader(String name);
+
+    /**
+     * @param name header name
+     * @return all values of the header
+     */
+    List<String> getHeaders(String name);
+
+    /**
+     * @return names of all headers in the response
+     */
+    Collection<String> getHeaderNames();
+
+    /**
+     * @return body of the response, an empty array if the response has no body
+     */
+    byte[] getContentAsByteArray();
+
+    /**
+     * @return hex encoded SHA-256 digest of the response body
+     */
+    default String getContentDigest() {
+        return DetachedTransportResponse.toHex(DetachedTransportResponse.sha256(getContentAsByteArray()));
+    }
+
+    /**
+     * Read elements of the JSON array from the response body
+     * without a materialization of the whole body when the transport supports it.
+     *
+     * @param reader reader of the single element
+     * @param <T>    type of elements
+     * @return stream of elements
+     */
+    <T> Stream<T> streamContent(ObjectReader reader);
+
+    /**
+     * @return the response in the form of MockMvc result, to use it with {@link org.springframework.test.web.servlet.ResultMatcher}
+     */
+    MvcResult getMvcResult();
+
+    /**
+     * Print the request and the response details
+     */
+    void print();
+}
@@ -0,0 +1,119 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Compact list of name/value pairs (request parameters and headers) in the order of adding,
+ * pairs are kept in a flat array: name0, value0, name1, value1 ...
+ * <p>
+ * The array is allocated at the first adding and sized for a few pairs.
+ * Snapshots are immutable and share the array with the source list,
+ * the source copies the array only when it is changed after the snapshot.
+ *
+ * @author Korovin Anatoliy
+ */
+final class NameValuePairs {
+
+    static final NameValuePairs EMPTY = new NameValuePairs(null, 0, true, true);
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] pairs;
+    private int length;
+    /**
+     * the array is used by a snapshot and must be copied before the next change
+     */
+    private boolean shared;
+    private final boolean frozen;
+
+    NameValuePairs() {
+        this(null, 0, false, false);
+    }
+
+    private NameValuePairs(String[] pairs, int length, boolean shared, boolean frozen) {
+        this.pairs = pairs;
+        this.length = length;
+        this.shared = shared;
+        this.frozen = frozen;
+    }
+
+    /**
+     * @param source pairs to copy
+     * @return modifiable copy which shares the array with the source until the first change
+     */
+    static NameValuePairs copyOf(NameValuePairs source) {
+        return new NameValuePairs(source.pairs, source.length, true, false);
+    }
+
+    /**
+     * Add a pair in the end of the list
+     *
+     * @param name  name
+     * @param value value
+     */
+    void add(String name, String value) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Snapshot of pairs can't be changed");
+        }
+        if (pairs == null) {
+            pairs = new String[INITIAL_CAPACITY];
+        } else if (shared || length == pairs.length) {
+            pairs = Arrays.copyOf(pairs, length == pairs.length ? length * 2 : pairs.length);
+            shared = false;
+        }
+        pairs[length++] = name;
+        pairs[length++] = value;
+    }
+
+    /**
+     * @return immutable snapshot of current pairs
+     */
+    NameValuePairs snapshot() {
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (frozen) {
+            return this;
+        }
+        shared = true;
+        return new NameValuePairs(pairs, length, true, true);
+    }
+
+    boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * @param name name of a pair, it's compared ignoring the case like names of HTTP headers
+     * @return true if there is at least one pair with the name
+     */
+    boolean containsIgnoreCase(String name) {
+        for (int i = 0; i < length; i += 2) {
+            if (pairs[i].equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return count of pairs
+     */
+    int size() {
+        return length / 2;
+    }
+
+    /**
+     * Iterate over all pairs in the order of adding
+     *
+     * @param consumer receives the name and the value of each pair
+     */
+    void forEach(BiConsumer<String, String> consumer) {
+        for (int i = 0; i < length; i += 2) {
+            consumer.accept(pairs[i], pairs[i + 1]);
+        }
+    }
+}
@@ -1,28 +1,29 @@
 package com.jupiter.tools.mvc.requester;
 
+import com.jupiter.tools.mvc.requester.auth.Credentials;
+
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
-
 /**
  * Created by Maxim Seredkin on 29.03.2018.
  * <p>
- * Post-processor which will add an OAuth token in the request.
+ * Post-processor which will add an OAuth token in the request,
+ * the value of the header is formatted once in the constructor.
  *
  * @author Maxim Seredkin
  */
 public class OAuthRequestPostProcessor implements RequestPostProcessor {
-    private final String token;
+    private final String authorization;
 
     public OAuthRequestPostProcessor(String token) {
-        this.token = token;
+        this.authorization = Credentials.bearerAuthorization(token);
     }
 
     @Override
     public MockHttpServletRequest postProcessRequest(MockHttpServletRequest mockHttpServletRequest) {
-        if (isNotBlank(token)) {
-            mockHttpServletRequest.addHeader("Authorization", String.format("Bearer %s", token));
+        if (authorization != null) {
+            mockHttpServletRequest.addHeader("Authorization", authorization);
         }
 
         return mockHttpServletRequest;
@@ -0,0 +1,118 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Reactive view of the {@link MvcRequestPointed}, each method returns a cold {@link Mono}
+ * which makes the request on subscription, in the executor of the {@link MvcRequester}.
+ *
+ * @author Korovin Anatoliy
+ */
+public class ReactiveMvcRequestPointed {
+
+    private final MvcRequestPointed requestPointed;
+    private final Scheduler scheduler;
+
+    ReactiveMvcRequestPointed(MvcRequestPointed requestPointed, Executor executor) {
+        this.requestPointed = requestPointed;
+        this.scheduler = Schedulers.fromExecutor(executor);
+    }
+
+    /**
+     * Make a GET request
+     *
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> get() {
+        return mono(requestPointed::get);
+    }
+
+    /**
+     * Make a GET request with the body
+     *
+     * @param content object which will send as JSON body in the request
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> get(Object content) {
+        return mono(() -> requestPointed.get(content));
+    }
+
+    /**
+     * Make a POST request without the body
+     *
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> post() {
+        return mono(requestPointed::post);
+    }
+
+    /**
+     * Make a POST request with the selected body
+     *
+     * @param content request body, which convert in JSON before send
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> post(Object content) {
+        return mono(() -> requestPointed.post(content));
+    }
+
+    /**
+     * Make a PUT request without the body
+     *
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> put() {
+        return mono(requestPointed::put);
+    }
+
+    /**
+     * Make a PUT request with the body
+     *
+     * @param content request body, which convert in JSON before send
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> put(Object content) {
+        return mono(() -> requestPointed.put(content));
+    }
+
+    /**
+     * Make a DELETE request without the body
+     *
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> delete() {
+        return mono(requestPointed::delete);
+    }
+
+    /**
+     * Make a DELETE request with json body
+     *
+     * @param content object which will send as JSON body in the request
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> delete(Object content) {
+        return mono(() -> requestPointed.delete(content));
+    }
+
+    /**
+     * Make a file upload
+     *
+     * @return Mono of the MvcRequestResult
+     */
+    public Mono<MvcRequestResult> upload() {
+        return mono(requestPointed::upload);
+    }
+
+    private Mono<MvcRequestResult> mono(Callable<MvcRequestResult> request) {
+        // results of a lazy requester are dispatched on the scheduler too
+        return Mono.fromCallable(() -> request.call().dispatch())
+                   .subscribeOn(scheduler);
+    }
+}
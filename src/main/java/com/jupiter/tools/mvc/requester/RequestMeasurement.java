@@ -0,0 +1,189 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Latency and allocations of a request which were measured around the transport call,
+ * when the request was repeated (see {@link MvcRequestPointed#withMeasurement(int, int)})
+ * the median of measured runs is kept along with the samples of all runs.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class RequestMeasurement {
+
+    private final String method;
+    private final String uriTemplate;
+    private final long[] latencies;
+    private final long[] allocations;
+    private final long[] injectedLatencies;
+    private final long latencyNanos;
+    private final long injectedLatencyNanos;
+    private final long realLatencyNanos;
+    private final long allocatedBytes;
+
+    /**
+     * @param method      HTTP method of the request
+     * @param uriTemplate URI template of the request
+     * @param latencies   latencies of runs in nanoseconds
+     * @param allocations allocated bytes of runs, -1 when they are not counted
+     * @param injectedLatencies injected pauses of runs in nanoseconds (see {@link FaultInjection})
+     */
+    RequestMeasurement(String method,
+                       String uriTemplate,
+                       long[] latencies,
+                       long[] allocations,
+                       long[] injectedLatencies) {
+        this.method = method;
+        this.uriTemplate = uriTemplate;
+        this.latencies = latencies;
+        this.allocations = allocations;
+        this.injectedLatencies = injectedLatencies;
+        this.latencyNanos = median(latencies);
+        this.injectedLatencyNanos = median(injectedLatencies);
+        this.realLatencyNanos = median(realLatencies(latencies, injectedLatencies));
+        // a single unknown run makes the median unknown
+        this.allocatedBytes = Arrays.stream(allocations).anyMatch(bytes -> bytes < 0) ? -1 : median(allocations);
+    }
+
+    /**
+     * Single run without the measurement of allocations, samples are made on demand,
+     * so a request which isn't measured allocates only this object
+     *
+     * @param method         HTTP method of the request
+     * @param uriTemplate    URI template of the request
+     * @param latencyNanos   latency of the run in nanoseconds
+     * @param injectedNanos  injected pause of the run in nanoseconds
+     */
+    RequestMeasurement(String method, String uriTemplate, long latencyNanos, long injectedNanos) {
+        this.method = method;
+        this.uriTemplate = uriTemplate;
+        this.latencies = null;
+        this.allocations = null;
+        this.injectedLatencies = null;
+        this.latencyNanos = latencyNanos;
+        this.injectedLatencyNanos = injectedNanos;
+        this.realLatencyNanos = Math.max(latencyNanos - injectedNanos, 0);
+        this.allocatedBytes = -1;
+    }
+
+    /**
+     * @return HTTP method and the URI template of the request, like `GET /orders/{id}`
+     */
+    public String getEndpoint() {
+        // the name is made on demand to not allocate it for each request
+        return method + " " + uriTemplate;
+    }
+
+    /**
+     * @return median time of the request
+     */
+    public Duration getLatency() {
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    /**
+     * @return median time of pauses which were injected by the {@link FaultInjection}, it's a part of the latency
+     */
+    public Duration getInjectedLatency() {
+        return Duration.ofNanos(injectedLatencyNanos);
+    }
+
+    /**
+     * Median of latencies of runs without their injected pauses, the split is made for each run,
+     * so it's not the difference of the median latency and the median injected latency
+     *
+     * @return median time of the request without pauses of the {@link FaultInjection}
+     */
+    public Duration getRealLatency() {
+        return Duration.ofNanos(realLatencyNanos);
+    }
+
+    /**
+     * Median count of bytes which were allocated by the thread of the request while it was running,
+     * allocations of other threads (like the server threads of a real HTTP request
+     * or the WebFlux event loop) are not included.
+     *
+     * Allocations are counted only by {@link MvcRequestPointed#withMeasurement(int, int)}.
+     *
+     * @return allocated bytes, -1 when they are unknown: the request wasn't measured,
+     * or the JVM or the thread of the request (like a virtual thread) doesn't count allocations
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return latencies of all measured runs in nanoseconds
+     */
+    public long[] getLatencySamples() {
+        return latencies == null ? new long[]{latencyNanos} : latencies.clone();
+    }
+
+    /**
+     * @return allocated bytes of all measured runs, -1 for unknown values
+     */
+    public long[] getAllocationSamples() {
+        return allocations == null ? new long[]{allocatedBytes} : allocations.clone();
+    }
+
+    /**
+     * @return injected pauses of all measured runs in nanoseconds
+     */
+    public long[] getInjectedLatencySamples() {
+        return injectedLatencies == null ? new long[]{injectedLatencyNanos} : injectedLatencies.clone();
+    }
+
+    /**
+     * @return latencies of all measured runs without injected pauses in nanoseconds
+     */
+    public long[] getRealLatencySamples() {
+        return latencies == null ? new long[]{realLatencyNanos} : realLatencies(latencies, injectedLatencies);
+    }
+
+    /**
+     * @return count of measured runs
+     */
+    public int getRuns() {
+        return latencies == null ? 1 : latencies.length;
+    }
+
+    @Override
+    public String toString() {
+        if (injectedLatencyNanos > 0) {
+            return String.format(Locale.ROOT,
+                                 "%s latency: %.3f ms (injected: %.3f ms, real: %.3f ms), allocated: %d bytes, runs: %d",
+                                 getEndpoint(), latencyNanos / 1_000_000.0, injectedLatencyNanos / 1_000_000.0,
+                                 realLatencyNanos / 1_000_000.0, allocatedBytes, getRuns());
+        }
+        return String.format(Locale.ROOT, "%s latency: %.3f ms, allocated: %d bytes, runs: %d",
+                             getEndpoint(), latencyNanos / 1_000_000.0, allocatedBytes, getRuns());
+    }
+
+    private static long[] realLatencies(long[] latencies, long[] injectedLatencies) {
+        long[] real = new long[latencies.length];
+        for (int i = 0; i < latencies.length; i++) {
+            real[i] = Math.max(latencies[i] - injectedLatencies[i], 0);
+        }
+        return real;
+    }
+
+    /**
+     * @param values not empty array of values
+     * @return median of values
+     */
+    public static long median(long[] values) {
+        if (values.length == 1) {
+            return values[0];
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1
+               ? sorted[middle]
+               : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,300 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Timeline of requests in the Trace Event Format, the file can be opened
+ * in the Perfetto UI (https://ui.perfetto.dev) or in chrome://tracing:
+ * <pre>{@code
+ * try (RequestTrace trace = RequestTrace.open(Paths.get("target/requests-trace.json"))) {
+ *     MvcRequester requester = MvcRequester.on(mockMvc).withTrace(trace);
+ *     ...
+ * }
+ * }</pre>
+ * Each phase of a request is a complete event on the timeline of the thread which ran it:
+ * `serialize` of the request body, the dispatch to the transport named by the method and the URI template
+ * (like `GET /orders/{id}`, with the URI and the status in arguments) and `deserialize` of the response body.
+ * So gaps between phases and long events of parallel threads show starvation and stalls at a glance.
+ * <p>
+ * Requesting threads only put captured timestamps in a bounded queue, events are formatted
+ * and written by a background thread. When the writer lags behind and the queue is full,
+ * new events are dropped (see {@link #getDroppedEvents()}) instead of blocking requests.
+ * The trace is completed by {@link #close()}, events after it are counted as dropped.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class RequestTrace implements Closeable {
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+    private static final int BATCH_SIZE = 1024;
+    private static final long POLL_MILLIS = 100;
+
+    private final JsonGenerator generator;
+    private final long origin = System.nanoTime();
+    private final BlockingQueue<Event> queue;
+    private final Map<Long, Boolean> namedThreads = new ConcurrentHashMap<>();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    /**
+     * recording threads share the read lock, so the closing waits for events which passed the check
+     */
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private RequestTrace(JsonGenerator generator, int capacity) {
+        this.generator = generator;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.writer = new Thread(this::writeEvents, "mvc-requester-trace-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Start the trace, the file is overwritten
+     *
+     * @param file file of the trace, like `target/requests-trace.json`
+     * @return started RequestTrace
+     */
+    public static RequestTrace open(Path file) {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Start the trace, the file is overwritten
+     *
+     * @param file     file of the trace
+     * @param capacity max count of events which are waiting for the writer
+     * @return started RequestTrace
+     * @throws MvcRequestException when the file can't be created
+     */
+    public static RequestTrace open(Path file, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of the trace must be positive");
+        }
+        RequestTrace trace = new RequestTrace(createGenerator(file), capacity);
+        trace.writer.start();
+        return trace;
+    }
+
+    /**
+     * The file is created in the calling thread, so an invalid path fails the opening of the trace
+     */
+    private static JsonGenerator createGenerator(Path file) {
+        Writer output = null;
+        try {
+            output = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            JsonGenerator generator = new JsonFactory().createGenerator(output);
+            generator.writeStartObject();
+            generator.writeStringField("displayTimeUnit", "ms");
+            generator.writeArrayFieldStart("traceEvents");
+            return generator;
+        } catch (IOException e) {
+            closeQuietly(output);
+            throw new MvcRequestException(e);
+        }
+    }
+
+    private static void closeQuietly(Writer output) {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException ignored) {
+            // the error of the opening is reported
+        }
+    }
+
+    /**
+     * @return count of events which were written to the file
+     */
+    public long getWrittenEvents() {
+        return written.sum();
+    }
+
+    /**
+     * @return count of events which were dropped because the writer lagged behind or the trace was closed
+     */
+    public long getDroppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * Write all queued events and complete the file
+     */
+    @Override
+    public void close() throws IOException {
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    void serialized(String uriTemplate, long startNanos, long endNanos) {
+        record("serialize", "serialize", startNanos, endNanos, "uriTemplate", uriTemplate, null, null);
+    }
+
+    void dispatched(MvcRequestSpec request, String uriTemplate, int status, long startNanos, long endNanos) {
+        record(request.getMethod() + " " + uriTemplate, "dispatch", startNanos, endNanos,
+               "uri", request.getUri().toString(), "status", Integer.toString(status));
+    }
+
+    void deserialized(String type, long startNanos, long endNanos) {
+        record("deserialize", "deserialize", startNanos, endNanos, "type", type, null, null);
+    }
+
+    private void record(String name,
+                        String category,
+                        long startNanos,
+                        long endNanos,
+                        String argName,
+                        String argValue,
+                        String secondArgName,
+                        String secondArgValue) {
+        Thread thread = Thread.currentThread();
+        long threadId = thread.getId();
+        Event event = new Event(name, category, 'X', threadId, startNanos - origin, endNanos - startNanos,
+                                argName, argValue, secondArgName, secondArgValue);
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            if (namedThreads.putIfAbsent(threadId, Boolean.TRUE) == null) {
+                offer(new Event("thread_name", null, 'M', threadId, 0, 0, "name", thread.getName(), null, null));
+            }
+            offer(event);
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    private void offer(Event event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void writeEvents() {
+        List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        // the generator closes the output file
+        try (JsonGenerator generator = this.generator) {
+            while (!closed || !queue.isEmpty()) {
+                Event first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (Event event : batch) {
+                    event.write(generator);
+                }
+                written.add(batch.size());
+                batch.clear();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Event with captured values, it's formatted by the writer
+     */
+    private static final class Event {
+
+        private final String name;
+        private final String category;
+        private final char phase;
+        private final long threadId;
+        private final long startNanos;
+        private final long durationNanos;
+        private final String argName;
+        private final String argValue;
+        private final String secondArgName;
+        private final String secondArgValue;
+
+        private Event(String name,
+                      String category,
+                      char phase,
+                      long threadId,
+                      long startNanos,
+                      long durationNanos,
+                      String argName,
+                      String argValue,
+                      String secondArgName,
+                      String secondArgValue) {
+            this.name = name;
+            this.category = category;
+            this.phase = phase;
+            this.threadId = threadId;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.argName = argName;
+            this.argValue = argValue;
+            this.secondArgName = secondArgName;
+            this.secondArgValue = secondArgValue;
+        }
+
+        private void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("name", name);
+            if (category != null) {
+                generator.writeStringField("cat", category);
+            }
+            generator.writeStringField("ph", String.valueOf(phase));
+            generator.writeNumberField("pid", 1);
+            generator.writeNumberField("tid", threadId);
+            if (phase == 'X') {
+                // timestamps of the format are in microseconds
+                generator.writeNumberField("ts", startNanos / 1000.0);
+                generator.writeNumberField("dur", durationNanos / 1000.0);
+            }
+            generator.writeObjectFieldStart("args");
+            generator.writeStringField(argName, argValue);
+            if (secondArgName != null) {
+                generator.writeStringField(secondArgName, secondArgValue);
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Memoization of responses for idempotent requests to reference data (dictionaries, configs)
+ * which are repeated by many tests:
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.create()
+ *                                    .withMaxEntries(500)
+ *                                    .withTimeToLive(Duration.ofMinutes(5))
+ *                                    .withKeyHeaders("Accept-Language");
+ *
+ * MvcRequester requester = MvcRequester.on(mockMvc).withResponseCache(cache);
+ * }</pre>
+ * Only successful (2xx) responses of GET requests without post-processors and files are cached,
+ * the key is the method, the URI with request parameters, values of the selected headers
+ * and the Authorization header.
+ * Entries keep an immutable copy of the status, headers and the body, each hit returns
+ * a new result, so `returnAs` deserializes a fresh object from the cached bytes.
+ * <p>
+ * Least recently used entries are evicted when the count of entries or the total size
+ * of bodies and headers exceeds the bound, expired entries are removed on the next access.
+ * Any other request (POST, PUT, DELETE ...) invalidates entries which path is
+ * a prefix of the request path or starts with it, so `POST /dictionaries/colors` invalidates
+ * both `GET /dictionaries/colors` and `GET /dictionaries/colors/1`.
+ * <p>
+ * The cache is thread-safe, concurrent misses of the same key may make several requests.
+ * A response is not stored when an invalidation happened while it was being received,
+ * so a GET which raced with a changing request doesn't put a stale response back in the cache.
+ * Methods `withX` return a new empty cache with the changed configuration.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class ResponseCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+    private static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Duration timeToLive;
+    private final String[] keyHeaders;
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    // incremented by each invalidation, misses store responses only if it wasn't changed during the request
+    private long generation;
+
+    private ResponseCache(int maxEntries,
+                          long maxBytes,
+                          Duration timeToLive,
+                          String[] keyHeaders,
+                          LongSupplier ticker) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max count of entries must be positive");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max size of entries must be positive");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.timeToLive = timeToLive;
+        this.keyHeaders = keyHeaders;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Static factory method, the cache keeps up to 1000 entries and 16 MB for 10 minutes
+     *
+     * @return ResponseCache
+     */
+    public static ResponseCache create() {
+        return new ResponseCache(DEFAULT_MAX_ENTRIES,
+                                 DEFAULT_MAX_BYTES,
+                                 DEFAULT_TIME_TO_LIVE,
+                                 new String[0],
+                                 System::nanoTime);
+    }
+
+    /**
+     * @param maxEntries max count of cached responses
+     * @return new empty cache with the selected bound
+     */
+    public ResponseCache withMaxEntries(int maxEntries) {
+        return new ResponseCache(maxEntries, maxBytes, timeToLive, keyHeaders, ticker);
+    }
+
+    /**
+     * @param maxBytes max total size of cached bodies and headers
+     * @return new empty cache with the selected bound
+     */
+    public ResponseCache withMaxBytes(long maxBytes) {
+        return new ResponseCache(maxEntries, maxBytes, timeToLive, keyHeaders, ticker);
+    }
+
+    /**
+     * @param timeToLive time after which a cached response is expired
+     * @return new empty cache with the selected time to live
+     */
+    public ResponseCache withTimeToLive(Duration timeToLive) {
+        return new ResponseCache(maxEntries, maxBytes, timeToLive, keyHeaders, ticker);
+    }
+
+    /**
+     * @param headerNames names of request headers which values are a part of the key
+     *                    (like Accept or Accept-Language), other headers are ignored
+     * @return new empty cache with the selected key headers
+     */
+    public ResponseCache withKeyHeaders(String... headerNames) {
+        return new ResponseCache(maxEntries, maxBytes, timeToLive, headerNames.clone(), ticker);
+    }
+
+    ResponseCache withTicker(LongSupplier ticker) {
+        return new ResponseCache(maxEntries, maxBytes, timeToLive, keyHeaders, ticker);
+    }
+
+    /**
+     * Make the request by the transport or return the cached response
+     *
+     * @param request   request to send
+     * @param transport transport which makes the request on a miss
+     * @return received or cached response
+     * @throws Exception when the request failed
+     */
+    MvcTransportResponse perform(MvcRequestSpec request, MvcTransport transport) throws Exception {
+        if (request.getMethod() != HttpMethod.GET) {
+            try {
+                return transport.perform(request);
+            } finally {
+                if (!isSafe(request.getMethod())) {
+                    invalidate(request.getUri().getPath());
+                }
+            }
+        }
+        if (!request.getPostProcessors().isEmpty() || request.isMultipart()) {
+            return transport.perform(request);
+        }
+        String key = key(request);
+        long generationBefore;
+        synchronized (this) {
+            Entry cached = lookup(key);
+            if (cached != null) {
+                return new CachedTransportResponse(cached.response, cached.silent);
+            }
+            generationBefore = generation;
+        }
+        MvcTransportResponse response = transport.perform(request);
+        if (response.getStatus() >= 200 && response.getStatus() < 300) {
+            store(key, request.getUri().getPath(), response, generationBefore);
+        }
+        return response;
+    }
+
+    /**
+     * Remove entries which path is a prefix of the selected path or starts with it
+     *
+     * @param path path of the changed resource, like `/dictionaries/colors`
+     */
+    public synchronized void invalidate(String path) {
+        generation++;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (overlaps(entry.path, path)) {
+                iterator.remove();
+                bytes -= entry.weight;
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Remove all entries, statistics are kept
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return approximate size of cached bodies and headers in bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return count of entries which were evicted by the bound of count or size
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return count of entries which were removed after the time to live
+     */
+    public synchronized long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * @return count of entries which were removed by changing requests or by the invalidate methods
+     */
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * @return human readable statistics of the cache
+     */
+    public synchronized String summary() {
+        long lookups = hits + misses;
+        return String.format(Locale.ROOT,
+                             "entries: %d, bytes: %d, hits: %d, misses: %d, hit rate: %.1f%%, " +
+                             "evictions: %d, expirations: %d, invalidations: %d",
+                             entries.size(), bytes, hits, misses, lookups == 0 ? 0.0 : 100.0 * hits / lookups,
+                             evictions, expirations, invalidations);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private synchronized Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && ticker.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            bytes -= entry.weight;
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return entry;
+    }
+
+    private void store(String key, String path, MvcTransportResponse response, long generationBefore) {
+        DetachedTransportResponse copy = DetachedTransportResponse.copyOf(response, true);
+        long weight = weight(key, copy);
+        if (weight > maxBytes) {
+            return;
+        }
+        Entry entry = new Entry(copy,
+                                response instanceof SilentTransportResponse,
+                                path,
+                                weight,
+                                ticker.getAsLong() + timeToLive.toNanos());
+        synchronized (this) {
+            if (generation != generationBefore) {
+                // the response could be received before the change of the resource
+                return;
+            }
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                bytes -= previous.weight;
+            }
+            bytes += weight;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().weight;
+                eldest.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private String key(MvcRequestSpec request) {
+        StringBuilder key = new StringBuilder(request.getMethod().name())
+                .append(' ')
+                .append(request.getUriWithQueryParams());
+        request.forEachHeader((name, value) -> {
+            if (isKeyHeader(name)) {
+                key.append('\n').append(name.toLowerCase(Locale.ROOT)).append(": ").append(value);
+            }
+        });
+        return key.toString();
+    }
+
+    /**
+     * Credentials are always a part of the key, so users don't receive responses of each other
+     */
+    private boolean isKeyHeader(String name) {
+        if (HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name)) {
+            return true;
+        }
+        for (String keyHeader : keyHeaders) {
+            if (keyHeader.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long weight(String key, MvcTransportResponse response) {
+        long weight = key.length() + response.getContentAsByteArray().length;
+        for (String name : response.getHeaderNames()) {
+            for (String value : response.getHeaders(name)) {
+                weight += name.length() + value.length();
+            }
+        }
+        return weight;
+    }
+
+    private static boolean isSafe(HttpMethod method) {
+        return method == HttpMethod.HEAD || method == HttpMethod.OPTIONS || method == HttpMethod.TRACE;
+    }
+
+    /**
+     * @return true if one of paths is equal to the other or is its parent
+     */
+    static boolean overlaps(String cachedPath, String changedPath) {
+        return isParent(cachedPath, changedPath) || isParent(changedPath, cachedPath);
+    }
+
+    private static boolean isParent(String parent, String path) {
+        String prefix = trimSlash(parent);
+        return path.startsWith(prefix) &&
+               (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+
+    private static String trimSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static final class Entry {
+
+        private final DetachedTransportResponse response;
+        private final boolean silent;
+        private final String path;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(DetachedTransportResponse response, boolean silent, String path, long weight, long expiresAt) {
+            this.response = response;
+            this.silent = silent;
+            this.path = path;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Response of a cache hit, the body is copied for each read so the cached bytes can't be changed
+     */
+    private static final class CachedTransportResponse implements MvcTransportResponse {
+
+        private final DetachedTransportResponse origin;
+        private final boolean silent;
+
+        private CachedTransportResponse(DetachedTransportResponse origin, boolean silent) {
+            this.origin = origin;
+            this.silent = silent;
+        }
+
+        @Override
+        public int getStatus() {
+            return origin.getStatus();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return origin.getHeader(name);
+        }
+
+        @Override
+        public List<String> getHeaders(String name) {
+            return origin.getHeaders(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return origin.getHeaderNames();
+        }
+
+        @Override
+        public byte[] getContentAsByteArray() {
+            byte[] content = origin.getContentAsByteArray();
+            return Arrays.copyOf(content, content.length);
+        }
+
+        @Override
+        public String getContentDigest() {
+            return origin.getContentDigest();
+        }
+
+        @Override
+        public <T> Stream<T> streamContent(ObjectReader reader) {
+            return origin.streamContent(reader);
+        }
+
+        @Override
+        public MvcResult getMvcResult() {
+            return origin.getMvcResult();
+        }
+
+        @Override
+        public void print() {
+            if (!silent) {
+                System.out.println();
+                System.out.println("Cached response:");
+                origin.print();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.lang.reflect.Type;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Advice of request and response bodies which measures the time of reading and writing
+ * by message converters for {@link ServerTimings}, converters themselves stay untouched.
+ * <p>
+ * The reading lasts from {@link #beforeBodyRead} until {@link #afterBodyRead},
+ * the writing lasts from {@link #beforeBodyWrite} until the end of the handler.
+ * The standalone setup measures bodies by {@link ServerTimings#instrumentation()} without the advice,
+ * with the web application context import it in the web configuration of the application:
+ * <pre>{@code
+ * @Import(ServerTimingAdvice.class)
+ * }</pre>
+ *
+ * @author Korovin Anatoliy
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements RequestBodyAdvice, ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter,
+                            Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage,
+                                           MethodParameter parameter,
+                                           Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        ServerTimingInstrumentation.startRead();
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body,
+                                HttpInputMessage inputMessage,
+                                MethodParameter parameter,
+                                Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        ServerTimingInstrumentation.finishRead();
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(Object body,
+                                  HttpInputMessage inputMessage,
+                                  MethodParameter parameter,
+                                  Type targetType,
+                                  Class<? extends HttpMessageConverter<?>> converterType) {
+        ServerTimingInstrumentation.finishRead();
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        ServerTimingInstrumentation.startWrite();
+        return body;
+    }
+}
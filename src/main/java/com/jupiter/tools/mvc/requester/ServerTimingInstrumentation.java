@@ -0,0 +1,288 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.ConfigurableMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcConfigurer;
+import org.springframework.test.web.servlet.setup.StandaloneMockMvcBuilder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMessageConverterMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMessageConverterMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Registers the timing filter in the MockMvc (see {@link ServerTimings#instrumentation()}). In the standalone setup
+ * it registers the timing interceptor and, when the MockMvc is created, decorates processors of request
+ * and response bodies in the adapter of the context which the builder created (the user configuration
+ * like the controller advice is already applied there). Message converters are not changed,
+ * and the web application context is not changed at all, it uses the {@link ServerTimingAdvice}.
+ * <p>
+ * The filter puts a {@link Recorder} in request attributes, the interceptor, processors and the advice
+ * find it by the request attributes of the current thread and add their timestamps,
+ * at the end the filter replaces the recorder by the immutable {@link ServerTimings}.
+ *
+ * @author Korovin Anatoliy
+ */
+class ServerTimingInstrumentation implements MockMvcConfigurer {
+
+    @Override
+    public void afterConfigurerAdded(ConfigurableMockMvcBuilder<?> builder) {
+        builder.addFilters(new TimingFilter());
+        if (builder instanceof StandaloneMockMvcBuilder) {
+            ((StandaloneMockMvcBuilder) builder).addInterceptors(new TimingInterceptor());
+        }
+    }
+
+    @Override
+    public RequestPostProcessor beforeMockMvcCreated(ConfigurableMockMvcBuilder<?> builder,
+                                                     WebApplicationContext context) {
+        // the standalone builder creates its own context on each build, so it's already configured by the user,
+        // advice can't be added to the created adapter and body processors are decorated instead
+        if (builder instanceof StandaloneMockMvcBuilder && context.getBeansOfType(ServerTimingAdvice.class).isEmpty()) {
+            for (RequestMappingHandlerAdapter adapter : context.getBeansOfType(RequestMappingHandlerAdapter.class).values()) {
+                adapter.setArgumentResolvers(decorateResolvers(adapter.getArgumentResolvers()));
+                adapter.setReturnValueHandlers(decorateHandlers(adapter.getReturnValueHandlers()));
+            }
+        }
+        return null;
+    }
+
+    private static List<HandlerMethodArgumentResolver> decorateResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        List<HandlerMethodArgumentResolver> decorated = new ArrayList<>(resolvers.size());
+        for (HandlerMethodArgumentResolver resolver : resolvers) {
+            decorated.add(resolver instanceof AbstractMessageConverterMethodArgumentResolver
+                          ? new TimingArgumentResolver(resolver)
+                          : resolver);
+        }
+        return decorated;
+    }
+
+    private static List<HandlerMethodReturnValueHandler> decorateHandlers(List<HandlerMethodReturnValueHandler> handlers) {
+        List<HandlerMethodReturnValueHandler> decorated = new ArrayList<>(handlers.size());
+        for (HandlerMethodReturnValueHandler handler : handlers) {
+            decorated.add(handler instanceof AbstractMessageConverterMethodProcessor
+                          ? new TimingReturnValueHandler(handler)
+                          : handler);
+        }
+        return decorated;
+    }
+
+    static void startRead() {
+        Recorder recorder = currentRecorder();
+        if (recorder != null) {
+            recorder.readStart = System.nanoTime();
+        }
+    }
+
+    static void finishRead() {
+        Recorder recorder = currentRecorder();
+        if (recorder != null && recorder.readStart != 0) {
+            recorder.readNanos += System.nanoTime() - recorder.readStart;
+            recorder.readStart = 0;
+        }
+    }
+
+    static void startWrite() {
+        Recorder recorder = currentRecorder();
+        if (recorder != null) {
+            recorder.writeStart = System.nanoTime();
+        }
+    }
+
+    static void finishWrite() {
+        Recorder recorder = currentRecorder();
+        if (recorder != null) {
+            recorder.writeEnd = System.nanoTime();
+        }
+    }
+
+    private static Recorder currentRecorder() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object recorder = attributes.getAttribute(ServerTimings.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return recorder instanceof Recorder ? (Recorder) recorder : null;
+    }
+
+    /**
+     * Timestamps of the request, it's used by the single thread of the request
+     */
+    private static final class Recorder {
+
+        private final long start = System.nanoTime();
+        private long handlerStart;
+        private long handlerEnd;
+        private long completionEnd;
+        private long readStart;
+        private long readNanos;
+        private long writeStart;
+        private long writeEnd;
+
+        private ServerTimings finish() {
+            long end = System.nanoTime();
+            long total = end - start;
+            if (handlerStart == 0) {
+                // the interceptor didn't run (it isn't registered or the handler isn't found),
+                // so the time of the handler is unknown and it stays in filters
+                long write = writeStart != 0 ? (writeEnd != 0 ? writeEnd : end) - writeStart : 0;
+                return new ServerTimings(total, Math.max(total - readNanos - write, 0), 0, readNanos, write, 0);
+            }
+            long handlerFinish = handlerEnd != 0 ? handlerEnd : completionEnd != 0 ? completionEnd : end;
+            long completionFinish = completionEnd != 0 ? completionEnd : handlerFinish;
+            // without the end of the writing (the advice) the response body is written until the end of the handler
+            long writeFinish = writeEnd != 0 ? writeEnd : handlerFinish;
+            long write = writeStart != 0 ? Math.max(writeFinish - writeStart, 0) : 0;
+            long handler = handlerFinish - handlerStart - readNanos - write;
+            long completion = completionFinish - handlerFinish;
+            return new ServerTimings(total,
+                                     total - (completionFinish - handlerStart),
+                                     Math.max(handler, 0),
+                                     readNanos,
+                                     write,
+                                     completion);
+        }
+    }
+
+    /**
+     * Measures the total time of the request
+     */
+    private static final class TimingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            Recorder recorder = new Recorder();
+            request.setAttribute(ServerTimings.ATTRIBUTE, recorder);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                request.setAttribute(ServerTimings.ATTRIBUTE, recorder.finish());
+            }
+        }
+    }
+
+    /**
+     * Measures the time of the handler and the completion after it
+     */
+    static final class TimingInterceptor implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            Recorder recorder = recorder(request);
+            if (recorder != null) {
+                recorder.handlerStart = System.nanoTime();
+            }
+            return true;
+        }
+
+        @Override
+        public void postHandle(HttpServletRequest request,
+                               HttpServletResponse response,
+                               Object handler,
+                               ModelAndView modelAndView) {
+            Recorder recorder = recorder(request);
+            if (recorder != null) {
+                recorder.handlerEnd = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    Object handler,
+                                    Exception ex) {
+            Recorder recorder = recorder(request);
+            if (recorder != null) {
+                recorder.completionEnd = System.nanoTime();
+            }
+        }
+
+        private static Recorder recorder(HttpServletRequest request) {
+            Object recorder = request.getAttribute(ServerTimings.ATTRIBUTE);
+            return recorder instanceof Recorder ? (Recorder) recorder : null;
+        }
+    }
+
+    /**
+     * Measures the reading of the request body by the argument resolver
+     */
+    private static final class TimingArgumentResolver implements HandlerMethodArgumentResolver {
+
+        private final HandlerMethodArgumentResolver resolver;
+
+        private TimingArgumentResolver(HandlerMethodArgumentResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return resolver.supportsParameter(parameter);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter,
+                                      ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest,
+                                      WebDataBinderFactory binderFactory) throws Exception {
+            startRead();
+            try {
+                return resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+            } finally {
+                finishRead();
+            }
+        }
+    }
+
+    /**
+     * Measures the writing of the response body by the return value handler
+     */
+    private static final class TimingReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+        private final HandlerMethodReturnValueHandler handler;
+
+        private TimingReturnValueHandler(HandlerMethodReturnValueHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean supportsReturnType(MethodParameter returnType) {
+            return handler.supportsReturnType(returnType);
+        }
+
+        @Override
+        public void handleReturnValue(Object returnValue,
+                                      MethodParameter returnType,
+                                      ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest) throws Exception {
+            startWrite();
+            try {
+                handler.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            } finally {
+                finishWrite();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.test.web.servlet.setup.MockMvcConfigurer;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Breakdown of the time which the server spent to handle a MockMvc request:
+ * <ul>
+ * <li>filters - filters and the dispatcher servlet before and after the handler (like security filters
+ * and the lookup of the handler)</li>
+ * <li>handler - the controller method and argument resolvers, without reading and writing of bodies,
+ * it's zero when the timing interceptor didn't run and then the time of the handler stays in filters</li>
+ * <li>read - conversion of the request body by message converters</li>
+ * <li>write - conversion of the response body by message converters</li>
+ * <li>completion - rendering of the view and resolution of exceptions after the handler</li>
+ * </ul>
+ * Timings are measured by the instrumentation which is registered in the MockMvc builder
+ * (see {@link #instrumentation()} and {@link MvcRequester#instrumented}),
+ * and they are returned by {@link MvcRequestResult#returnServerTimings()}.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class ServerTimings {
+
+    /**
+     * name of the request attribute with timings
+     */
+    static final String ATTRIBUTE = ServerTimings.class.getName();
+
+    private final long totalNanos;
+    private final long filtersNanos;
+    private final long handlerNanos;
+    private final long readNanos;
+    private final long writeNanos;
+    private final long completionNanos;
+
+    ServerTimings(long totalNanos,
+                  long filtersNanos,
+                  long handlerNanos,
+                  long readNanos,
+                  long writeNanos,
+                  long completionNanos) {
+        this.totalNanos = totalNanos;
+        this.filtersNanos = filtersNanos;
+        this.handlerNanos = handlerNanos;
+        this.readNanos = readNanos;
+        this.writeNanos = writeNanos;
+        this.completionNanos = completionNanos;
+    }
+
+    /**
+     * Instrumentation of the MockMvc which measures timings of requests:
+     * <pre>{@code
+     * MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+     *                                  .apply(ServerTimings.instrumentation())
+     *                                  .build();
+     * }</pre>
+     * It registers a timing filter (apply it before other filters to count them), and in the standalone setup
+     * a timing interceptor and timing decorators of body processors, which are added when the MockMvc is built,
+     * so they don't depend on the order of the configuration. Message converters are not changed.
+     * With the web application context register the interceptor by {@link #interceptor()}
+     * and import the {@link ServerTimingAdvice} in the configuration of the application,
+     * otherwise the handler is unknown and bodies are not measured.
+     *
+     * @return MockMvcConfigurer
+     */
+    public static MockMvcConfigurer instrumentation() {
+        return new ServerTimingInstrumentation();
+    }
+
+    /**
+     * @return interceptor which measures the time of handlers
+     */
+    public static HandlerInterceptor interceptor() {
+        return new ServerTimingInstrumentation.TimingInterceptor();
+    }
+
+    /**
+     * @return total time of the request in the server, from the timing filter
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * @return time of filters and the dispatcher servlet
+     */
+    public Duration getFilters() {
+        return Duration.ofNanos(filtersNanos);
+    }
+
+    /**
+     * @return time of the handler without reading and writing of bodies
+     */
+    public Duration getHandler() {
+        return Duration.ofNanos(handlerNanos);
+    }
+
+    /**
+     * @return time of reading of the request body by message converters
+     */
+    public Duration getRead() {
+        return Duration.ofNanos(readNanos);
+    }
+
+    /**
+     * @return time of writing of the response body by message converters
+     */
+    public Duration getWrite() {
+        return Duration.ofNanos(writeNanos);
+    }
+
+    /**
+     * @return time of the view rendering and the exception resolution after the handler
+     */
+    public Duration getCompletion() {
+        return Duration.ofNanos(completionNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                             "total: %.3f ms, filters: %.3f ms, handler: %.3f ms, " +
+                             "read: %.3f ms, write: %.3f ms, completion: %.3f ms",
+                             totalNanos / 1e6, filtersNanos / 1e6, handlerNanos / 1e6,
+                             readNanos / 1e6, writeNanos / 1e6, completionNanos / 1e6);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Response which doesn't print anything, all other methods are delegated to the origin response.
+ *
+ * @author Korovin Anatoliy
+ */
+class SilentTransportResponse implements MvcTransportResponse {
+
+    private final MvcTransportResponse origin;
+
+    SilentTransportResponse(MvcTransportResponse origin) {
+        this.origin = origin;
+    }
+
+    MvcTransportResponse getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public int getStatus() {
+        return origin.getStatus();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return origin.getHeader(name);
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        return origin.getHeaders(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return origin.getHeaderNames();
+    }
+
+    @Override
+    public byte[] getContentAsByteArray() {
+        return origin.getContentAsByteArray();
+    }
+
+    @Override
+    public String getContentDigest() {
+        return origin.getContentDigest();
+    }
+
+    @Override
+    public <T> Stream<T> streamContent(ObjectReader reader) {
+        return origin.streamContent(reader);
+    }
+
+    @Override
+    public MvcResult getMvcResult() {
+        return origin.getMvcResult();
+    }
+
+    @Override
+    public void print() {
+        // printing is disabled
+    }
+}
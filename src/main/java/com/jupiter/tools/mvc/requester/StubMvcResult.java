@@ -0,0 +1,72 @@
+package com.jupiter.tools.mvc.requester;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * {@link MvcResult} which contains only the request and the response,
+ * it is used to apply MockMvc result matchers to responses of other transports.
+ *
+ * @author Korovin Anatoliy
+ */
+class StubMvcResult implements MvcResult {
+
+    private final MockHttpServletRequest request;
+    private final MockHttpServletResponse response;
+
+    StubMvcResult(MockHttpServletRequest request, MockHttpServletResponse response) {
+        this.request = request;
+        this.response = response;
+    }
+
+    @Override
+    public MockHttpServletRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public MockHttpServletResponse getResponse() {
+        return response;
+    }
+
+    @Override
+    public Object getHandler() {
+        return null;
+    }
+
+    @Override
+    public HandlerInterceptor[] getInterceptors() {
+        return null;
+    }
+
+    @Override
+    public ModelAndView getModelAndView() {
+        return null;
+    }
+
+    @Override
+    public Exception getResolvedException() {
+        return null;
+    }
+
+    @Override
+    public FlashMap getFlashMap() {
+        return null;
+    }
+
+    @Override
+    public Object getAsyncResult() {
+        return null;
+    }
+
+    @Override
+    public Object getAsyncResult(long timeToWait) {
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Map;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Mono;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Transport which makes requests by the {@link WebTestClient}, so the same
+ * fluent API can be used to test WebFlux applications.
+ * <p>
+ * Request parameters are sent in the query string,
+ * MockMvc post-processors are applied to a stub servlet request
+ * and only the headers which they set are sent.
+ *
+ * @author Korovin Anatoliy
+ */
+class WebTestClientTransport implements MvcTransport {
+
+    private final WebTestClient webTestClient;
+
+    WebTestClientTransport(WebTestClient webTestClient) {
+        this.webTestClient = webTestClient;
+    }
+
+    @Override
+    public MvcTransportResponse perform(MvcRequestSpec request) {
+
+        WebTestClient.RequestBodySpec spec = webTestClient.method(request.getMethod())
+                                                          .uri(request.getUriWithQueryParams())
+                                                          .headers(headers -> prepareHeaders(headers, request));
+
+        if (request.isMultipart()) {
+            spec.body(BodyInserters.fromMultipartData(makeMultipartBody(request.getFiles())));
+        } else if (request.getContent() != null) {
+            spec.body(BodyInserters.fromPublisher(Mono.just(request.getContent()), byte[].class));
+        }
+
+        FluxExchangeResult<DataBuffer> result = spec.exchange()
+                                                    .returnResult(DataBuffer.class);
+
+        return new WebTestClientTransportResponse(result);
+    }
+
+    private void prepareHeaders(HttpHeaders headers, MvcRequestSpec request) {
+        if (request.getContentType() != null && !request.isMultipart()) {
+            headers.setContentType(request.getContentType());
+        }
+        request.forEachHeader(headers::add);
+        request.forEachPostProcessedHeader(headers::add);
+    }
+
+    private MultiValueMap<String, HttpEntity<?>> makeMultipartBody(Map<String, MvcRequestFileData> files) {
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        files.forEach((fieldName, data) -> {
+            ByteArrayResource resource = new ByteArrayResource(data.getFileData()) {
+                @Override
+                public String getFilename() {
+                    return data.getOriginalFileName();
+                }
+            };
+            MediaType contentType = data.getMimeType() == null
+                                    ? null
+                                    : new MediaType(data.getMimeType().getType(),
+                                                    data.getMimeType().getSubtype(),
+                                                    data.getMimeType().getParameters());
+            builder.part(fieldName, resource, contentType);
+        });
+        return builder.build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.jupiter.tools.mvc.requester.SneakyThrow.wrap;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Response of the {@link WebTestClientTransport}.
+ * <p>
+ * The body is received as a stream of {@link DataBuffer}, it is joined in a single
+ * byte array only when some method needs the whole content, {@link #streamContent(ObjectReader)}
+ * reads elements directly from the buffers. The body can be consumed only once
+ * in the form of a stream.
+ *
+ * @author Korovin Anatoliy
+ */
+class WebTestClientTransportResponse implements MvcTransportResponse {
+
+    private final FluxExchangeResult<DataBuffer> result;
+    private byte[] content;
+    private boolean streamed;
+    private MvcResult mvcResult;
+
+    WebTestClientTransportResponse(FluxExchangeResult<DataBuffer> result) {
+        this.result = result;
+    }
+
+    @Override
+    public int getStatus() {
+        return result.getStatus().value();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return result.getResponseHeaders().getFirst(name);
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+        List<String> values = result.getResponseHeaders().get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return result.getResponseHeaders().keySet();
+    }
+
+    @Override
+    public synchronized byte[] getContentAsByteArray() {
+        if (content == null) {
+            assertNotStreamed();
+            DataBuffer joined = DataBufferUtils.join(result.getResponseBody()).block();
+            content = joined == null ? new byte[0] : readAndRelease(joined);
+        }
+        return content;
+    }
+
+    @Override
+    public synchronized <T> Stream<T> streamContent(ObjectReader reader) {
+        if (content != null) {
+            return JsonStreams.stream(wrap(() -> reader.readValues(content)));
+        }
+        assertNotStreamed();
+        streamed = true;
+        Iterator<DataBuffer> buffers = result.getResponseBody().toIterable().iterator();
+        InputStream body = new SequenceInputStream(new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return buffers.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return buffers.next().asInputStream(true);
+            }
+        });
+        return JsonStreams.stream(wrap(() -> reader.readValues(body)));
+    }
+
+    @Override
+    public synchronized MvcResult getMvcResult() {
+        if (mvcResult == null) {
+            mvcResult = BufferedTransportResponse.makeMvcResult(result.getMethod(),
+                                                                result.getUrl(),
+                                                                getStatus(),
+                                                                result.getResponseHeaders(),
+                                                                getContentAsByteArray());
+        }
+        return mvcResult;
+    }
+
+    /**
+     * Print the request line, status and headers of the response,
+     * the body is not printed to keep it available for streaming.
+     */
+    @Override
+    public void print() {
+        System.out.println();
+        System.out.println("WebTestClient request:");
+        System.out.println("    " + result.getMethod() + " " + result.getUrl());
+        System.out.println("    Headers = " + result.getRequestHeaders());
+        System.out.println("WebTestClient response:");
+        System.out.println("    Status = " + getStatus());
+        System.out.println("    Headers = " + result.getResponseHeaders());
+    }
+
+    private void assertNotStreamed() {
+        if (streamed) {
+            throw new IllegalStateException("The response body was already consumed as a stream");
+        }
+    }
+
+    private static byte[] readAndRelease(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jupiter.tools.mvc.requester.auth;
+
+import java.time.Duration;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Token which was obtained from a login endpoint with its lifetime,
+ * it's returned by the login function of {@link Credentials#refreshing}.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class AccessToken {
+
+    private final String token;
+    private final Duration expiresIn;
+
+    private AccessToken(String token, Duration expiresIn) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Access token can't be blank");
+        }
+        if (expiresIn != null && (expiresIn.isNegative() || expiresIn.isZero())) {
+            throw new IllegalArgumentException("Lifetime of the access token must be positive");
+        }
+        this.token = token;
+        this.expiresIn = expiresIn;
+    }
+
+    /**
+     * @param token     bearer token
+     * @param expiresIn lifetime of the token from the moment of the login, like `expires_in` of the OAuth response
+     * @return AccessToken
+     */
+    public static AccessToken of(String token, Duration expiresIn) {
+        return new AccessToken(token, expiresIn);
+    }
+
+    /**
+     * @param token bearer token which never expires
+     * @return AccessToken
+     */
+    public static AccessToken of(String token) {
+        return new AccessToken(token, null);
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * @return lifetime of the token, or null if the token never expires
+     */
+    public Duration getExpiresIn() {
+        return expiresIn;
+    }
+}
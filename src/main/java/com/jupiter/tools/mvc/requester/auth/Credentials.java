@@ -0,0 +1,86 @@
+package com.jupiter.tools.mvc.requester.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Factory of {@link CredentialsProvider}s, the value of the header is formatted once
+ * and shared by all requests and threads:
+ * <pre>{@code
+ * CredentialsProvider credentials = Credentials.refreshing(() -> {
+ *     Map<String, Object> login = requester.to("/oauth/token")
+ *                                          .withBasicAuth("client", "secret")
+ *                                          .post()
+ *                                          .returnAs(Map.class);
+ *     return AccessToken.of((String) login.get("access_token"),
+ *                           Duration.ofSeconds(((Number) login.get("expires_in")).longValue()));
+ * }, Duration.ofSeconds(30));
+ *
+ * MvcRequester secured = requester.withCredentials(credentials);
+ * }</pre>
+ *
+ * @author Korovin Anatoliy
+ */
+public final class Credentials {
+
+    private Credentials() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * @param token OAuth token, requests are sent without the header when the token is blank
+     * @return provider of the `Bearer` header
+     */
+    public static CredentialsProvider bearer(String token) {
+        String authorization = bearerAuthorization(token);
+        return () -> authorization;
+    }
+
+    /**
+     * @param username name of the user
+     * @param password password of the user
+     * @return provider of the `Basic` header
+     */
+    public static CredentialsProvider basic(String username, String password) {
+        String authorization = basicAuthorization(username, password);
+        return () -> authorization;
+    }
+
+    /**
+     * Provider of the `Bearer` header with a token obtained by the login function.
+     * The first request makes the login, other threads wait for it. When the token is about to expire,
+     * the next request refreshes it while other threads keep using the current token,
+     * requests wait only when the token has already expired.
+     *
+     * @param login         function which makes a login, like a request to the token endpoint
+     * @param refreshBefore time before the expiry of the token when it is refreshed
+     * @return RefreshingCredentials
+     */
+    public static RefreshingCredentials refreshing(Supplier<AccessToken> login, Duration refreshBefore) {
+        return new RefreshingCredentials(login, refreshBefore, System::nanoTime);
+    }
+
+    /**
+     * @param token OAuth token
+     * @return value of the Authorization header, or null if the token is blank
+     */
+    public static String bearerAuthorization(String token) {
+        return isNotBlank(token) ? "Bearer " + token : null;
+    }
+
+    /**
+     * @param username name of the user
+     * @param password password of the user
+     * @return value of the Authorization header
+     */
+    public static String basicAuthorization(String username, String password) {
+        byte[] credentials = (username + ":" + password).getBytes(StandardCharsets.UTF_8);
+        return "Basic " + Base64.getEncoder().encodeToString(credentials);
+    }
+}
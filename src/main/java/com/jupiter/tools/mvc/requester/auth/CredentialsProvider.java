@@ -0,0 +1,21 @@
+package com.jupiter.tools.mvc.requester.auth;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Source of the value of the Authorization header, it is asked before each request.
+ * Implementations are shared by threads of parallel tests and load runs,
+ * so they must be thread-safe and should return a preformatted value.
+ *
+ * @author Korovin Anatoliy
+ * @see Credentials
+ */
+@FunctionalInterface
+public interface CredentialsProvider {
+
+    /**
+     * @return value of the Authorization header, like `Bearer 12345`,
+     * or null to send the request without the header
+     */
+    String getAuthorization();
+}
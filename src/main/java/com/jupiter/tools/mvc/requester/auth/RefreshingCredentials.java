@@ -0,0 +1,119 @@
+package com.jupiter.tools.mvc.requester.auth;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Provider of the `Bearer` header with a short-lived token, which is obtained by a login function
+ * and refreshed in advance (see {@link Credentials#refreshing}).
+ * <p>
+ * Requests read the current header from a volatile field without locks.
+ * Only one thread makes the login at a time: before the expiry the refresh is made
+ * by the thread which acquired the lock and others keep the current header,
+ * after the expiry (or before the first login) all threads wait for the new token.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class RefreshingCredentials implements CredentialsProvider {
+
+    private final Supplier<AccessToken> login;
+    private final long refreshBeforeNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state;
+
+    RefreshingCredentials(Supplier<AccessToken> login, Duration refreshBefore, LongSupplier nanoClock) {
+        if (refreshBefore.isNegative()) {
+            throw new IllegalArgumentException("Time of the refresh before the expiry can't be negative");
+        }
+        this.login = login;
+        this.refreshBeforeNanos = refreshBefore.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public String getAuthorization() {
+        State current = state;
+        long now = nanoClock.getAsLong();
+        if (current != null && now - current.refreshAt < 0) {
+            return current.authorization;
+        }
+        if (current != null && now - current.expireAt < 0) {
+            // the token is still valid, refresh it in one thread without blocking others
+            if (!lock.tryLock()) {
+                return current.authorization;
+            }
+            try {
+                State actual = state;
+                if (actual != current && actual != null) {
+                    return actual.authorization;
+                }
+                return refresh().authorization;
+            } catch (RuntimeException e) {
+                // the next request will try again until the token expires
+                return current.authorization;
+            } finally {
+                lock.unlock();
+            }
+        }
+        lock.lock();
+        try {
+            State actual = state;
+            if (actual != current && actual != null && nanoClock.getAsLong() - actual.expireAt < 0) {
+                return actual.authorization;
+            }
+            return refresh().authorization;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the current token, so the next request makes a new login,
+     * for example after the response with the 401 status.
+     */
+    public void invalidate() {
+        state = null;
+    }
+
+    private State refresh() {
+        long start = nanoClock.getAsLong();
+        AccessToken token = login.get();
+        if (token == null) {
+            throw new IllegalStateException("Login function returned no access token");
+        }
+        State refreshed = new State(Credentials.bearerAuthorization(token.getToken()),
+                                    start,
+                                    token.getExpiresIn(),
+                                    refreshBeforeNanos);
+        state = refreshed;
+        return refreshed;
+    }
+
+    /**
+     * Preformatted header with deadlines in the time of the nano clock
+     */
+    private static final class State {
+
+        private final String authorization;
+        private final long refreshAt;
+        private final long expireAt;
+
+        private State(String authorization, long obtainedAt, Duration expiresIn, long refreshBeforeNanos) {
+            this.authorization = authorization;
+            if (expiresIn == null) {
+                // the token never expires, deadlines are moved to the farthest point of the clock
+                this.expireAt = obtainedAt + Long.MAX_VALUE;
+                this.refreshAt = this.expireAt;
+            } else {
+                long lifetime = expiresIn.toNanos();
+                this.expireAt = obtainedAt + lifetime;
+                this.refreshAt = obtainedAt + Math.max(lifetime - refreshBeforeNanos, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.jupiter.tools.mvc.requester.baseline;
+
+import java.util.Locale;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of the comparison of a request measurement with the {@link PerformanceBaseline}
+ *
+ * @author Korovin Anatoliy
+ */
+public class BaselineComparison {
+
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    private final String endpoint;
+    private final boolean recorded;
+    private final long baselineLatencyNanos;
+    private final long currentLatencyNanos;
+    private final double pValue;
+    private final boolean latencyRegression;
+    private final long baselineAllocatedBytes;
+    private final long currentAllocatedBytes;
+    private final boolean allocationRegression;
+
+    BaselineComparison(String endpoint,
+                       boolean recorded,
+                       long baselineLatencyNanos,
+                       long currentLatencyNanos,
+                       double pValue,
+                       boolean latencyRegression,
+                       long baselineAllocatedBytes,
+                       long currentAllocatedBytes,
+                       boolean allocationRegression) {
+        this.endpoint = endpoint;
+        this.recorded = recorded;
+        this.baselineLatencyNanos = baselineLatencyNanos;
+        this.currentLatencyNanos = currentLatencyNanos;
+        this.pValue = pValue;
+        this.latencyRegression = latencyRegression;
+        this.baselineAllocatedBytes = baselineAllocatedBytes;
+        this.currentAllocatedBytes = currentAllocatedBytes;
+        this.allocationRegression = allocationRegression;
+    }
+
+    /**
+     * @return HTTP method and the URI template of the request
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return true if the measurement was recorded as a new baseline instead of the comparison
+     */
+    public boolean isRecorded() {
+        return recorded;
+    }
+
+    /**
+     * @return true if the latency or allocations regressed
+     */
+    public boolean isRegression() {
+        return latencyRegression || allocationRegression;
+    }
+
+    /**
+     * @return true if the latency is significantly greater than the baseline
+     */
+    public boolean isLatencyRegression() {
+        return latencyRegression;
+    }
+
+    /**
+     * @return true if the request allocates more than the baseline
+     */
+    public boolean isAllocationRegression() {
+        return allocationRegression;
+    }
+
+    /**
+     * @return p-value of the Mann-Whitney test that the current latency is greater than the baseline
+     */
+    public double getPValue() {
+        return pValue;
+    }
+
+    /**
+     * @return median latency of the baseline in nanoseconds
+     */
+    public long getBaselineLatencyNanos() {
+        return baselineLatencyNanos;
+    }
+
+    /**
+     * @return median latency of the current measurement in nanoseconds
+     */
+    public long getCurrentLatencyNanos() {
+        return currentLatencyNanos;
+    }
+
+    /**
+     * @return median allocated bytes of the baseline
+     */
+    public long getBaselineAllocatedBytes() {
+        return baselineAllocatedBytes;
+    }
+
+    /**
+     * @return median allocated bytes of the current measurement
+     */
+    public long getCurrentAllocatedBytes() {
+        return currentAllocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        if (recorded) {
+            return String.format(Locale.ROOT, "%s: recorded the baseline, latency p50 = %.3f ms, allocated = %d bytes",
+                                 endpoint, currentLatencyNanos / NANOS_IN_MILLI, currentAllocatedBytes);
+        }
+        return String.format(Locale.ROOT,
+                             "%s: %s, latency p50 = %.3f ms (baseline %.3f ms, p-value %.4f), " +
+                             "allocated = %d bytes (baseline %d bytes)",
+                             endpoint,
+                             isRegression() ? "REGRESSION" : "ok",
+                             currentLatencyNanos / NANOS_IN_MILLI,
+                             baselineLatencyNanos / NANOS_IN_MILLI,
+                             pValue,
+                             currentAllocatedBytes,
+                             baselineAllocatedBytes);
+    }
+}
@@ -0,0 +1,79 @@
+package com.jupiter.tools.mvc.requester.baseline;
+
+import com.jupiter.tools.mvc.requester.RequestMeasurement;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Reference measurement of a single endpoint in the baseline file,
+ * percentiles are stored for people who read the file, samples are used for the comparison.
+ *
+ * @author Korovin Anatoliy
+ */
+class BaselineEntry {
+
+    private long p50Nanos;
+    private long p90Nanos;
+    private long p99Nanos;
+    private long allocatedBytes;
+    private long[] latencySamples;
+
+    BaselineEntry() {
+    }
+
+    static BaselineEntry of(RequestMeasurement measurement) {
+        long[] samples = measurement.getLatencySamples();
+        Histogram histogram = new Histogram(3);
+        for (long sample : samples) {
+            histogram.recordValue(sample);
+        }
+        BaselineEntry entry = new BaselineEntry();
+        entry.p50Nanos = histogram.getValueAtPercentile(50);
+        entry.p90Nanos = histogram.getValueAtPercentile(90);
+        entry.p99Nanos = histogram.getValueAtPercentile(99);
+        entry.allocatedBytes = measurement.getAllocatedBytes();
+        entry.latencySamples = samples;
+        return entry;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public void setP50Nanos(long p50Nanos) {
+        this.p50Nanos = p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public void setP90Nanos(long p90Nanos) {
+        this.p90Nanos = p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public void setP99Nanos(long p99Nanos) {
+        this.p99Nanos = p99Nanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long[] getLatencySamples() {
+        return latencySamples;
+    }
+
+    public void setLatencySamples(long[] latencySamples) {
+        this.latencySamples = latencySamples;
+    }
+}
@@ -0,0 +1,85 @@
+package com.jupiter.tools.mvc.requester.baseline;
+
+import java.util.Arrays;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * One-sided Mann-Whitney U test with the normal approximation,
+ * it doesn't assume a normal distribution of latencies and is robust to outliers.
+ *
+ * @author Korovin Anatoliy
+ */
+final class MannWhitneyTest {
+
+    private MannWhitneyTest() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * Probability to observe such or greater shift of the current sample
+     * when both samples have the same distribution.
+     *
+     * @param baseline reference sample
+     * @param current  current sample
+     * @return p-value of the hypothesis that current values are greater than baseline values
+     */
+    static double pValueGreater(long[] baseline, long[] current) {
+        int n1 = current.length;
+        int n2 = baseline.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+        int n = n1 + n2;
+        long[][] values = new long[n][];
+        for (int i = 0; i < n1; i++) {
+            values[i] = new long[]{current[i], 1};
+        }
+        for (int i = 0; i < n2; i++) {
+            values[n1 + i] = new long[]{baseline[i], 0};
+        }
+        Arrays.sort(values, (a, b) -> Long.compare(a[0], b[0]));
+
+        double currentRankSum = 0;
+        double tieCorrection = 0;
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && values[j + 1][0] == values[i][0]) {
+                j++;
+            }
+            // average rank of the group of equal values, ranks start from one
+            double rank = (i + j + 2) / 2.0;
+            int ties = j - i + 1;
+            for (int k = i; k <= j; k++) {
+                if (values[k][1] == 1) {
+                    currentRankSum += rank;
+                }
+            }
+            tieCorrection += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = currentRankSum - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        // continuity correction
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    /**
+     * Cumulative distribution function of the standard normal distribution,
+     * by the approximation of the error function with the maximum error 1.5e-7
+     */
+    private static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t + 0.254829592)
+                         * t * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,251 @@
+package com.jupiter.tools.mvc.requester.baseline;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.RequestMeasurement;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Local file with reference measurements of endpoints (keyed by the HTTP method and the URI template),
+ * later measurements are compared with the reference to catch performance regressions:
+ * <pre>{@code
+ * PerformanceBaseline baseline = PerformanceBaseline.load(Paths.get("src/test/resources/perf-baseline.json"));
+ *
+ * RequestMeasurement measurement = requester.to("/orders/{id}", 1)
+ *                                           .withMeasurement(10, 30)
+ *                                           .get()
+ *                                           .expectStatus(OK)
+ *                                           .returnMeasurement();
+ * baseline.verify(measurement);
+ * }</pre>
+ * When the file doesn't contain the endpoint, the measurement is recorded as the reference.
+ * To record all endpoints again, set the system property {@value #UPDATE_PROPERTY} to true.
+ * <p>
+ * Latencies are compared by the one-sided Mann-Whitney U test: a regression is reported
+ * when the p-value is below the significance level and the median grows more than the tolerance.
+ * With a few samples the p-value can't reach the significance level, so measurements
+ * with less than {@value #MIN_RUNS} runs are rejected: set measured runs by
+ * {@code MvcRequestPointed#withMeasurement(int, int)}, 20 or more are recommended.
+ * Allocations are compared by the median with the same relative tolerance.
+ *
+ * @author Korovin Anatoliy
+ */
+public class PerformanceBaseline {
+
+    /**
+     * system property to record new baselines of all verified endpoints
+     */
+    public static final String UPDATE_PROPERTY = "mvc-requester.baseline.update";
+    /**
+     * minimum count of measured runs, the Mann-Whitney test can't detect a regression with less samples
+     */
+    public static final int MIN_RUNS = 5;
+    /**
+     * growth of allocations which is ignored regardless of the tolerance, to skip lazy initializations
+     */
+    private static final long ALLOCATION_SLACK_BYTES = 1024;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path file;
+    /**
+     * entries are shared by copies with other settings, they are guarded by the lock of the map
+     */
+    private final Map<String, BaselineEntry> entries;
+    private final double significance;
+    private final double tolerance;
+    private final Consumer<String> warnings;
+    private final boolean update;
+
+    private PerformanceBaseline(Path file,
+                                Map<String, BaselineEntry> entries,
+                                double significance,
+                                double tolerance,
+                                Consumer<String> warnings,
+                                boolean update) {
+        this.file = file;
+        this.entries = entries;
+        this.significance = significance;
+        this.tolerance = tolerance;
+        this.warnings = warnings;
+        this.update = update;
+    }
+
+    private PerformanceBaseline(Path file, Map<String, BaselineEntry> entries) {
+        this(file, entries, 0.01, 0.1, null, Boolean.getBoolean(UPDATE_PROPERTY));
+    }
+
+    /**
+     * Load the baseline from the file, it is created with the first recorded measurement
+     *
+     * @param file path to the baseline file
+     * @return PerformanceBaseline
+     */
+    public static PerformanceBaseline load(Path file) {
+        if (!Files.exists(file)) {
+            return new PerformanceBaseline(file, new TreeMap<>());
+        }
+        try {
+            Map<String, BaselineEntry> entries = MAPPER.readValue(file.toFile(),
+                                                                  new TypeReference<TreeMap<String, BaselineEntry>>() {
+                                                                  });
+            return new PerformanceBaseline(file, entries);
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        }
+    }
+
+    /**
+     * @param significance maximum p-value of the latency regression, 0.01 by default
+     * @return copy of this baseline with the selected significance, entries are shared
+     */
+    public PerformanceBaseline withSignificance(double significance) {
+        return new PerformanceBaseline(file, entries, significance, tolerance, warnings, update);
+    }
+
+    /**
+     * @param tolerance allowed relative growth of the median latency and allocations, 0.1 (10%) by default
+     * @return copy of this baseline with the selected tolerance, entries are shared
+     */
+    public PerformanceBaseline withTolerance(double tolerance) {
+        return new PerformanceBaseline(file, entries, significance, tolerance, warnings, update);
+    }
+
+    /**
+     * Report regressions instead of throwing the assertion error, like in the JUnit report:
+     * {@code baseline.warnOnRegression(testReporter::publishEntry)}
+     *
+     * @param warnings receiver of descriptions of regressions
+     * @return copy of this baseline which doesn't fail on regressions, entries are shared
+     */
+    public PerformanceBaseline warnOnRegression(Consumer<String> warnings) {
+        return new PerformanceBaseline(file, entries, significance, tolerance, Objects.requireNonNull(warnings), update);
+    }
+
+    /**
+     * @param update true to record all verified measurements as the new baseline
+     * @return copy of this baseline with the selected mode, entries are shared
+     */
+    public PerformanceBaseline withUpdate(boolean update) {
+        return new PerformanceBaseline(file, entries, significance, tolerance, warnings, update);
+    }
+
+    /**
+     * Compare the measurement with the baseline, or record it when the baseline of the endpoint is missing
+     *
+     * @param measurement measurement of the request
+     * @return BaselineComparison
+     * @throws AssertionError when the measurement regressed and the baseline isn't in the warning mode
+     * @throws IllegalArgumentException when the measurement has less than {@value #MIN_RUNS} runs
+     */
+    public BaselineComparison verify(RequestMeasurement measurement) {
+        checkRuns(measurement.getRuns(), measurement.getEndpoint());
+        BaselineComparison comparison;
+        synchronized (entries) {
+            if (update || !entries.containsKey(measurement.getEndpoint())) {
+                record(measurement);
+                return new BaselineComparison(measurement.getEndpoint(),
+                                              true,
+                                              measurement.getLatency().toNanos(),
+                                              measurement.getLatency().toNanos(),
+                                              1.0,
+                                              false,
+                                              measurement.getAllocatedBytes(),
+                                              measurement.getAllocatedBytes(),
+                                              false);
+            }
+            comparison = compare(measurement);
+        }
+        if (comparison.isRegression()) {
+            if (warnings == null) {
+                throw new AssertionError("Performance regression of " + comparison);
+            }
+            warnings.accept("Performance regression of " + comparison);
+        }
+        return comparison;
+    }
+
+    /**
+     * Compare the measurement with the baseline
+     *
+     * @param measurement measurement of the request
+     * @return BaselineComparison
+     * @throws IllegalStateException when the baseline doesn't contain the endpoint
+     * @throws IllegalArgumentException when the measurement or the baseline has less than {@value #MIN_RUNS} runs
+     */
+    public BaselineComparison compare(RequestMeasurement measurement) {
+        BaselineEntry entry;
+        synchronized (entries) {
+            entry = entries.get(measurement.getEndpoint());
+        }
+        if (entry == null) {
+            throw new IllegalStateException("Baseline doesn't contain the endpoint: " + measurement.getEndpoint());
+        }
+        checkRuns(measurement.getRuns(), measurement.getEndpoint());
+        checkRuns(entry.getLatencySamples().length, "the baseline of " + measurement.getEndpoint());
+        long[] samples = measurement.getLatencySamples();
+        long baselineLatency = RequestMeasurement.median(entry.getLatencySamples());
+        long currentLatency = measurement.getLatency().toNanos();
+        double pValue = MannWhitneyTest.pValueGreater(entry.getLatencySamples(), samples);
+        boolean latencyRegression = pValue < significance &&
+                                    currentLatency > baselineLatency * (1 + tolerance);
+
+        long baselineAllocated = entry.getAllocatedBytes();
+        long currentAllocated = measurement.getAllocatedBytes();
+        boolean allocationRegression = baselineAllocated >= 0 &&
+                                       currentAllocated >= 0 &&
+                                       currentAllocated > baselineAllocated * (1 + tolerance) &&
+                                       currentAllocated - baselineAllocated > ALLOCATION_SLACK_BYTES;
+
+        return new BaselineComparison(measurement.getEndpoint(),
+                                      false,
+                                      baselineLatency,
+                                      currentLatency,
+                                      pValue,
+                                      latencyRegression,
+                                      baselineAllocated,
+                                      currentAllocated,
+                                      allocationRegression);
+    }
+
+    /**
+     * Record the measurement as the baseline of its endpoint and save the file
+     *
+     * @param measurement measurement of the request
+     * @throws IllegalArgumentException when the measurement has less than {@value #MIN_RUNS} runs
+     */
+    public void record(RequestMeasurement measurement) {
+        checkRuns(measurement.getRuns(), measurement.getEndpoint());
+        synchronized (entries) {
+            entries.put(measurement.getEndpoint(), BaselineEntry.of(measurement));
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                MAPPER.writeValue(file.toFile(), entries);
+            } catch (IOException e) {
+                throw new MvcRequestException(e);
+            }
+        }
+    }
+
+    private static void checkRuns(int runs, String endpoint) {
+        if (runs < MIN_RUNS) {
+            throw new IllegalArgumentException("Measurement of " + endpoint + " has " + runs + " runs, at least " +
+                                               MIN_RUNS + " runs are required to detect a regression, " +
+                                               "use withMeasurement(warmupRuns, measuredRuns)");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.jupiter.tools.mvc.requester.bulk;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of a bulk run, the latency histogram is recorded in nanoseconds.
+ *
+ * @author Korovin Anatoliy
+ */
+public class BulkReport {
+
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    private final long requests;
+    private final long passed;
+    private final long mismatches;
+    private final long errors;
+    private final Duration elapsed;
+    private final Histogram latency;
+
+    BulkReport(long requests, long passed, long mismatches, long errors, Duration elapsed, Histogram latency) {
+        this.requests = requests;
+        this.passed = passed;
+        this.mismatches = mismatches;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.latency = latency;
+    }
+
+    /**
+     * @return count of lines which were read from the input file
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return count of requests which responses match expectations of the line
+     */
+    public long getPassed() {
+        return passed;
+    }
+
+    /**
+     * @return count of requests which responses don't match the expected status or body
+     */
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * @return count of lines which failed to parse or to execute
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return time of the whole run
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return histogram of request latencies
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return human readable summary of the run, times in milliseconds
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                             "requests: %d, passed: %d, mismatches: %d, errors: %d, elapsed: %d ms%n" +
+                             "latency (ms): p50=%.3f p90=%.3f p99=%.3f max=%.3f%n",
+                             requests, passed, mismatches, errors, elapsed.toMillis(),
+                             latency.getValueAtPercentile(50) / NANOS_IN_MILLI,
+                             latency.getValueAtPercentile(90) / NANOS_IN_MILLI,
+                             latency.getValueAtPercentile(99) / NANOS_IN_MILLI,
+                             latency.getMaxValue() / NANOS_IN_MILLI);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,256 @@
+package com.jupiter.tools.mvc.requester.bulk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Single request of the {@link BulkRunner} which was read from a line of the input file.
+ * Bodies are kept as raw bytes of the input line and are sent without the re-serialization.
+ *
+ * @author Korovin Anatoliy
+ */
+class BulkRequest {
+
+    private static final String PARAM_PREFIX = "param.";
+    private static final String HEADER_PREFIX = "header.";
+
+    private final long line;
+    private String method = "GET";
+    private String uri;
+    private Object[] uriVariables = new Object[0];
+    private final Map<String, List<String>> params = new LinkedHashMap<>();
+    private final Map<String, List<String>> headers = new LinkedHashMap<>();
+    private String contentType;
+    private byte[] body;
+    private Integer expectStatus;
+    private byte[] expectBody;
+
+    private BulkRequest(long line) {
+        this.line = line;
+    }
+
+    /**
+     * Read the request from a JSON line, like:
+     * {@code {"method":"POST","uri":"/orders/{id}/items","uriVariables":[1],"body":{"name":"item"},"expectStatus":201}}
+     *
+     * @param line    number of the line in the file
+     * @param content bytes of the line
+     * @param mapper  mapper to read values of fields
+     * @return BulkRequest
+     * @throws IOException when the line isn't a valid JSON object
+     */
+    static BulkRequest fromJsonLine(long line, byte[] content, ObjectMapper mapper) throws IOException {
+        BulkRequest request = new BulkRequest(line);
+        try (JsonParser parser = mapper.getFactory().createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Line " + line + " isn't a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "method":
+                        request.method = parser.getText();
+                        break;
+                    case "uri":
+                        request.uri = parser.getText();
+                        break;
+                    case "uriVariables":
+                        request.uriVariables = mapper.readValue(parser, Object[].class);
+                        break;
+                    case "params":
+                        readMultiValues(mapper.readTree(parser), request.params);
+                        break;
+                    case "headers":
+                        readMultiValues(mapper.readTree(parser), request.headers);
+                        break;
+                    case "contentType":
+                        request.contentType = parser.getText();
+                        break;
+                    case "body":
+                        request.body = rawValue(parser, content);
+                        break;
+                    case "expectStatus":
+                        request.expectStatus = parser.getIntValue();
+                        break;
+                    case "expectBody":
+                        request.expectBody = rawValue(parser, content);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        return request.validate();
+    }
+
+    /**
+     * Read the request from a line of the CSV file, known columns are: method, uri, contentType,
+     * body, expectStatus, expectBody; columns with the `param.` and `header.` prefix
+     * set parameters and headers of the request, empty values are skipped.
+     *
+     * @param line    number of the line in the file
+     * @param columns names of columns from the first line of the file
+     * @param values  values of the line
+     * @return BulkRequest
+     * @throws IOException when the line doesn't contain the URI
+     */
+    static BulkRequest fromCsv(long line, List<String> columns, List<String> values) throws IOException {
+        BulkRequest request = new BulkRequest(line);
+        for (int i = 0; i < columns.size() && i < values.size(); i++) {
+            String column = columns.get(i);
+            String value = values.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (column.startsWith(PARAM_PREFIX)) {
+                request.params.put(column.substring(PARAM_PREFIX.length()), Collections.singletonList(value));
+            } else if (column.startsWith(HEADER_PREFIX)) {
+                request.headers.put(column.substring(HEADER_PREFIX.length()), Collections.singletonList(value));
+            } else {
+                switch (column) {
+                    case "method":
+                        request.method = value;
+                        break;
+                    case "uri":
+                        request.uri = value;
+                        break;
+                    case "contentType":
+                        request.contentType = value;
+                        break;
+                    case "body":
+                        request.body = value.getBytes(StandardCharsets.UTF_8);
+                        break;
+                    case "expectStatus":
+                        request.expectStatus = Integer.parseInt(value);
+                        break;
+                    case "expectBody":
+                        request.expectBody = value.getBytes(StandardCharsets.UTF_8);
+                        break;
+                    default:
+                        // unknown columns are ignored
+                }
+            }
+        }
+        return request.validate();
+    }
+
+    /**
+     * Split a line of the CSV file to values, values can be quoted by `"`
+     * and quotes inside of a quoted value are escaped by doubling (`""`).
+     *
+     * @param line line of the CSV file
+     * @return values of the line
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    long getLine() {
+        return line;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    Object[] getUriVariables() {
+        return uriVariables;
+    }
+
+    Map<String, List<String>> getParams() {
+        return params;
+    }
+
+    Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    Integer getExpectStatus() {
+        return expectStatus;
+    }
+
+    byte[] getExpectBody() {
+        return expectBody;
+    }
+
+    private BulkRequest validate() throws IOException {
+        if (uri == null) {
+            throw new IOException("Line " + line + " doesn't contain the uri");
+        }
+        return this;
+    }
+
+    /**
+     * Return bytes of the current value in the line without its parsing
+     */
+    private static byte[] rawValue(JsonParser parser, byte[] content) throws IOException {
+        int start = (int) parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        // scalar values are read lazily, the end of the value is known only after the reading
+        parser.finishToken();
+        int end = (int) parser.getCurrentLocation().getByteOffset();
+        return Arrays.copyOfRange(content, start, end);
+    }
+
+    private static void readMultiValues(JsonNode node, Map<String, List<String>> target) {
+        node.fields().forEachRemaining(field -> {
+            List<String> values = new ArrayList<>();
+            if (field.getValue().isArray()) {
+                field.getValue().forEach(value -> values.add(value.asText()));
+            } else {
+                values.add(field.getValue().asText());
+            }
+            target.put(field.getKey(), values);
+        });
+    }
+}
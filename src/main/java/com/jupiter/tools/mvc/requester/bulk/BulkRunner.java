@@ -0,0 +1,371 @@
+package com.jupiter.tools.mvc.requester.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.MvcRequestPointed;
+import com.jupiter.tools.mvc.requester.MvcRequestResult;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import com.jupiter.tools.mvc.requester.load.LoadWorkers;
+import org.HdrHistogram.Recorder;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Runs requests which are described line by line in a file (JSON lines or CSV)
+ * and streams results of requests to the output file:
+ * <pre>{@code
+ * BulkReport report = BulkRunner.of(requester)
+ *                               .withParallelism(8)
+ *                               .withOutput(Paths.get("target/orders-results.jsonl"))
+ *                               .runJsonLines(Paths.get("src/test/resources/orders.jsonl"));
+ * }</pre>
+ * Each line of the JSON lines file is an object like:
+ * {@code {"method":"POST","uri":"/orders","headers":{"X-Tenant":"a"},"body":{"name":"x"},"expectStatus":201}},
+ * the first line of the CSV file contains names of columns (see {@link #runCsv(Path)}).
+ * <p>
+ * The input file is read lazily: only a bounded count of lines is held in memory
+ * while they are waiting for a free worker, so the file can be larger than the heap.
+ * Request bodies are sent as they are written in the file, responses are not printed.
+ * Each result is written to the output file as a JSON line with the number of the input line,
+ * the status, the latency and the outcome (`passed`, `mismatch` or `error`).
+ * When a result can't be written, no more lines are read and the run fails with this error.
+ *
+ * @author Korovin Anatoliy
+ */
+public class BulkRunner {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final String PASSED = "passed";
+    private static final String MISMATCH = "mismatch";
+    private static final String ERROR = "error";
+
+    private final MvcRequester requester;
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private int parallelism = 1;
+    private Path output;
+    private boolean failuresOnly;
+
+    private BulkRunner(MvcRequester requester) {
+        this.requester = requester.withoutPrinting();
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param requester requester which will be used to make requests
+     * @return BulkRunner
+     */
+    public static BulkRunner of(MvcRequester requester) {
+        return new BulkRunner(requester);
+    }
+
+    /**
+     * @param parallelism count of requests which are executed concurrently
+     * @return BulkRunner
+     */
+    public BulkRunner withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param output file to write results of requests, the file is overwritten
+     * @return BulkRunner
+     */
+    public BulkRunner withOutput(Path output) {
+        this.output = output;
+        return this;
+    }
+
+    /**
+     * Write to the output file only results of mismatched and failed requests
+     *
+     * @return BulkRunner
+     */
+    public BulkRunner withFailuresOnly() {
+        this.failuresOnly = true;
+        return this;
+    }
+
+    /**
+     * Run requests from the JSON lines file, known fields of a line are:
+     * method (GET by default), uri, uriVariables (array), params and headers (objects of a value
+     * or an array of values), contentType (application/json by default), body,
+     * expectStatus and expectBody (compared as a JSON tree).
+     *
+     * @param input JSON lines file
+     * @return BulkReport
+     */
+    public BulkReport runJsonLines(Path input) {
+        return run(input, false);
+    }
+
+    /**
+     * Run requests from the CSV file, the first line contains names of columns:
+     * method, uri, contentType, body, expectStatus, expectBody,
+     * `param.name` for a request parameter and `header.name` for a request header.
+     *
+     * @param input CSV file
+     * @return BulkReport
+     */
+    public BulkReport runCsv(Path input) {
+        return run(input, true);
+    }
+
+    private BulkReport run(Path input, boolean csv) {
+        Counters counters = new Counters();
+        ExecutorService pool = LoadWorkers.newPool("mvc-requester-bulk", parallelism);
+        // lines are read only when a worker is going to be free soon
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        // the first failure of the output stops reading of the input
+        AtomicReference<RuntimeException> writeFailure = new AtomicReference<>();
+        long start = System.nanoTime();
+        try (InputStream reader = Files.newInputStream(input);
+             Writer writer = output == null ? null : Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+
+            LineReader lines = new LineReader(reader);
+            List<String> columns = null;
+            long line = 0;
+            try {
+                while (writeFailure.get() == null && lines.readLine()) {
+                    line++;
+                    // JSON lines are parsed from the original bytes of the file
+                    byte[] content = lines.toByteArray();
+                    if (isBlank(content)) {
+                        continue;
+                    }
+                    List<String> csvRow = csv ? BulkRequest.splitCsv(new String(content, StandardCharsets.UTF_8)) : null;
+                    if (csv && columns == null) {
+                        columns = csvRow;
+                        continue;
+                    }
+                    long number = line;
+                    List<String> csvColumns = columns;
+                    inFlight.acquire();
+                    pool.execute(() -> {
+                        try {
+                            ObjectNode result = execute(number, content, csvColumns, csvRow, counters);
+                            if (writer != null && result != null && writeFailure.get() == null) {
+                                write(writer, result);
+                            }
+                        } catch (RuntimeException e) {
+                            writeFailure.compareAndSet(null, e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } finally {
+                LoadWorkers.shutdownAndAwait(pool);
+            }
+            if (writeFailure.get() != null) {
+                throw writeFailure.get();
+            }
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MvcRequestException(e);
+        }
+        return new BulkReport(counters.requests.get(),
+                              counters.passed.get(),
+                              counters.mismatches.get(),
+                              counters.errors.get(),
+                              Duration.ofNanos(System.nanoTime() - start),
+                              counters.latency.getIntervalHistogram());
+    }
+
+    /**
+     * @return result of the request which should be written to the output, or null
+     */
+    private ObjectNode execute(long line, byte[] content, List<String> columns, List<String> row,
+                               Counters counters) {
+        counters.requests.incrementAndGet();
+        ObjectNode result = jsonMapper.createObjectNode().put("line", line);
+        String outcome;
+        try {
+            BulkRequest request = columns == null
+                                  ? BulkRequest.fromJsonLine(line, content, jsonMapper)
+                                  : BulkRequest.fromCsv(line, columns, row);
+            result.put("method", request.getMethod()).put("uri", request.getUri());
+
+            long start = System.nanoTime();
+            MvcRequestResult response = send(request);
+            long latency = System.nanoTime() - start;
+            counters.latency.recordValue(latency);
+
+            int status = response.returnStatus();
+            result.put("status", status).put("latencyMicros", TimeUnit.NANOSECONDS.toMicros(latency));
+            String mismatch = findMismatch(request, status, response.returnBodyAsBytes());
+            if (mismatch == null) {
+                outcome = PASSED;
+                counters.passed.incrementAndGet();
+            } else {
+                outcome = MISMATCH;
+                result.put("message", mismatch);
+                counters.mismatches.incrementAndGet();
+            }
+        } catch (Exception | AssertionError e) {
+            outcome = ERROR;
+            result.put("message", String.valueOf(e.getMessage()));
+            counters.errors.incrementAndGet();
+        }
+        result.put("outcome", outcome);
+        return failuresOnly && PASSED.equals(outcome) ? null : result;
+    }
+
+    private MvcRequestResult send(BulkRequest request) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod().toUpperCase());
+        if (method == null) {
+            throw new IllegalArgumentException("Unknown HTTP method: " + request.getMethod());
+        }
+        MvcRequestPointed pointed = requester.to(request.getUri(), request.getUriVariables());
+        request.getParams().forEach((name, values) -> pointed.withParam(name, values.toArray()));
+        request.getHeaders().forEach((name, values) -> pointed.withHeader(name, values.toArray()));
+
+        MediaType contentType = null;
+        if (request.getBody() != null) {
+            contentType = request.getContentType() == null
+                          ? MediaType.APPLICATION_JSON
+                          : MediaType.parseMediaType(request.getContentType());
+        }
+        return pointed.perform(method, contentType, request.getBody()).dispatch();
+    }
+
+    private String findMismatch(BulkRequest request, int status, byte[] body) {
+        if (request.getExpectStatus() != null && request.getExpectStatus() != status) {
+            return "Expected status " + request.getExpectStatus() + " but was " + status;
+        }
+        if (request.getExpectBody() != null && !bodyMatches(request.getExpectBody(), body)) {
+            return "Expected body " + new String(request.getExpectBody(), StandardCharsets.UTF_8) +
+                   " but was " + new String(body, StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * JSON bodies are compared as trees (the order of fields and spaces are ignored),
+     * an expected JSON string also matches the plain text response,
+     * other bodies are compared byte by byte
+     */
+    private boolean bodyMatches(byte[] expected, byte[] actual) {
+        JsonNode expectedTree = readTree(expected);
+        if (expectedTree == null) {
+            return Arrays.equals(expected, actual);
+        }
+        if (expectedTree.equals(readTree(actual))) {
+            return true;
+        }
+        return expectedTree.isTextual() && expectedTree.asText().equals(new String(actual, StandardCharsets.UTF_8));
+    }
+
+    private JsonNode readTree(byte[] content) {
+        try {
+            return jsonMapper.readTree(content);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void write(Writer writer, ObjectNode result) {
+        try {
+            String json = jsonMapper.writeValueAsString(result);
+            synchronized (writer) {
+                writer.write(json);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        }
+    }
+
+    private static boolean isBlank(byte[] content) {
+        for (byte b : content) {
+            if (b < 0 || b > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads lines of the input stream by chunks, the current line is kept in the buffer
+     */
+    private static final class LineReader extends ByteArrayOutputStream {
+
+        private final InputStream input;
+        private final byte[] chunk = new byte[8192];
+        private int position;
+        private int limit;
+
+        private LineReader(InputStream input) {
+            this.input = input;
+        }
+
+        /**
+         * Read the next line without the line terminator (`\n` or `\r\n`) to the buffer
+         *
+         * @return false at the end of the stream
+         */
+        private boolean readLine() throws IOException {
+            reset();
+            boolean found = false;
+            while (true) {
+                if (position == limit) {
+                    int read = input.read(chunk);
+                    if (read == -1) {
+                        return found;
+                    }
+                    position = 0;
+                    limit = read;
+                }
+                found = true;
+                int end = position;
+                while (end < limit && chunk[end] != '\n') {
+                    end++;
+                }
+                write(chunk, position, end - position);
+                if (end < limit) {
+                    position = end + 1;
+                    if (count > 0 && buf[count - 1] == '\r') {
+                        count--;
+                    }
+                    return true;
+                }
+                position = limit;
+            }
+        }
+    }
+
+    private static class Counters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong passed = new AtomicLong();
+        private final AtomicLong mismatches = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final Recorder latency = new Recorder(SIGNIFICANT_DIGITS);
+    }
+}
@@ -0,0 +1,330 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Structural comparison of JSON documents. Arrays which order is ignored are compared as multisets:
+ * elements are grouped by a structural hash which is consistent with the selected options
+ * (ignored paths are not hashed, numbers are not hashed when the tolerance is set,
+ * nested unordered arrays have an order independent hash), so an element is compared
+ * only with actual elements of the same hash and large arrays are matched in a linear time.
+ * <p>
+ * When extra fields are ignored, equal elements can have different hashes,
+ * so elements which are not matched by hashes are compared with each other.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class JsonComparator {
+
+    private static final int REPORTED_DIFFERENCES = 50;
+    private static final int MAX_VALUE_LENGTH = 80;
+
+    private static final long OBJECT_SEED = 0x9E3779B97F4A7C15L;
+    private static final long ARRAY_SEED = 0xC2B2AE3D27D4EB4FL;
+    private static final long NUMBER_SEED = 0x165667B19E3779F9L;
+
+    private final JsonCompareOptions options;
+    private String[] names = new String[16];
+    private int[] indexes = new int[16];
+    private int depth;
+
+    private JsonComparator(JsonCompareOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Compare documents
+     *
+     * @param expected expected document
+     * @param actual   actual document
+     * @param options  options of the comparison
+     * @return differences of documents
+     */
+    public static JsonDiff compare(JsonNode expected, JsonNode actual, JsonCompareOptions options) {
+        JsonDiff diff = new JsonDiff(REPORTED_DIFFERENCES);
+        new JsonComparator(options).compareNodes(expected, actual, diff);
+        return diff;
+    }
+
+    /**
+     * @param diff receives differences, when it is null the comparison stops on the first difference
+     * @return true if nodes are equal
+     */
+    private boolean compareNodes(JsonNode expected, JsonNode actual, JsonDiff diff) {
+        if (isIgnored()) {
+            return true;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            return compareObjects(expected, actual, diff);
+        }
+        if (expected.isArray() && actual.isArray()) {
+            return options.isIgnoreArrayOrder()
+                   ? compareUnordered(expected, actual, diff)
+                   : compareOrdered(expected, actual, diff);
+        }
+        if (expected.isNumber() && actual.isNumber()) {
+            return numbersEqual(expected, actual) || report(diff, expected, actual);
+        }
+        return expected.equals(actual) || report(diff, expected, actual);
+    }
+
+    private boolean compareObjects(JsonNode expected, JsonNode actual, JsonDiff diff) {
+        boolean equal = true;
+        Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+        while (fields.hasNext() && (equal || diff != null)) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            push(field.getKey());
+            JsonNode value = actual.get(field.getKey());
+            if (value == null) {
+                if (!isIgnored()) {
+                    equal = report(diff, "missing field, expected " + abbreviate(field.getValue()));
+                }
+            } else {
+                equal &= compareNodes(field.getValue(), value, diff);
+            }
+            pop();
+        }
+        if (options.isIgnoreExtraFields()) {
+            return equal;
+        }
+        Iterator<String> actualNames = actual.fieldNames();
+        while (actualNames.hasNext() && (equal || diff != null)) {
+            String name = actualNames.next();
+            if (!expected.has(name)) {
+                push(name);
+                if (!isIgnored()) {
+                    equal = report(diff, "unexpected field " + abbreviate(actual.get(name)));
+                }
+                pop();
+            }
+        }
+        return equal;
+    }
+
+    private boolean compareOrdered(JsonNode expected, JsonNode actual, JsonDiff diff) {
+        boolean equal = true;
+        int common = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < common && (equal || diff != null); i++) {
+            push(i);
+            equal &= compareNodes(expected.get(i), actual.get(i), diff);
+            pop();
+        }
+        if (expected.size() != actual.size()) {
+            equal = report(diff, "expected " + expected.size() + " elements but was " + actual.size());
+        }
+        return equal;
+    }
+
+    private boolean compareUnordered(JsonNode expected, JsonNode actual, JsonDiff diff) {
+        if (diff == null && expected.size() != actual.size()) {
+            return false;
+        }
+        Map<Long, ArrayDeque<Integer>> buckets = new HashMap<>(actual.size() * 2);
+        for (int i = 0; i < actual.size(); i++) {
+            push(i);
+            buckets.computeIfAbsent(hash(actual.get(i)), hash -> new ArrayDeque<>(1)).add(i);
+            pop();
+        }
+        boolean[] matched = new boolean[actual.size()];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            push(i);
+            JsonNode element = expected.get(i);
+            ArrayDeque<Integer> bucket = buckets.get(hash(element));
+            Integer match = bucket == null ? null : takeEqual(element, actual, bucket);
+            if (match == null) {
+                missing.add(i);
+            } else {
+                matched[match] = true;
+            }
+            pop();
+            if (match == null && diff == null && !options.isIgnoreExtraFields()) {
+                return false;
+            }
+        }
+        List<Integer> unexpected = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                unexpected.add(i);
+            }
+        }
+        if (options.isIgnoreExtraFields() && !missing.isEmpty()) {
+            matchPairwise(expected, actual, missing, unexpected);
+        }
+        for (Integer index : missing) {
+            report(diff, "expected element " + abbreviate(expected.get(index)) + " not found");
+        }
+        for (Integer index : unexpected) {
+            report(diff, "unexpected element [" + index + "] " + abbreviate(actual.get(index)));
+        }
+        return missing.isEmpty() && unexpected.isEmpty();
+    }
+
+    private Integer takeEqual(JsonNode element, JsonNode actual, ArrayDeque<Integer> bucket) {
+        Iterator<Integer> candidates = bucket.iterator();
+        while (candidates.hasNext()) {
+            Integer candidate = candidates.next();
+            if (compareNodes(element, actual.get(candidate), null)) {
+                candidates.remove();
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Match elements which have different hashes but are equal by the options,
+     * both lists are reduced to not matched elements
+     */
+    private void matchPairwise(JsonNode expected, JsonNode actual, List<Integer> missing, List<Integer> unexpected) {
+        Iterator<Integer> expectedIndexes = missing.iterator();
+        while (expectedIndexes.hasNext()) {
+            Integer index = expectedIndexes.next();
+            push(index);
+            Iterator<Integer> actualIndexes = unexpected.iterator();
+            while (actualIndexes.hasNext()) {
+                if (compareNodes(expected.get(index), actual.get(actualIndexes.next()), null)) {
+                    actualIndexes.remove();
+                    expectedIndexes.remove();
+                    break;
+                }
+            }
+            pop();
+        }
+    }
+
+    /**
+     * @return structural hash of the node, nodes which are equal by the options have the same hash
+     */
+    private long hash(JsonNode node) {
+        if (isIgnored()) {
+            return 0;
+        }
+        if (node.isObject()) {
+            long hash = OBJECT_SEED;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                push(field.getKey());
+                if (!isIgnored()) {
+                    // the sum doesn't depend on the order of fields
+                    hash += mix(field.getKey().hashCode() * 31L + hash(field.getValue()));
+                }
+                pop();
+            }
+            return hash;
+        }
+        if (node.isArray()) {
+            long hash = ARRAY_SEED;
+            for (int i = 0; i < node.size(); i++) {
+                push(i);
+                long element = hash(node.get(i));
+                hash = options.isIgnoreArrayOrder() ? hash + mix(element) : hash * 31 + element;
+                pop();
+            }
+            return hash;
+        }
+        if (node.isNumber()) {
+            if (options.getNumericTolerance() > 0) {
+                return NUMBER_SEED;
+            }
+            double value = node.doubleValue();
+            return value == 0 ? NUMBER_SEED : mix(Double.doubleToLongBits(value));
+        }
+        return mix(node.hashCode());
+    }
+
+    private boolean numbersEqual(JsonNode expected, JsonNode actual) {
+        if (options.getNumericTolerance() > 0) {
+            return Math.abs(expected.doubleValue() - actual.doubleValue()) <= options.getNumericTolerance();
+        }
+        if (expected.canConvertToLong() && actual.canConvertToLong() &&
+            expected.isIntegralNumber() && actual.isIntegralNumber()) {
+            return expected.longValue() == actual.longValue();
+        }
+        return expected.decimalValue().compareTo(actual.decimalValue()) == 0;
+    }
+
+    private boolean report(JsonDiff diff, JsonNode expected, JsonNode actual) {
+        return report(diff, "expected " + abbreviate(expected) + " but was " + abbreviate(actual));
+    }
+
+    /**
+     * @return always false, to use it as a result of the comparison
+     */
+    private boolean report(JsonDiff diff, String message) {
+        if (diff != null) {
+            diff.add(path(), message);
+        }
+        return false;
+    }
+
+    private boolean isIgnored() {
+        return options.hasIgnoredPaths() && options.isIgnored(names, indexes, depth);
+    }
+
+    private void push(String name) {
+        ensureCapacity();
+        names[depth++] = name;
+    }
+
+    private void push(int index) {
+        ensureCapacity();
+        names[depth] = null;
+        indexes[depth++] = index;
+    }
+
+    private void pop() {
+        depth--;
+    }
+
+    private void ensureCapacity() {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+        }
+    }
+
+    private String path() {
+        if (depth == 0) {
+            return "/";
+        }
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            path.append('/');
+            if (names[i] == null) {
+                path.append(indexes[i]);
+            } else {
+                path.append(names[i].replace("~", "~0").replace("/", "~1"));
+            }
+        }
+        return path.toString();
+    }
+
+    private static String abbreviate(JsonNode node) {
+        String value = node.toString();
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+
+    /**
+     * Finalization step of the MurmurHash3, spreads bits of sums and products of hashes
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
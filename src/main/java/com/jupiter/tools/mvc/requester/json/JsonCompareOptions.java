@@ -0,0 +1,159 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Options of the structural JSON comparison (see {@link JsonComparator}),
+ * by default documents must be equal including the order of array elements.
+ * <pre>{@code
+ * JsonCompareOptions options = JsonCompareOptions.strict()
+ *                                                .ignoringArrayOrder()
+ *                                                .ignoringPaths("/createdAt")
+ *                                                .withNumericTolerance(0.001);
+ * }</pre>
+ * Paths are JSON pointers, the `*` segment matches any field or any index of an array,
+ * like `/items/&#42;/id`.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class JsonCompareOptions {
+
+    private static final JsonCompareOptions STRICT = new JsonCompareOptions(false, false, 0, Collections.emptyList());
+
+    private final boolean ignoreArrayOrder;
+    private final boolean ignoreExtraFields;
+    private final double numericTolerance;
+    private final List<String[]> ignoredPaths;
+
+    private JsonCompareOptions(boolean ignoreArrayOrder,
+                               boolean ignoreExtraFields,
+                               double numericTolerance,
+                               List<String[]> ignoredPaths) {
+        if (numericTolerance < 0 || Double.isNaN(numericTolerance)) {
+            throw new IllegalArgumentException("Numeric tolerance must not be negative");
+        }
+        this.ignoreArrayOrder = ignoreArrayOrder;
+        this.ignoreExtraFields = ignoreExtraFields;
+        this.numericTolerance = numericTolerance;
+        this.ignoredPaths = ignoredPaths;
+    }
+
+    /**
+     * @return options of the exact comparison
+     */
+    public static JsonCompareOptions strict() {
+        return STRICT;
+    }
+
+    /**
+     * @return copy of these options which treats arrays as multisets of elements
+     */
+    public JsonCompareOptions ignoringArrayOrder() {
+        return new JsonCompareOptions(true, ignoreExtraFields, numericTolerance, ignoredPaths);
+    }
+
+    /**
+     * @return copy of these options which allows fields of the actual document
+     * which are not present in the expected one
+     */
+    public JsonCompareOptions ignoringExtraFields() {
+        return new JsonCompareOptions(ignoreArrayOrder, true, numericTolerance, ignoredPaths);
+    }
+
+    /**
+     * @param tolerance max absolute difference of equal numbers
+     * @return copy of these options with the numeric tolerance
+     */
+    public JsonCompareOptions withNumericTolerance(double tolerance) {
+        return new JsonCompareOptions(ignoreArrayOrder, ignoreExtraFields, tolerance, ignoredPaths);
+    }
+
+    /**
+     * @param jsonPointers paths which are not compared, like `/createdAt` or `/items/&#42;/id`
+     * @return copy of these options with ignored paths
+     */
+    public JsonCompareOptions ignoringPaths(String... jsonPointers) {
+        List<String[]> paths = new ArrayList<>(ignoredPaths);
+        for (String pointer : jsonPointers) {
+            paths.add(split(pointer));
+        }
+        return new JsonCompareOptions(ignoreArrayOrder, ignoreExtraFields, numericTolerance, paths);
+    }
+
+    boolean isIgnoreArrayOrder() {
+        return ignoreArrayOrder;
+    }
+
+    boolean isIgnoreExtraFields() {
+        return ignoreExtraFields;
+    }
+
+    double getNumericTolerance() {
+        return numericTolerance;
+    }
+
+    /**
+     * @param names   names of fields in the path from the root, null for indexes of arrays
+     * @param indexes indexes of array elements in the path
+     * @param depth   count of segments in the path
+     * @return true if the path matches one of ignored paths
+     */
+    boolean isIgnored(String[] names, int[] indexes, int depth) {
+        for (String[] ignored : ignoredPaths) {
+            if (ignored.length == depth && matches(ignored, names, indexes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean hasIgnoredPaths() {
+        return !ignoredPaths.isEmpty();
+    }
+
+    private static boolean matches(String[] ignored, String[] names, int[] indexes) {
+        for (int i = 0; i < ignored.length; i++) {
+            if ("*".equals(ignored[i])) {
+                continue;
+            }
+            boolean equal = names[i] != null
+                            ? ignored[i].equals(names[i])
+                            : ignored[i].equals(Integer.toString(indexes[i]));
+            if (!equal) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] split(String pointer) {
+        if (pointer.isEmpty()) {
+            return new String[0];
+        }
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException("Path must be a JSON pointer which starts with `/`: " + pointer);
+        }
+        String[] segments = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+        }
+        return segments;
+    }
+
+    @Override
+    public String toString() {
+        List<String> paths = new ArrayList<>();
+        for (String[] path : ignoredPaths) {
+            paths.add("/" + String.join("/", Arrays.asList(path)));
+        }
+        return "JsonCompareOptions{ignoreArrayOrder=" + ignoreArrayOrder +
+               ", ignoreExtraFields=" + ignoreExtraFields +
+               ", numericTolerance=" + numericTolerance +
+               ", ignoredPaths=" + paths + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of the structural JSON comparison, differences are described by paths
+ * in the expected document, only first differences are kept to keep the report compact.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class JsonDiff {
+
+    private final int limit;
+    private final List<String> differences = new ArrayList<>();
+    private int count;
+
+    JsonDiff(int limit) {
+        this.limit = limit;
+    }
+
+    void add(String path, String message) {
+        if (count++ < limit) {
+            differences.add(path + ": " + message);
+        }
+    }
+
+    /**
+     * @return true if documents are equal
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return total count of differences
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return descriptions of first differences, like `/items/3/name: expected "a" but was "b"`
+     */
+    public List<String> getDifferences() {
+        return Collections.unmodifiableList(differences);
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "no differences";
+        }
+        StringBuilder report = new StringBuilder().append(count).append(count == 1 ? " difference:" : " differences:");
+        for (String difference : differences) {
+            report.append(System.lineSeparator()).append("  ").append(difference);
+        }
+        if (count > differences.size()) {
+            report.append(System.lineSeparator()).append("  ... and ").append(count - differences.size()).append(" more");
+        }
+        return report.toString();
+    }
+}
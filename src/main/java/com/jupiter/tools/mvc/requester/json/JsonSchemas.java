@@ -0,0 +1,115 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.SpecVersionDetector;
+import com.networknt.schema.ValidationMessage;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Process-wide cache of compiled JSON schemas (requires the `com.networknt:json-schema-validator` in the classpath).
+ * A schema is loaded and compiled on the first use of its location, all following validations
+ * reuse the compiled validators, so a contract suite doesn't parse the same schemas for each response.
+ * <p>
+ * A location is a path of the classpath resource, like `schemas/order.json`,
+ * or an URI with the `classpath:`, `file:` or `http:` scheme. References (`$ref`)
+ * are resolved relative to the location. The version of the specification is detected
+ * by the `$schema` keyword, the draft 7 is used for schemas without it.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class JsonSchemas {
+
+    private static final String CLASSPATH = "classpath:";
+    private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+    private static final SpecVersion.VersionFlag DEFAULT_VERSION = SpecVersion.VersionFlag.V7;
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * Validate the document by the schema
+     *
+     * @param schemaLocation location of the schema, like `schemas/order.json`
+     * @param document       document to validate
+     * @return descriptions of all violations sorted by paths, like `$.items[0].id: string found, integer expected`,
+     * an empty list if the document is valid
+     */
+    public static List<String> validate(String schemaLocation, JsonNode document) {
+        List<String> violations = new ArrayList<>();
+        for (ValidationMessage message : get(schemaLocation).validate(document)) {
+            violations.add(message.getMessage());
+        }
+        violations.sort(null);
+        return violations;
+    }
+
+    /**
+     * @return count of compiled schemas in the cache
+     */
+    public static int size() {
+        return SCHEMAS.size();
+    }
+
+    /**
+     * Remove all compiled schemas, schemas are loaded again on the next use,
+     * use it when schema files are changed while the JVM is running.
+     */
+    public static void clear() {
+        SCHEMAS.clear();
+    }
+
+    private static JsonSchema get(String schemaLocation) {
+        return SCHEMAS.computeIfAbsent(schemaLocation, JsonSchemas::compile);
+    }
+
+    private static JsonSchema compile(String schemaLocation) {
+        URI uri = toUri(schemaLocation);
+        JsonNode schemaNode;
+        try (InputStream stream = open(uri)) {
+            schemaNode = SCHEMA_MAPPER.readTree(stream);
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        }
+        SpecVersion.VersionFlag version = schemaNode.has("$schema")
+                                          ? SpecVersionDetector.detect(schemaNode)
+                                          : DEFAULT_VERSION;
+        JsonSchema schema = JsonSchemaFactory.getInstance(version).getSchema(uri, schemaNode);
+        // validators of keywords are created lazily, create them before the schema is shared by threads
+        schema.getValidators();
+        return schema;
+    }
+
+    private static URI toUri(String schemaLocation) {
+        return schemaLocation.contains(":")
+               ? URI.create(schemaLocation)
+               : URI.create(CLASSPATH + (schemaLocation.startsWith("/") ? schemaLocation.substring(1) : schemaLocation));
+    }
+
+    private static InputStream open(URI uri) throws IOException {
+        if (!CLASSPATH.equals(uri.getScheme() + ":")) {
+            return uri.toURL().openStream();
+        }
+        String resource = uri.getSchemeSpecificPart();
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IllegalArgumentException("JSON schema is not found in the classpath: " + resource);
+        }
+        return stream;
+    }
+}
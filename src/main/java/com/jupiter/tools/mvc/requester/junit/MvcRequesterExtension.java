@@ -0,0 +1,224 @@
+package com.jupiter.tools.mvc.requester.junit;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * JUnit Jupiter extension which injects the {@link MvcRequester} in test methods
+ * and runs tests annotated by the {@link PerformanceTest}.
+ * <p>
+ * The requester is made from a {@link MockMvc} field of the test instance
+ * (with an {@link ObjectMapper} field, if the test declares it), or from the
+ * web application context of the {@link SpringExtension}. Requesters and object mappers
+ * are shared by all tests of the class.
+ * <pre>{@code
+ * @ExtendWith(MvcRequesterExtension.class)
+ * class OrderControllerTest {
+ *
+ *     private MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new OrderController()).build();
+ *
+ *     @Test
+ *     void getOrder(MvcRequester requester) {
+ *         requester.to("/orders/{id}", 1).get().expectStatus(HttpStatus.OK);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Korovin Anatoliy
+ */
+public class MvcRequesterExtension implements ParameterResolver, InvocationInterceptor {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MvcRequesterExtension.class);
+    private static final String REPORT_KEY = "performance";
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == MvcRequester.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        ExtensionContext.Store store = classContext(extensionContext).getStore(NAMESPACE);
+        Object testInstance = extensionContext.getTestInstance().orElse(null);
+        MockMvc mockMvc = testInstance == null ? null : findField(testInstance, MockMvc.class);
+        if (mockMvc != null) {
+            ObjectMapper declaredMapper = findField(testInstance, ObjectMapper.class);
+            ObjectMapper objectMapper = declaredMapper != null ? declaredMapper : sharedObjectMapper(store);
+            return store.getOrComputeIfAbsent(Arrays.asList(mockMvc, objectMapper),
+                                              key -> MvcRequester.on(mockMvc, objectMapper),
+                                              MvcRequester.class);
+        }
+        if (isSpringTest(extensionContext.getRequiredTestClass())) {
+            return store.getOrComputeIfAbsent(WebApplicationContext.class,
+                                              key -> makeSpringRequester(extensionContext, store),
+                                              MvcRequester.class);
+        }
+        throw new ParameterResolutionException("Unable to make the MvcRequester: declare a MockMvc field " +
+                                               "in the test class or run the test with the SpringExtension");
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+                                    ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+
+        PerformanceTest performanceTest = AnnotationSupport.findAnnotation(invocationContext.getExecutable(),
+                                                                           PerformanceTest.class)
+                                                           .orElse(null);
+        if (performanceTest == null) {
+            invocation.proceed();
+            return;
+        }
+        invocation.skip();
+
+        Method method = invocationContext.getExecutable();
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        for (int i = 0; i < performanceTest.warmup(); i++) {
+            ReflectionSupport.invokeMethod(method, target, arguments);
+        }
+
+        Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        long start = System.nanoTime();
+        measure(performanceTest, recorder, () -> ReflectionSupport.invokeMethod(method, target, arguments));
+        long elapsed = System.nanoTime() - start;
+
+        String summary = summary(performanceTest, recorder.getIntervalHistogram(), elapsed);
+        extensionContext.publishReportEntry(REPORT_KEY, summary);
+    }
+
+    private static void measure(PerformanceTest performanceTest, Recorder recorder, Runnable iteration) throws Throwable {
+        AtomicInteger remaining = new AtomicInteger(performanceTest.iterations());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            while (failure.get() == null && remaining.getAndDecrement() > 0) {
+                long start = System.nanoTime();
+                try {
+                    iteration.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    return;
+                }
+                recorder.recordValue(System.nanoTime() - start);
+            }
+        };
+
+        if (performanceTest.threads() <= 1) {
+            worker.run();
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(performanceTest.threads(), runnable -> {
+                Thread thread = new Thread(runnable, "mvc-requester-performance-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < performanceTest.threads(); i++) {
+                    futures.add(pool.submit(worker));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private static String summary(PerformanceTest performanceTest, Histogram histogram, long elapsedNanos) {
+        return String.format(Locale.ROOT,
+                             "iterations: %d, threads: %d, throughput: %.1f ops/s, " +
+                             "time (ms): p50=%.3f p90=%.3f p99=%.3f max=%.3f",
+                             histogram.getTotalCount(),
+                             performanceTest.threads(),
+                             histogram.getTotalCount() * 1_000_000_000.0 / elapsedNanos,
+                             histogram.getValueAtPercentile(50) / NANOS_IN_MILLI,
+                             histogram.getValueAtPercentile(90) / NANOS_IN_MILLI,
+                             histogram.getValueAtPercentile(99) / NANOS_IN_MILLI,
+                             histogram.getMaxValue() / NANOS_IN_MILLI);
+    }
+
+    private static MvcRequester makeSpringRequester(ExtensionContext extensionContext, ExtensionContext.Store store) {
+        ApplicationContext context = SpringExtension.getApplicationContext(extensionContext);
+        if (!(context instanceof WebApplicationContext)) {
+            throw new ParameterResolutionException("Unable to make the MvcRequester: " +
+                                                   "the application context isn't a WebApplicationContext");
+        }
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        String[] mappers = context.getBeanNamesForType(ObjectMapper.class);
+        ObjectMapper objectMapper = mappers.length == 1
+                                    ? context.getBean(mappers[0], ObjectMapper.class)
+                                    : sharedObjectMapper(store);
+        return MvcRequester.on(mockMvc, objectMapper);
+    }
+
+    private static ObjectMapper sharedObjectMapper(ExtensionContext.Store store) {
+        return store.getOrComputeIfAbsent(ObjectMapper.class, key -> new ObjectMapper(), ObjectMapper.class);
+    }
+
+    private static boolean isSpringTest(Class<?> testClass) {
+        return AnnotationSupport.findRepeatableAnnotations(testClass, ExtendWith.class)
+                                .stream()
+                                .flatMap(extendWith -> Arrays.stream(extendWith.value()))
+                                .anyMatch(SpringExtension.class::equals);
+    }
+
+    private static <T> T findField(Object testInstance, Class<T> type) {
+        List<Field> fields = ReflectionSupport.findFields(testInstance.getClass(),
+                                                          field -> type.isAssignableFrom(field.getType()),
+                                                          HierarchyTraversalMode.BOTTOM_UP);
+        for (Field field : fields) {
+            Object value = ReflectionSupport.tryToReadFieldValue(field, testInstance).toOptional().orElse(null);
+            if (value != null) {
+                return type.cast(value);
+            }
+        }
+        return null;
+    }
+
+    private static ExtensionContext classContext(ExtensionContext context) {
+        ExtensionContext current = context;
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,50 @@
+package com.jupiter.tools.mvc.requester.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Test which body is repeated to measure its performance: at first warm-up invocations
+ * are running (to let the JIT compile the code), then measured iterations are running
+ * in the selected count of threads. Times of iterations are collected in a histogram
+ * and the summary is published in the JUnit report.
+ * <pre>{@code
+ * @PerformanceTest(warmup = 100, iterations = 1000, threads = 4)
+ * void getOrder(MvcRequester requester) {
+ *     requester.to("/orders/{id}", 1).get().expectStatus(HttpStatus.OK);
+ * }
+ * }</pre>
+ * The test fails with the first failure of an iteration.
+ *
+ * @author Korovin Anatoliy
+ */
+@Test
+@Documented
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MvcRequesterExtension.class)
+public @interface PerformanceTest {
+
+    /**
+     * @return count of invocations before the measurement
+     */
+    int warmup() default 10;
+
+    /**
+     * @return total count of measured invocations in all threads
+     */
+    int iterations() default 100;
+
+    /**
+     * @return count of threads which run measured invocations concurrently
+     */
+    int threads() default 1;
+}
@@ -0,0 +1,119 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Collects results of the {@link ConcurrentBurst}: each thread writes results of the current round
+ * in its own slot and the round is aggregated when all threads completed it,
+ * so the recording doesn't synchronize threads between their releases.
+ *
+ * @author Korovin Anatoliy
+ */
+class BurstRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int FAILED = -1;
+
+    private final int[] statuses;
+    private final String[] digests;
+    private final long[] starts;
+    private final long[] latencies;
+    private final long[] injected;
+
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private final Map<String, Long> digestCounts = new LinkedHashMap<>();
+    private final Map<String, Long> roundOutcomes = new LinkedHashMap<>();
+    private final Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram startSkew = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram realLatency = new Histogram(SIGNIFICANT_DIGITS);
+    private long errors;
+    private long injectedNanos;
+
+    BurstRecorder(int threads) {
+        this.statuses = new int[threads];
+        this.digests = new String[threads];
+        this.starts = new long[threads];
+        this.latencies = new long[threads];
+        this.injected = new long[threads];
+    }
+
+    /**
+     * @param injectedNanos pauses which were injected in the request (see FaultInjection)
+     */
+    void recordResponse(int slot, long start, long latency, long injectedNanos, int status, String digest) {
+        statuses[slot] = status;
+        digests[slot] = digest;
+        starts[slot] = start;
+        latencies[slot] = latency;
+        injected[slot] = injectedNanos;
+    }
+
+    void recordFailure(int slot, long start, long latency, long injectedNanos) {
+        recordResponse(slot, start, latency, injectedNanos, FAILED, null);
+    }
+
+    /**
+     * Aggregate results of all threads in the completed round,
+     * it must be called when no thread is running a request
+     */
+    void completeRound() {
+        Map<Integer, Integer> round = new TreeMap<>();
+        long firstStart = Long.MAX_VALUE;
+        long lastStart = Long.MIN_VALUE;
+        for (int slot = 0; slot < statuses.length; slot++) {
+            round.merge(statuses[slot], 1, Integer::sum);
+            latency.recordValue(latencies[slot]);
+            realLatency.recordValue(Math.max(latencies[slot] - injected[slot], 0));
+            injectedNanos += injected[slot];
+            firstStart = Math.min(firstStart, starts[slot]);
+            lastStart = Math.max(lastStart, starts[slot]);
+            if (statuses[slot] == FAILED) {
+                errors++;
+            } else {
+                statusCounts.merge(statuses[slot], 1L, Long::sum);
+                digestCounts.merge(digests[slot], 1L, Long::sum);
+            }
+        }
+        startSkew.recordValue(lastStart - firstStart);
+        roundOutcomes.merge(outcome(round), 1L, Long::sum);
+        Arrays.fill(digests, null);
+    }
+
+    BurstReport report(int rounds) {
+        return new BurstReport(rounds,
+                               statuses.length,
+                               errors,
+                               statusCounts,
+                               digestCounts,
+                               roundOutcomes,
+                               latency,
+                               startSkew,
+                               realLatency,
+                               Duration.ofNanos(injectedNanos));
+    }
+
+    /**
+     * @return outcome of the round, like `200x1, 409x15, errorx1`
+     */
+    private static String outcome(Map<Integer, Integer> round) {
+        StringJoiner outcome = new StringJoiner(", ");
+        round.forEach((status, count) -> {
+            if (status != FAILED) {
+                outcome.add(status + "x" + count);
+            }
+        });
+        if (round.containsKey(FAILED)) {
+            outcome.add("errorx" + round.get(FAILED));
+        }
+        return outcome.toString();
+    }
+}
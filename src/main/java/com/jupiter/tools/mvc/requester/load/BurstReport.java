@@ -0,0 +1,148 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of the {@link ConcurrentBurst}, histograms are recorded in nanoseconds.
+ *
+ * @author Korovin Anatoliy
+ */
+public class BurstReport {
+
+    private final int rounds;
+    private final int threads;
+    private final long errors;
+    private final Map<Integer, Long> statuses;
+    private final Map<String, Long> bodyDigests;
+    private final Map<String, Long> roundOutcomes;
+    private final Histogram latency;
+    private final Histogram startSkew;
+    private final Histogram realLatency;
+    private final Duration injectedTime;
+
+    BurstReport(int rounds,
+                int threads,
+                long errors,
+                Map<Integer, Long> statuses,
+                Map<String, Long> bodyDigests,
+                Map<String, Long> roundOutcomes,
+                Histogram latency,
+                Histogram startSkew,
+                Histogram realLatency,
+                Duration injectedTime) {
+        this.rounds = rounds;
+        this.threads = threads;
+        this.errors = errors;
+        this.statuses = Collections.unmodifiableMap(statuses);
+        this.bodyDigests = Collections.unmodifiableMap(bodyDigests);
+        this.roundOutcomes = Collections.unmodifiableMap(roundOutcomes);
+        this.latency = latency;
+        this.startSkew = startSkew;
+        this.realLatency = realLatency;
+        this.injectedTime = injectedTime;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return count of all fired requests
+     */
+    public long getRequests() {
+        return (long) rounds * threads;
+    }
+
+    /**
+     * @return count of requests which failed with an exception or an assertion error
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return count of responses by status codes
+     */
+    public Map<Integer, Long> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Different bodies of responses to identical requests often show a race condition
+     *
+     * @return count of responses by the SHA-256 digest of the body
+     */
+    public Map<String, Long> getBodyDigests() {
+        return bodyDigests;
+    }
+
+    /**
+     * Outcome of a round contains counts of responses by status codes in the round,
+     * like `200x1, 409x15` (failed requests are counted as `error`).
+     *
+     * @return count of rounds by outcomes
+     */
+    public Map<String, Long> getRoundOutcomes() {
+        return roundOutcomes;
+    }
+
+    /**
+     * @return histogram of request latencies
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return histogram of request latencies without pauses which were injected
+     * by the {@link com.jupiter.tools.mvc.requester.FaultInjection}
+     */
+    public Histogram getRealLatency() {
+        return realLatency;
+    }
+
+    /**
+     * @return total time of pauses which were injected in requests
+     */
+    public Duration getInjectedTime() {
+        return injectedTime;
+    }
+
+    /**
+     * Time between the first and the last start of requests in a round,
+     * it shows how simultaneous requests really were.
+     *
+     * @return histogram of start skews of rounds
+     */
+    public Histogram getStartSkew() {
+        return startSkew;
+    }
+
+    /**
+     * @return human readable summary of the burst, times in milliseconds
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "rounds: %d, threads: %d, errors: %d, statuses: %s, distinct bodies: %d%n",
+                             rounds, threads, errors, statuses, bodyDigests.size()) +
+               String.format(Locale.ROOT, "round outcomes: %s%n", roundOutcomes) +
+               LoadReport.format("latency", latency) +
+               (injectedTime.isZero() ? "" : LoadReport.format("real latency", realLatency)) +
+               LoadReport.format("start skew", startSkew);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
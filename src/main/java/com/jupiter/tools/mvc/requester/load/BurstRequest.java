@@ -0,0 +1,23 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import com.jupiter.tools.mvc.requester.MvcRequestPointed;
+import com.jupiter.tools.mvc.requester.MvcRequestResult;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Request which is fired simultaneously from all threads of the {@link ConcurrentBurst}
+ *
+ * @author Korovin Anatoliy
+ */
+@FunctionalInterface
+public interface BurstRequest {
+
+    /**
+     * Make the request
+     *
+     * @param request shared specification of the request (URI, parameters and headers)
+     * @return result of the request
+     */
+    MvcRequestResult execute(MvcRequestPointed request);
+}
@@ -0,0 +1,187 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.jupiter.tools.mvc.requester.FaultInjection;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.MvcRequestPointed;
+import com.jupiter.tools.mvc.requester.MvcRequestResult;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Stress mode to find race conditions in controllers (double spending, duplicate creation,
+ * optimistic lock storms): the same request is fired from many threads which are released
+ * by a barrier at the same instant, this is repeated for many rounds.
+ * <pre>{@code
+ * BurstReport report = ConcurrentBurst.of(requester.withoutPrinting().to("/accounts/{id}/withdraw", 1))
+ *                                     .withThreads(16)
+ *                                     .withRounds(100)
+ *                                     .withBeforeRound(() -> accounts.resetBalance(1, 100))
+ *                                     .run(request -> request.post(new WithdrawDto(100)));
+ *
+ * assertThat(report.getRoundOutcomes()).containsOnlyKeys("200x1, 409x15");
+ * }</pre>
+ * Status codes, digests of response bodies and latencies of all requests are aggregated
+ * in the {@link BurstReport}, the outcome of each round shows how many requests of the round
+ * got each status code, so a single lost update is visible among hundreds of correct rounds.
+ *
+ * @author Korovin Anatoliy
+ */
+public class ConcurrentBurst {
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    private final MvcRequestPointed request;
+    private final int threads;
+    private final int rounds;
+    private final Runnable beforeRound;
+
+    private ConcurrentBurst(MvcRequestPointed request, int threads, int rounds, Runnable beforeRound) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Count of threads must be positive");
+        }
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Count of rounds must be positive");
+        }
+        this.request = request;
+        this.threads = threads;
+        this.rounds = rounds;
+        this.beforeRound = beforeRound;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param request specification of the request which is shared by all threads,
+     *                it should not be changed while the burst is running
+     * @return ConcurrentBurst
+     */
+    public static ConcurrentBurst of(MvcRequestPointed request) {
+        return new ConcurrentBurst(request, Runtime.getRuntime().availableProcessors(), 10, NOTHING);
+    }
+
+    /**
+     * @param threads count of threads which fire the request at the same instant
+     * @return copy of this burst with the selected count of threads
+     */
+    public ConcurrentBurst withThreads(int threads) {
+        return new ConcurrentBurst(request, threads, rounds, beforeRound);
+    }
+
+    /**
+     * @param rounds count of simultaneous releases of all threads
+     * @return copy of this burst with the selected count of rounds
+     */
+    public ConcurrentBurst withRounds(int rounds) {
+        return new ConcurrentBurst(request, threads, rounds, beforeRound);
+    }
+
+    /**
+     * @param beforeRound action which prepares the state before each round (like a reset of the balance),
+     *                    it runs when all requests of the previous round are completed
+     * @return copy of this burst with the selected action
+     */
+    public ConcurrentBurst withBeforeRound(Runnable beforeRound) {
+        return new ConcurrentBurst(request, threads, rounds, beforeRound);
+    }
+
+    /**
+     * Run all rounds and wait for the completion.
+     * A request is failed when it throws an exception or an assertion error,
+     * a failure of the before-round action stops the burst.
+     *
+     * @param burstRequest request which is fired by each thread in each round
+     * @return BurstReport
+     */
+    public BurstReport run(BurstRequest burstRequest) {
+        BurstRecorder recorder = new BurstRecorder(threads);
+        // the barrier action runs when all threads completed the previous round and before their release
+        CyclicBarrier barrier = new CyclicBarrier(threads, new Runnable() {
+            private int round;
+
+            @Override
+            public void run() {
+                if (round > 0) {
+                    recorder.completeRound();
+                }
+                if (round < rounds) {
+                    beforeRound.run();
+                }
+                round++;
+            }
+        });
+
+        ExecutorService pool = LoadWorkers.newPool(threads);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                int slot = thread;
+                futures.add(pool.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        barrier.await();
+                        fire(burstRequest, recorder, slot);
+                    }
+                    // wait for the last round of other threads
+                    barrier.await();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof BrokenBarrierException ? firstFailure(futures) : e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new MvcRequestException((Exception) cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MvcRequestException(e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return recorder.report(rounds);
+    }
+
+    private void fire(BurstRequest burstRequest, BurstRecorder recorder, int slot) {
+        long injectedBefore = FaultInjection.currentThreadInjectedNanos();
+        long start = System.nanoTime();
+        try {
+            MvcRequestResult result = burstRequest.execute(request).dispatch();
+            recorder.recordResponse(slot, start, System.nanoTime() - start,
+                                    FaultInjection.currentThreadInjectedNanos() - injectedBefore,
+                                    result.returnStatus(), result.returnBodyDigest());
+        } catch (Exception | AssertionError e) {
+            recorder.recordFailure(slot, start, System.nanoTime() - start,
+                                   FaultInjection.currentThreadInjectedNanos() - injectedBefore);
+        }
+    }
+
+    /**
+     * @return the failure which broke the barrier (a failure of the before-round action)
+     */
+    private static Throwable firstFailure(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof BrokenBarrierException)) {
+                    return e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return e;
+            }
+        }
+        return new IllegalStateException("Barrier of the burst is broken");
+    }
+}
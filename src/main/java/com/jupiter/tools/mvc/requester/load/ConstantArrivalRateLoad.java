@@ -0,0 +1,154 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.LockSupport;
+
+import com.jupiter.tools.mvc.requester.FaultInjection;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Open-model load generator, it starts requests at the fixed arrival rate
+ * independently of the time which previous requests take.
+ * <p>
+ * Requests are dispatched by the schedule to a pool of workers,
+ * the latency of each request is measured from its intended start time,
+ * so when the server stalls the waiting requests are reported too (coordinated omission correction).
+ * Use the requester without printing, otherwise the console output is measured as the service time:
+ * <pre>{@code
+ * MvcRequester requester = MvcRequester.on(mockMvc).withoutPrinting();
+ * LoadReport report = ConstantArrivalRateLoad.of(5_000)
+ *                                            .withDuration(Duration.ofSeconds(10))
+ *                                            .withWorkers(32)
+ *                                            .run(() -> requester.to("/api").get().expectStatus(OK));
+ * }</pre>
+ *
+ * @author Korovin Anatoliy
+ */
+public class ConstantArrivalRateLoad {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(10);
+    /**
+     * the scheduler parks the thread until this time before the start and spins the rest
+     */
+    private static final long SPIN_NANOS = 50_000;
+
+    private final double requestsPerSecond;
+    private final Duration duration;
+    private final int workers;
+
+    private ConstantArrivalRateLoad(double requestsPerSecond, Duration duration, int workers) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Count of workers must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.duration = duration;
+        this.workers = workers;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param requestsPerSecond count of requests which should be started every second
+     * @return ConstantArrivalRateLoad
+     */
+    public static ConstantArrivalRateLoad of(double requestsPerSecond) {
+        return new ConstantArrivalRateLoad(requestsPerSecond,
+                                           DEFAULT_DURATION,
+                                           Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param duration time of the load
+     * @return copy of this load with the selected duration
+     */
+    public ConstantArrivalRateLoad withDuration(Duration duration) {
+        return new ConstantArrivalRateLoad(requestsPerSecond, duration, workers);
+    }
+
+    /**
+     * @param workers count of threads which make requests
+     * @return copy of this load with the selected count of workers
+     */
+    public ConstantArrivalRateLoad withWorkers(int workers) {
+        return new ConstantArrivalRateLoad(requestsPerSecond, duration, workers);
+    }
+
+    /**
+     * Run the load and wait for the completion of all started requests.
+     * A request is failed when it throws an exception or an assertion error.
+     *
+     * @param request request to run
+     * @return LoadReport
+     */
+    public LoadReport run(Runnable request) {
+        LoadRecorder recorder = new LoadRecorder();
+        long start = System.nanoTime();
+        long requests = execute(request, recorder);
+        LoadInterval interval = recorder.interval();
+        return new LoadReport(requests,
+                              interval.getErrors(),
+                              Duration.ofNanos(System.nanoTime() - start),
+                              interval.getResponseTime(),
+                              interval.getServiceTime(),
+                              interval.getSchedulingLag(),
+                              interval.getRealServiceTime(),
+                              Duration.ofNanos(interval.getInjectedNanos()));
+    }
+
+    /**
+     * Run the load and wait for the completion of all started requests
+     *
+     * @param request  request to run
+     * @param recorder recorder of measurements, it can be read by intervals while the load is running
+     * @return count of dispatched requests
+     */
+    long execute(Runnable request, LoadRecorder recorder) {
+        ExecutorService pool = LoadWorkers.newPool(workers);
+        double intervalNanos = 1_000_000_000.0 / requestsPerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long requests = 0;
+        try {
+            while (true) {
+                long intendedStart = start + (long) (requests * intervalNanos);
+                if (intendedStart >= end) {
+                    break;
+                }
+                waitUntil(intendedStart);
+                recorder.recordDispatched(intendedStart);
+                pool.execute(() -> {
+                    long injectedBefore = FaultInjection.currentThreadInjectedNanos();
+                    long actualStart = System.nanoTime();
+                    boolean failed = false;
+                    try {
+                        request.run();
+                    } catch (Exception | AssertionError e) {
+                        failed = true;
+                    }
+                    recorder.recordCompleted(intendedStart,
+                                             actualStart,
+                                             FaultInjection.currentThreadInjectedNanos() - injectedBefore,
+                                             failed);
+                });
+                requests++;
+            }
+        } finally {
+            LoadWorkers.shutdownAndAwait(pool);
+        }
+        return requests;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            }
+        }
+    }
+}
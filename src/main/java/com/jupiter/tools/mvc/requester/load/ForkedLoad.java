@@ -0,0 +1,425 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Coordinator of the load which is generated by several forked JVMs,
+ * so the load generator doesn't share GC pauses and JIT compilation
+ * with the application under test and can use all cores of the machine.
+ * <p>
+ * Each forked JVM prepares its own {@link ForkedLoadTask} (a MockMvc of the application
+ * or a requester to a shared local HTTP endpoint) and runs the {@link ConstantArrivalRateLoad}
+ * with its part of the total arrival rate. Workers stream interval histograms
+ * back by a local socket and the coordinator merges them in one report:
+ * <pre>{@code
+ * ForkedLoadReport report = ForkedLoad.of(OrdersLoadTask.class, 10_000)
+ *                                     .withWorkers(4)
+ *                                     .withDuration(Duration.ofSeconds(30))
+ *                                     .withJvmArgs("-Xmx512m")
+ *                                     .run();
+ * }</pre>
+ * The output of each forked JVM is written in a temporary log file,
+ * it is kept when the worker fails and the error refers to it.
+ *
+ * @author Korovin Anatoliy
+ */
+public class ForkedLoad {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REPORT_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_START_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration ACCEPT_SLICE = Duration.ofMillis(100);
+    private static final int LOG_TAIL_LINES = 20;
+
+    private final Class<? extends ForkedLoadTask> task;
+    private final double requestsPerSecond;
+    private final int workers;
+    private final int threadsPerWorker;
+    private final Duration duration;
+    private final Duration reportInterval;
+    private final Duration startTimeout;
+    private final List<String> jvmArgs;
+
+    private ForkedLoad(Class<? extends ForkedLoadTask> task,
+                       double requestsPerSecond,
+                       int workers,
+                       int threadsPerWorker,
+                       Duration duration,
+                       Duration reportInterval,
+                       Duration startTimeout,
+                       List<String> jvmArgs) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Count of workers must be positive");
+        }
+        if (threadsPerWorker <= 0) {
+            throw new IllegalArgumentException("Count of threads must be positive");
+        }
+        this.task = task;
+        this.requestsPerSecond = requestsPerSecond;
+        this.workers = workers;
+        this.threadsPerWorker = threadsPerWorker;
+        this.duration = duration;
+        this.reportInterval = reportInterval;
+        this.startTimeout = startTimeout;
+        this.jvmArgs = jvmArgs;
+    }
+
+    /**
+     * Static factory method, by default it forks a JVM per each available processor
+     *
+     * @param task              class of the load task, it must have a public constructor without arguments
+     * @param requestsPerSecond total arrival rate of all workers
+     * @return ForkedLoad
+     */
+    public static ForkedLoad of(Class<? extends ForkedLoadTask> task, double requestsPerSecond) {
+        return new ForkedLoad(task,
+                              requestsPerSecond,
+                              Runtime.getRuntime().availableProcessors(),
+                              2,
+                              DEFAULT_DURATION,
+                              DEFAULT_REPORT_INTERVAL,
+                              DEFAULT_START_TIMEOUT,
+                              Collections.emptyList());
+    }
+
+    /**
+     * @param workers count of forked JVMs
+     * @return copy of this load with the selected count of workers
+     */
+    public ForkedLoad withWorkers(int workers) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, jvmArgs);
+    }
+
+    /**
+     * @param threadsPerWorker count of threads which make requests in each forked JVM
+     * @return copy of this load with the selected count of threads
+     */
+    public ForkedLoad withThreadsPerWorker(int threadsPerWorker) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, jvmArgs);
+    }
+
+    /**
+     * @param duration time of the load
+     * @return copy of this load with the selected duration
+     */
+    public ForkedLoad withDuration(Duration duration) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, jvmArgs);
+    }
+
+    /**
+     * @param reportInterval how often workers send measurements to the coordinator
+     * @return copy of this load with the selected interval
+     */
+    public ForkedLoad withReportInterval(Duration reportInterval) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, jvmArgs);
+    }
+
+    /**
+     * @param startTimeout maximum time of the start and preparation of forked JVMs,
+     *                     also the grace period after the duration of the load to receive results
+     * @return copy of this load with the selected timeout
+     */
+    public ForkedLoad withStartTimeout(Duration startTimeout) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, jvmArgs);
+    }
+
+    /**
+     * @param jvmArgs arguments of forked JVMs, like `-Xmx512m`
+     * @return copy of this load with the selected arguments
+     */
+    public ForkedLoad withJvmArgs(String... jvmArgs) {
+        return new ForkedLoad(task, requestsPerSecond, workers, threadsPerWorker,
+                              duration, reportInterval, startTimeout, Arrays.asList(jvmArgs));
+    }
+
+    /**
+     * Fork workers, start the load in all of them at the same time
+     * and wait for the completion.
+     *
+     * @return ForkedLoadReport
+     * @throws IllegalStateException when a worker failed
+     */
+    public ForkedLoadReport run() {
+        List<Process> processes = new ArrayList<>(workers);
+        List<File> logs = new ArrayList<>(workers);
+        WorkerConnection[] connections = new WorkerConnection[workers];
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout((int) Math.min(ACCEPT_SLICE.toMillis(), startTimeout.toMillis()));
+            for (int worker = 0; worker < workers; worker++) {
+                File log = File.createTempFile("mvc-requester-load-worker-" + worker + "-", ".log");
+                logs.add(log);
+                processes.add(fork(worker, server.getLocalPort(), log));
+            }
+            acceptAll(server, processes, logs, connections);
+            for (WorkerConnection connection : connections) {
+                connection.awaitReady(logs.get(connection.worker));
+            }
+            // a hung worker fails the load after its duration and the grace of the start timeout
+            Duration receiveTimeout = duration.plus(startTimeout);
+            for (WorkerConnection connection : connections) {
+                connection.start(receiveTimeout);
+            }
+            receiveAll(connections, logs);
+            ForkedLoadReport report = makeReport(connections);
+            logs.forEach(File::delete);
+            return report;
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        } finally {
+            for (WorkerConnection connection : connections) {
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+            processes.forEach(ForkedLoad::stop);
+        }
+    }
+
+    /**
+     * Accept connections of workers by short slices, so a worker which died before the connection
+     * (like a wrong classpath or JVM arguments) fails the load at once instead of the start timeout
+     */
+    private void acceptAll(ServerSocket server,
+                           List<Process> processes,
+                           List<File> logs,
+                           WorkerConnection[] connections) throws IOException {
+        long deadline = System.nanoTime() + startTimeout.toNanos();
+        int accepted = 0;
+        while (accepted < workers) {
+            try {
+                WorkerConnection connection = new WorkerConnection(server.accept(), startTimeout);
+                connections[connection.worker] = connection;
+                accepted++;
+                continue;
+            } catch (SocketTimeoutException e) {
+                // check workers below
+            }
+            for (int worker = 0; worker < workers; worker++) {
+                Process process = processes.get(worker);
+                if (connections[worker] == null && !process.isAlive()) {
+                    throw new IllegalStateException("Worker " + worker + " exited with the code " +
+                                                    process.exitValue() + " before the connection, see the log: " +
+                                                    logs.get(worker).getAbsolutePath() + tail(logs.get(worker)));
+                }
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                List<String> missing = new ArrayList<>();
+                for (int worker = 0; worker < workers; worker++) {
+                    if (connections[worker] == null) {
+                        missing.add(logs.get(worker).getAbsolutePath());
+                    }
+                }
+                throw new IllegalStateException("Workers didn't connect in " + startTimeout.toMillis() +
+                                                " ms, see logs: " + String.join(", ", missing));
+            }
+        }
+    }
+
+    /**
+     * @return last lines of the log of the worker, to show the reason without opening the file
+     */
+    private static String tail(File log) {
+        try {
+            List<String> lines = Files.readAllLines(log.toPath(), StandardCharsets.UTF_8);
+            List<String> tail = lines.subList(Math.max(lines.size() - LOG_TAIL_LINES, 0), lines.size());
+            return tail.isEmpty() ? "" : System.lineSeparator() + String.join(System.lineSeparator(), tail);
+        } catch (IOException | UncheckedIOException e) {
+            return "";
+        }
+    }
+
+    private Process fork(int worker, int port, File log) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedLoadWorker.class.getName());
+        command.add(String.valueOf(port));
+        command.add(String.valueOf(worker));
+        command.add(task.getName());
+        command.add(String.valueOf(requestsPerSecond / workers));
+        command.add(String.valueOf(duration.toNanos()));
+        command.add(String.valueOf(threadsPerWorker));
+        command.add(String.valueOf(reportInterval.toMillis()));
+        return new ProcessBuilder(command).redirectErrorStream(true)
+                                          .redirectOutput(log)
+                                          .start();
+    }
+
+    private void receiveAll(WorkerConnection[] connections, List<File> logs) {
+        ExecutorService pool = LoadWorkers.newPool(workers);
+        List<Future<?>> futures = new ArrayList<>(workers);
+        try {
+            for (WorkerConnection connection : connections) {
+                futures.add(pool.submit(() -> {
+                    connection.receive(logs.get(connection.worker));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MvcRequestException((Exception) e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MvcRequestException(e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ForkedLoadReport makeReport(WorkerConnection[] connections) {
+        LoadInterval total = LoadInterval.empty();
+        long requests = 0;
+        long elapsed = 0;
+        List<WorkerLoadReport> reports = new ArrayList<>(connections.length);
+        for (WorkerConnection connection : connections) {
+            LoadInterval measurements = connection.measurements;
+            total.add(measurements);
+            requests += connection.requests;
+            elapsed = Math.max(elapsed, connection.elapsed);
+            reports.add(new WorkerLoadReport(connection.worker,
+                                             measurements.getRequests(),
+                                             measurements.getErrors(),
+                                             Duration.ofMillis(measurements.getGcMillis()),
+                                             measurements.getResponseTime()));
+        }
+        LoadReport report = new LoadReport(requests,
+                                           total.getErrors(),
+                                           Duration.ofNanos(elapsed),
+                                           total.getResponseTime(),
+                                           total.getServiceTime(),
+                                           total.getSchedulingLag(),
+                                           total.getRealServiceTime(),
+                                           Duration.ofNanos(total.getInjectedNanos()));
+        return new ForkedLoadReport(report, reports);
+    }
+
+    private static void stop(Process process) {
+        try {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Connection with a single forked JVM, measurements are accumulated by intervals
+     */
+    private static class WorkerConnection {
+
+        private final Socket socket;
+        private final DataInputStream input;
+        private final DataOutputStream output;
+        private final int worker;
+        private final LoadInterval measurements = LoadInterval.empty();
+        private long requests;
+        private long elapsed;
+
+        private WorkerConnection(Socket socket, Duration startTimeout) throws IOException {
+            this.socket = socket;
+            this.socket.setSoTimeout((int) startTimeout.toMillis());
+            this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            this.worker = input.readInt();
+        }
+
+        private void awaitReady(File log) throws IOException {
+            byte signal;
+            try {
+                signal = input.readByte();
+            } catch (EOFException e) {
+                throw failed("connection closed before the preparation of the task", log);
+            }
+            if (signal == ForkedLoadWorker.FAILED) {
+                throw failed(input.readUTF(), log);
+            }
+            if (signal != ForkedLoadWorker.READY) {
+                throw failed("unexpected signal " + signal, log);
+            }
+        }
+
+        private void start(Duration receiveTimeout) throws IOException {
+            socket.setSoTimeout((int) Math.min(receiveTimeout.toMillis(), Integer.MAX_VALUE));
+            output.writeByte(ForkedLoadWorker.START);
+            output.flush();
+        }
+
+        private void receive(File log) throws IOException {
+            while (true) {
+                byte frame;
+                try {
+                    frame = input.readByte();
+                } catch (SocketTimeoutException e) {
+                    throw failed("no measurements for " + socket.getSoTimeout() + " ms", log);
+                } catch (EOFException e) {
+                    throw failed("connection closed before the end of the load", log);
+                }
+                if (frame == ForkedLoadWorker.INTERVAL) {
+                    measurements.add(LoadInterval.read(input));
+                } else if (frame == ForkedLoadWorker.DONE) {
+                    requests = input.readLong();
+                    elapsed = input.readLong();
+                    return;
+                } else {
+                    throw failed("unexpected frame " + frame, log);
+                }
+            }
+        }
+
+        private IllegalStateException failed(String message, File log) {
+            return new IllegalStateException("Worker " + worker + " failed: " + message +
+                                             ", see the log: " + log.getAbsolutePath());
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // nothing to do with the broken connection
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of the {@link ForkedLoad} run, histograms of all forked JVMs are merged in the total report
+ *
+ * @author Korovin Anatoliy
+ */
+public class ForkedLoadReport {
+
+    private final LoadReport total;
+    private final List<WorkerLoadReport> workers;
+
+    ForkedLoadReport(LoadReport total, List<WorkerLoadReport> workers) {
+        this.total = total;
+        this.workers = Collections.unmodifiableList(workers);
+    }
+
+    /**
+     * @return merged report of all forked JVMs
+     */
+    public LoadReport getTotal() {
+        return total;
+    }
+
+    /**
+     * @return reports of each forked JVM in the order of their numbers
+     */
+    public List<WorkerLoadReport> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return human readable summary of the total and each worker, times in milliseconds
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(total.summary());
+        workers.forEach(worker -> summary.append(worker.summary()));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
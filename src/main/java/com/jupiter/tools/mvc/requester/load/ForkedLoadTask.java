@@ -0,0 +1,25 @@
+package com.jupiter.tools.mvc.requester.load;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Load which is generated in a forked JVM by the {@link ForkedLoad} coordinator.
+ * An implementation must have a public constructor without arguments,
+ * it is instantiated in each forked JVM.
+ *
+ * @author Korovin Anatoliy
+ */
+@FunctionalInterface
+public interface ForkedLoadTask {
+
+    /**
+     * Prepare the request in the forked JVM, for example: build a MockMvc
+     * of the application and the {@link com.jupiter.tools.mvc.requester.MvcRequester}.
+     * The load starts in all JVMs at the same time after all of them are prepared.
+     *
+     * @param worker number of the forked JVM, starts from zero
+     * @return request which is repeated by the schedule
+     * @throws Exception when the preparation failed
+     */
+    Runnable prepare(int worker) throws Exception;
+}
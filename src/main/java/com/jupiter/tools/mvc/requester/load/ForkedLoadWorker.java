@@ -0,0 +1,150 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Entry point of JVMs which are forked by the {@link ForkedLoad} coordinator,
+ * it is not intended for the direct usage.
+ * <p>
+ * The worker connects to the coordinator by a local socket, prepares the {@link ForkedLoadTask},
+ * waits for the start signal, runs the {@link ConstantArrivalRateLoad} and sends
+ * measurements by intervals until the load is completed.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class ForkedLoadWorker {
+
+    static final byte READY = 1;
+    static final byte FAILED = 2;
+    static final byte INTERVAL = 3;
+    static final byte DONE = 4;
+    static final byte START = 1;
+
+    private final DataOutputStream output;
+    private long gcMillis;
+
+    private ForkedLoadWorker(DataOutputStream output) {
+        this.output = output;
+        this.gcMillis = totalGcMillis();
+    }
+
+    /**
+     * @param args port of the coordinator, number of the worker, class of the task,
+     *             arrival rate, duration in nanoseconds, count of threads, report interval in milliseconds
+     * @throws IOException when the connection with the coordinator is broken
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(args[0]);
+        int worker = Integer.parseInt(args[1]);
+        String taskClass = args[2];
+        ConstantArrivalRateLoad load = ConstantArrivalRateLoad.of(Double.parseDouble(args[3]))
+                                                              .withDuration(Duration.ofNanos(Long.parseLong(args[4])))
+                                                              .withWorkers(Integer.parseInt(args[5]));
+        long intervalMillis = Long.parseLong(args[6]);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            output.writeInt(worker);
+
+            Runnable request;
+            try {
+                ForkedLoadTask task = (ForkedLoadTask) Class.forName(taskClass).getConstructor().newInstance();
+                request = task.prepare(worker);
+            } catch (Exception e) {
+                output.writeByte(FAILED);
+                output.writeUTF(String.valueOf(e));
+                output.flush();
+                System.exit(1);
+                return;
+            }
+            output.writeByte(READY);
+            output.flush();
+
+            if (input.readByte() != START) {
+                throw new IOException("Unexpected signal of the coordinator");
+            }
+            new ForkedLoadWorker(output).run(load, request, intervalMillis);
+        }
+        // stop non-daemon threads which could be started by the task
+        System.exit(0);
+    }
+
+    private void run(ConstantArrivalRateLoad load, Runnable request, long intervalMillis) throws IOException {
+        LoadRecorder recorder = new LoadRecorder();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mvc-requester-load-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> send(recorder),
+                                     intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        long requests;
+        try {
+            requests = load.execute(request, recorder);
+        } finally {
+            reporter.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        awaitTermination(reporter);
+        synchronized (output) {
+            send(recorder);
+            output.writeByte(DONE);
+            output.writeLong(requests);
+            output.writeLong(elapsed);
+            output.flush();
+        }
+    }
+
+    /**
+     * Send values which were recorded since the previous sending,
+     * the interval is taken under the lock so intervals are never reordered
+     */
+    private void send(LoadRecorder recorder) {
+        synchronized (output) {
+            LoadInterval interval = recorder.interval();
+            long gc = totalGcMillis();
+            interval.setGcMillis(gc - gcMillis);
+            gcMillis = gc;
+            try {
+                output.writeByte(INTERVAL);
+                interval.write(output);
+                output.flush();
+            } catch (IOException e) {
+                // the coordinator is gone, there is nobody to report
+                System.exit(1);
+            }
+        }
+    }
+
+    private static void awaitTermination(ScheduledExecutorService reporter) {
+        try {
+            reporter.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Measurements of the load which were recorded in a time interval,
+ * intervals are sent by forked workers to the {@link ForkedLoad} coordinator
+ * in the compressed HdrHistogram format.
+ *
+ * @author Korovin Anatoliy
+ */
+class LoadInterval {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private long errors;
+    private long injectedNanos;
+    private long gcMillis;
+    private final Histogram responseTime;
+    private final Histogram serviceTime;
+    private final Histogram schedulingLag;
+    private final Histogram realServiceTime;
+
+    LoadInterval(long errors,
+                 long injectedNanos,
+                 Histogram responseTime,
+                 Histogram serviceTime,
+                 Histogram schedulingLag,
+                 Histogram realServiceTime) {
+        this.errors = errors;
+        this.injectedNanos = injectedNanos;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.schedulingLag = schedulingLag;
+        this.realServiceTime = realServiceTime;
+    }
+
+    /**
+     * @return empty interval which can accumulate other intervals
+     */
+    static LoadInterval empty() {
+        return new LoadInterval(0,
+                                0,
+                                new Histogram(SIGNIFICANT_DIGITS),
+                                new Histogram(SIGNIFICANT_DIGITS),
+                                new Histogram(SIGNIFICANT_DIGITS),
+                                new Histogram(SIGNIFICANT_DIGITS));
+    }
+
+    /**
+     * @return count of completed requests
+     */
+    long getRequests() {
+        return responseTime.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return total nanoseconds of pauses which were injected in requests
+     */
+    long getInjectedNanos() {
+        return injectedNanos;
+    }
+
+    long getGcMillis() {
+        return gcMillis;
+    }
+
+    void setGcMillis(long gcMillis) {
+        this.gcMillis = gcMillis;
+    }
+
+    Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    Histogram getSchedulingLag() {
+        return schedulingLag;
+    }
+
+    Histogram getRealServiceTime() {
+        return realServiceTime;
+    }
+
+    /**
+     * Merge values of the other interval in this one
+     *
+     * @param other interval to merge
+     */
+    void add(LoadInterval other) {
+        errors += other.errors;
+        injectedNanos += other.injectedNanos;
+        gcMillis += other.gcMillis;
+        responseTime.add(other.responseTime);
+        serviceTime.add(other.serviceTime);
+        schedulingLag.add(other.schedulingLag);
+        realServiceTime.add(other.realServiceTime);
+    }
+
+    void write(DataOutputStream output) throws IOException {
+        output.writeLong(errors);
+        output.writeLong(injectedNanos);
+        output.writeLong(gcMillis);
+        writeHistogram(output, responseTime);
+        writeHistogram(output, serviceTime);
+        writeHistogram(output, schedulingLag);
+        writeHistogram(output, realServiceTime);
+    }
+
+    static LoadInterval read(DataInputStream input) throws IOException {
+        long errors = input.readLong();
+        long injectedNanos = input.readLong();
+        long gcMillis = input.readLong();
+        LoadInterval interval = new LoadInterval(errors,
+                                                 injectedNanos,
+                                                 readHistogram(input),
+                                                 readHistogram(input),
+                                                 readHistogram(input),
+                                                 readHistogram(input));
+        interval.setGcMillis(gcMillis);
+        return interval;
+    }
+
+    private static void writeHistogram(DataOutputStream output, Histogram histogram) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        output.writeInt(length);
+        output.write(buffer.array(), 0, length);
+    }
+
+    private static Histogram readHistogram(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IOException("Wrong format of the histogram", e);
+        }
+    }
+}
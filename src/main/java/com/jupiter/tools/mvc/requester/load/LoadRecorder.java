@@ -0,0 +1,63 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Recorder;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Thread-safe recorder of the {@link ConstantArrivalRateLoad} measurements,
+ * recorded values can be taken by intervals while the load is running.
+ *
+ * @author Korovin Anatoliy
+ */
+class LoadRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder schedulingLag = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder realServiceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong injectedNanos = new AtomicLong();
+
+    /**
+     * @param intendedStart time by the schedule when the request should start
+     */
+    void recordDispatched(long intendedStart) {
+        schedulingLag.recordValue(System.nanoTime() - intendedStart);
+    }
+
+    /**
+     * @param intendedStart time by the schedule when the request should start
+     * @param actualStart   time when a worker started the request
+     * @param injected      nanoseconds of pauses which were injected in the request (see FaultInjection)
+     * @param failed        true if the request failed
+     */
+    void recordCompleted(long intendedStart, long actualStart, long injected, boolean failed) {
+        long finish = System.nanoTime();
+        responseTime.recordValue(finish - intendedStart);
+        serviceTime.recordValue(finish - actualStart);
+        realServiceTime.recordValue(Math.max(finish - actualStart - injected, 0));
+        if (injected > 0) {
+            injectedNanos.addAndGet(injected);
+        }
+        if (failed) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return values which were recorded since the previous call
+     */
+    LoadInterval interval() {
+        return new LoadInterval(errors.getAndSet(0),
+                                injectedNanos.getAndSet(0),
+                                responseTime.getIntervalHistogram(),
+                                serviceTime.getIntervalHistogram(),
+                                schedulingLag.getIntervalHistogram(),
+                                realServiceTime.getIntervalHistogram());
+    }
+}
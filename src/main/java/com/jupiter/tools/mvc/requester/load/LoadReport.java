@@ -0,0 +1,146 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of a load run, all histograms are recorded in nanoseconds.
+ *
+ * @author Korovin Anatoliy
+ */
+public class LoadReport {
+
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    private final long requests;
+    private final long errors;
+    private final Duration elapsed;
+    private final Histogram responseTime;
+    private final Histogram serviceTime;
+    private final Histogram schedulingLag;
+    private final Histogram realServiceTime;
+    private final Duration injectedTime;
+
+    LoadReport(long requests,
+               long errors,
+               Duration elapsed,
+               Histogram responseTime,
+               Histogram serviceTime,
+               Histogram schedulingLag,
+               Histogram realServiceTime,
+               Duration injectedTime) {
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.schedulingLag = schedulingLag;
+        this.realServiceTime = realServiceTime;
+        this.injectedTime = injectedTime;
+    }
+
+    /**
+     * @return count of sent requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return count of requests which failed with an exception or an assertion error
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return time from the start of the run to the completion of the last request
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return count of completed requests per second
+     */
+    public double getThroughput() {
+        return elapsed.isZero() ? 0 : requests * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    /**
+     * Time from the intended start of each request (by the schedule) to its completion,
+     * it includes the time which a request waited for a free worker,
+     * so stalls of the server are not hidden (coordinated omission is corrected).
+     *
+     * @return histogram of response times
+     */
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * @return histogram of times from the actual start of each request to its completion
+     */
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Service time of each request without pauses which were injected in it
+     * by the {@link com.jupiter.tools.mvc.requester.FaultInjection}, the split is made per request
+     *
+     * @return histogram of real service times, equal to the service time without injected faults
+     */
+    public Histogram getRealServiceTime() {
+        return realServiceTime;
+    }
+
+    /**
+     * @return total time of pauses which were injected in requests
+     */
+    public Duration getInjectedTime() {
+        return injectedTime;
+    }
+
+    /**
+     * Delay between the intended start of a request and the moment when the generator dispatched it,
+     * high values mean that the generator itself was a bottleneck.
+     *
+     * @return histogram of scheduling lags
+     */
+    public Histogram getSchedulingLag() {
+        return schedulingLag;
+    }
+
+    /**
+     * @return human readable summary of the run, times in milliseconds
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "requests: %d, errors: %d, throughput: %.1f req/s%n",
+                             requests, errors, getThroughput()) +
+               format("response time", responseTime) +
+               format("service time", serviceTime) +
+               (injectedTime.isZero() ? "" : format("real service time", realServiceTime)) +
+               format("scheduling lag", schedulingLag);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    static String format(String name, Histogram histogram) {
+        return String.format(Locale.ROOT,
+                             "%s (ms): p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                             name,
+                             histogram.getValueAtPercentile(50) / NANOS_IN_MILLI,
+                             histogram.getValueAtPercentile(90) / NANOS_IN_MILLI,
+                             histogram.getValueAtPercentile(99) / NANOS_IN_MILLI,
+                             histogram.getValueAtPercentile(99.9) / NANOS_IN_MILLI,
+                             histogram.getMaxValue() / NANOS_IN_MILLI);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Thread pools of load generators, also used by the runner of bulk requests.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class LoadWorkers {
+
+    private LoadWorkers() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated"); // $COVERAGE-IGNORE$
+    }
+
+    /**
+     * @param threads count of threads
+     * @return fixed pool of daemon threads
+     */
+    static ExecutorService newPool(int threads) {
+        return newPool("mvc-requester-load", threads);
+    }
+
+    /**
+     * @param name    prefix of names of threads
+     * @param threads count of threads
+     * @return fixed pool of daemon threads
+     */
+    public static ExecutorService newPool(String name, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Shutdown the pool and wait for the completion of all submitted tasks
+     *
+     * @param pool thread pool
+     */
+    public static void shutdownAndAwait(ExecutorService pool) {
+        pool.shutdown();
+        try {
+            while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+                // wait for the completion of all submitted tasks
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
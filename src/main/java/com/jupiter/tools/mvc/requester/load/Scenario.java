@@ -0,0 +1,164 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Multi-step flow which is executed by many virtual users concurrently,
+ * values from responses are extracted in the session of the virtual user
+ * and can be used by next steps in URI templates and bodies:
+ * <pre>{@code
+ * ScenarioReport report =
+ *         Scenario.of(requester)
+ *                 .step("create order", (r, session) -> r.to("/orders").post(new OrderDto()))
+ *                 .extract("orderId", "/id")
+ *                 .step("add item", (r, session) -> r.to("/orders/{id}/items", session.get("orderId"))
+ *                                                    .post(new ItemDto()))
+ *                 .step("checkout", (r, session) -> r.to("/orders/{id}/checkout", session.get("orderId"))
+ *                                                    .post()
+ *                                                    .expectStatus(HttpStatus.OK))
+ *                 .withVirtualUsers(50)
+ *                 .withIterations(100)
+ *                 .run();
+ * }</pre>
+ * Each virtual user runs steps one by one in its own thread, when a step fails
+ * the rest of the iteration is skipped. A step fails when the response has the status 4xx or 5xx,
+ * when an expectation of the step throws an error or when a value can't be extracted.
+ *
+ * @author Korovin Anatoliy
+ */
+public class Scenario {
+
+    private final MvcRequester requester;
+    private final List<ScenarioStep> steps = new ArrayList<>();
+    private int virtualUsers = 1;
+    private long iterations = 1;
+    private Duration duration;
+
+    private Scenario(MvcRequester requester) {
+        // printing of each response would be measured in latencies of steps
+        this.requester = requester.withoutPrinting();
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param requester requester which will be used to make requests, responses are not printed
+     * @return Scenario
+     */
+    public static Scenario of(MvcRequester requester) {
+        return new Scenario(requester);
+    }
+
+    /**
+     * Add a step in the scenario
+     *
+     * @param name    name of the step, statistics are collected by this name
+     * @param request request of the step
+     * @return Scenario
+     */
+    public Scenario step(String name, ScenarioRequest request) {
+        steps.add(new ScenarioStep(name, request));
+        return this;
+    }
+
+    /**
+     * Extract a value from the JSON response of the last added step in the session
+     *
+     * @param name        name of the value in the session
+     * @param jsonPointer JSON pointer to the value in the response, like `/id`
+     * @return Scenario
+     */
+    public Scenario extract(String name, String jsonPointer) {
+        if (steps.isEmpty()) {
+            throw new IllegalStateException("Add a step before the extraction of values");
+        }
+        steps.get(steps.size() - 1).addExtraction(name, jsonPointer);
+        return this;
+    }
+
+    /**
+     * @param virtualUsers count of virtual users which run the scenario concurrently
+     * @return Scenario
+     */
+    public Scenario withVirtualUsers(int virtualUsers) {
+        if (virtualUsers <= 0) {
+            throw new IllegalArgumentException("Count of virtual users must be positive");
+        }
+        this.virtualUsers = virtualUsers;
+        return this;
+    }
+
+    /**
+     * @param iterations count of scenario runs by each virtual user
+     * @return Scenario
+     */
+    public Scenario withIterations(long iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Count of iterations must be positive");
+        }
+        this.iterations = iterations;
+        this.duration = null;
+        return this;
+    }
+
+    /**
+     * @param duration time while each virtual user repeats the scenario, instead of the fixed count of iterations
+     * @return Scenario
+     */
+    public Scenario withDuration(Duration duration) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration of the scenario must be positive");
+        }
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Run the scenario by all virtual users and wait for the completion
+     *
+     * @return ScenarioReport
+     */
+    public ScenarioReport run() {
+        if (steps.isEmpty()) {
+            throw new IllegalStateException("Scenario doesn't contain steps");
+        }
+        ExecutorService pool = LoadWorkers.newPool(virtualUsers);
+        long start = System.nanoTime();
+        long deadline = duration == null ? 0 : start + duration.toNanos();
+        try {
+            for (int user = 0; user < virtualUsers; user++) {
+                ScenarioSession session = new ScenarioSession(user);
+                pool.execute(() -> runVirtualUser(session, deadline));
+            }
+        } finally {
+            LoadWorkers.shutdownAndAwait(pool);
+        }
+
+        List<StepReport> reports = new ArrayList<>(steps.size());
+        for (ScenarioStep step : steps) {
+            reports.add(step.report());
+        }
+        return new ScenarioReport(Duration.ofNanos(System.nanoTime() - start), reports);
+    }
+
+    private void runVirtualUser(ScenarioSession session, long deadline) {
+        for (long iteration = 0; duration != null || iteration < iterations; iteration++) {
+            if (duration != null && System.nanoTime() - deadline >= 0) {
+                return;
+            }
+            session.setIteration(iteration);
+            for (ScenarioStep step : steps) {
+                if (!step.execute(requester, session)) {
+                    break;
+                }
+            }
+        }
+    }
+}
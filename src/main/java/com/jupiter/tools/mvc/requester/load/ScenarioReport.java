@@ -0,0 +1,63 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of the {@link Scenario} run, statistics are collected by each step
+ *
+ * @author Korovin Anatoliy
+ */
+public class ScenarioReport {
+
+    private final Duration elapsed;
+    private final List<StepReport> steps;
+
+    ScenarioReport(Duration elapsed, List<StepReport> steps) {
+        this.elapsed = elapsed;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * @return time of the scenario run
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return reports of steps in the order of the scenario
+     */
+    public List<StepReport> getSteps() {
+        return steps;
+    }
+
+    /**
+     * @param name name of the step
+     * @return report of the step
+     * @throws IllegalArgumentException when the scenario doesn't contain the step
+     */
+    public StepReport getStep(String name) {
+        return steps.stream()
+                    .filter(step -> step.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown step: " + name));
+    }
+
+    /**
+     * @return human readable summary of all steps, times in milliseconds
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        steps.forEach(step -> summary.append(step.summary()));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
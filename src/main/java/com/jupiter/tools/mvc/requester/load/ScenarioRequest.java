@@ -0,0 +1,24 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import com.jupiter.tools.mvc.requester.MvcRequestResult;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Request of a single step in the {@link Scenario}
+ *
+ * @author Korovin Anatoliy
+ */
+@FunctionalInterface
+public interface ScenarioRequest {
+
+    /**
+     * Make a request of the step
+     *
+     * @param requester requester of the scenario
+     * @param session   values of the virtual user which were extracted by previous steps
+     * @return result of the request
+     */
+    MvcRequestResult execute(MvcRequester requester, ScenarioSession session);
+}
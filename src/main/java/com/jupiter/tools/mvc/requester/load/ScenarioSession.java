@@ -0,0 +1,81 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Values of a single virtual user in the {@link Scenario}, they are kept between iterations.
+ * A session is used only by the thread of its virtual user.
+ *
+ * @author Korovin Anatoliy
+ */
+public class ScenarioSession {
+
+    private final int virtualUser;
+    private final Map<String, Object> values = new HashMap<>();
+    private long iteration;
+
+    ScenarioSession(int virtualUser) {
+        this.virtualUser = virtualUser;
+    }
+
+    /**
+     * @return number of the virtual user, starts from zero
+     */
+    public int getVirtualUser() {
+        return virtualUser;
+    }
+
+    /**
+     * @return number of the current iteration of the scenario, starts from zero
+     */
+    public long getIteration() {
+        return iteration;
+    }
+
+    /**
+     * Return the value which was extracted from a response or put in the session,
+     * it can be passed directly in the URI template arguments
+     *
+     * @param name name of the value
+     * @return value
+     * @throws IllegalStateException when the session doesn't contain the value
+     */
+    public Object get(String name) {
+        if (!values.containsKey(name)) {
+            throw new IllegalStateException("Session doesn't contain the value: " + name);
+        }
+        return values.get(name);
+    }
+
+    /**
+     * Return the value which was extracted from a response or put in the session
+     *
+     * @param name name of the value
+     * @param type expected type of the value
+     * @param <T>  expected type of the value
+     * @return value
+     * @throws IllegalStateException when the session doesn't contain the value
+     */
+    public <T> T get(String name, Class<T> type) {
+        return type.cast(get(name));
+    }
+
+    /**
+     * Put the value in the session
+     *
+     * @param name  name of the value
+     * @param value value
+     * @return ScenarioSession
+     */
+    public ScenarioSession put(String name, Object value) {
+        values.put(name, value);
+        return this;
+    }
+
+    void setIteration(long iteration) {
+        this.iteration = iteration;
+    }
+}
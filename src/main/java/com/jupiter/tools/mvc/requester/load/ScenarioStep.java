@@ -0,0 +1,91 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.jupiter.tools.mvc.requester.FaultInjection;
+import com.jupiter.tools.mvc.requester.MvcRequestResult;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Step of the {@link Scenario} with its statistics
+ *
+ * @author Korovin Anatoliy
+ */
+class ScenarioStep {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final ScenarioRequest request;
+    private final Map<String, String> extractions = new LinkedHashMap<>();
+    private final Recorder latency = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder realLatency = new Recorder(SIGNIFICANT_DIGITS);
+    private final AtomicLong injectedNanos = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    ScenarioStep(String name, ScenarioRequest request) {
+        this.name = name;
+        this.request = request;
+    }
+
+    void addExtraction(String valueName, String jsonPointer) {
+        extractions.put(valueName, jsonPointer);
+    }
+
+    /**
+     * Make the request and extract values from the response in the session,
+     * responses with the status 4xx or 5xx are counted as errors
+     *
+     * @param requester requester of the scenario
+     * @param session   session of the virtual user
+     * @return true if the step was successful
+     */
+    boolean execute(MvcRequester requester, ScenarioSession session) {
+        long injectedBefore = FaultInjection.currentThreadInjectedNanos();
+        long start = System.nanoTime();
+        boolean success = true;
+        try {
+            // a lazy result is dispatched here, so the request is made and timed even without extractions
+            MvcRequestResult result = request.execute(requester, session).dispatch();
+            if (result.returnStatus() >= 400) {
+                throw new IllegalStateException("Step failed with the status: " + result.returnStatus());
+            }
+            for (Map.Entry<String, String> extraction : extractions.entrySet()) {
+                Object value = result.returnValueAt(extraction.getValue(), Object.class);
+                if (value == null) {
+                    throw new IllegalStateException("Response doesn't contain a value by the pointer: " +
+                                                    extraction.getValue());
+                }
+                session.put(extraction.getKey(), value);
+            }
+        } catch (Exception | AssertionError e) {
+            success = false;
+            errors.incrementAndGet();
+        }
+        long elapsed = System.nanoTime() - start;
+        long injected = FaultInjection.currentThreadInjectedNanos() - injectedBefore;
+        latency.recordValue(elapsed);
+        realLatency.recordValue(Math.max(elapsed - injected, 0));
+        if (injected > 0) {
+            injectedNanos.addAndGet(injected);
+        }
+        requests.incrementAndGet();
+        return success;
+    }
+
+    StepReport report() {
+        return new StepReport(name,
+                              requests.getAndSet(0),
+                              errors.getAndSet(0),
+                              latency.getIntervalHistogram(),
+                              realLatency.getIntervalHistogram(),
+                              Duration.ofNanos(injectedNanos.getAndSet(0)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Statistics of a single step of the {@link Scenario}
+ *
+ * @author Korovin Anatoliy
+ */
+public class StepReport {
+
+    private final String name;
+    private final long requests;
+    private final long errors;
+    private final Histogram latency;
+    private final Histogram realLatency;
+    private final Duration injectedTime;
+
+    StepReport(String name,
+               long requests,
+               long errors,
+               Histogram latency,
+               Histogram realLatency,
+               Duration injectedTime) {
+        this.name = name;
+        this.requests = requests;
+        this.errors = errors;
+        this.latency = latency;
+        this.realLatency = realLatency;
+        this.injectedTime = injectedTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return count of step executions
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return count of failed executions, including failed extractions of values
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return histogram of the step latency in nanoseconds
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return histogram of the step latency without pauses which were injected
+     * by the {@link com.jupiter.tools.mvc.requester.FaultInjection} in nanoseconds
+     */
+    public Histogram getRealLatency() {
+        return realLatency;
+    }
+
+    /**
+     * @return total time of pauses which were injected in requests of the step
+     */
+    public Duration getInjectedTime() {
+        return injectedTime;
+    }
+
+    /**
+     * @return human readable summary of the step, times in milliseconds
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "%s: requests: %d, errors: %d%n", name, requests, errors) +
+               LoadReport.format("latency", latency) +
+               (injectedTime.isZero() ? "" : LoadReport.format("real latency", realLatency));
+    }
+}
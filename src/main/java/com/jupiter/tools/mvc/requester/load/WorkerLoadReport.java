@@ -0,0 +1,79 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Result of a single forked JVM in the {@link ForkedLoad} run
+ *
+ * @author Korovin Anatoliy
+ */
+public class WorkerLoadReport {
+
+    private final int worker;
+    private final long requests;
+    private final long errors;
+    private final Duration gcTime;
+    private final Histogram responseTime;
+
+    WorkerLoadReport(int worker, long requests, long errors, Duration gcTime, Histogram responseTime) {
+        this.worker = worker;
+        this.requests = requests;
+        this.errors = errors;
+        this.gcTime = gcTime;
+        this.responseTime = responseTime;
+    }
+
+    /**
+     * @return number of the forked JVM, starts from zero
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    /**
+     * @return count of completed requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return count of failed requests
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return total time of garbage collections in the forked JVM while the load was running
+     */
+    public Duration getGcTime() {
+        return gcTime;
+    }
+
+    /**
+     * @return histogram of response times in nanoseconds
+     */
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * @return human readable summary of the worker, times in milliseconds
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "worker %d: requests: %d, errors: %d, gc: %d ms%n",
+                             worker, requests, errors, gcTime.toMillis()) +
+               LoadReport.format("response time", responseTime);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
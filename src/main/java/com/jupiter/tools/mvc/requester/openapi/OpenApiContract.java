@@ -0,0 +1,307 @@
+package com.jupiter.tools.mvc.requester.openapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.MvcRequestSpec;
+import com.jupiter.tools.mvc.requester.MvcTransportResponse;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Local OpenAPI 3 document which validates requests and responses
+ * (requires the `com.networknt:json-schema-validator` in the classpath,
+ * and the `jackson-dataformat-yaml` for YAML documents).
+ * <p>
+ * The document is loaded once per location: operations are indexed in a trie of path templates
+ * and all schemas of parameters, request bodies and responses are compiled at the loading,
+ * so a validation costs a lookup by segments of the path and runs of compiled validators.
+ * <p>
+ * It checks that the path and the method are described, path, query and header parameters
+ * (required and by schemas), the request body, the status code and the response body.
+ * Violations of the request are not reported when the server responded with a 4xx status,
+ * so negative tests can send invalid requests.
+ *
+ * @author Korovin Anatoliy
+ */
+public final class OpenApiContract {
+
+    private static final Map<String, OpenApiContract> CONTRACTS = new ConcurrentHashMap<>();
+    private static final String CLASSPATH = "classpath:";
+    private static final String[] METHODS = {"get", "put", "post", "delete", "options", "head", "patch", "trace"};
+
+    private final String location;
+    private final PathTemplateTrie<Map<String, OpenApiOperation>> operations;
+
+    private OpenApiContract(String location, PathTemplateTrie<Map<String, OpenApiOperation>> operations) {
+        this.location = location;
+        this.operations = operations;
+    }
+
+    /**
+     * Load the document or return the already loaded one
+     *
+     * @param location path of the document in the classpath (like `openapi.yaml`),
+     *                 or an URI with the `classpath:`, `file:` or `http:` scheme
+     * @return OpenApiContract
+     */
+    public static OpenApiContract load(String location) {
+        return CONTRACTS.computeIfAbsent(location, OpenApiContract::parse);
+    }
+
+    /**
+     * Validate the request and its response
+     *
+     * @param request  request
+     * @param response response of the request
+     * @return descriptions of violations, an empty list if the request and the response match the contract
+     */
+    public List<String> validate(MvcRequestSpec request, MvcTransportResponse response) {
+        List<String> violations = new ArrayList<>();
+        String method = request.getMethod().name();
+        String path = request.getUri().getPath();
+        Map<String, String> pathVariables = new HashMap<>();
+        Map<String, OpenApiOperation> pathItem = operations.find(path, pathVariables);
+        if (pathItem == null) {
+            violations.add(method + " " + path + " is not described");
+            return violations;
+        }
+        OpenApiOperation operation = pathItem.get(method);
+        if (operation == null) {
+            violations.add(method + " " + path + " is not described, documented methods: " + pathItem.keySet());
+            return violations;
+        }
+        int status = response.getStatus();
+        if (status < 400 || status >= 500) {
+            operation.validateParameters(pathVariables, queryParams(request), headers(request), violations);
+            if (!request.isMultipart()) {
+                operation.validateRequestBody(request.getContentType(), request.getContent(), violations);
+            }
+        }
+        operation.validateResponse(status,
+                                   response.getHeader(HttpHeaders.CONTENT_TYPE),
+                                   response.getContentAsByteArray(),
+                                   violations);
+        return violations;
+    }
+
+    /**
+     * Validate the request and its response
+     *
+     * @param request  request
+     * @param response response of the request
+     * @throws AssertionError with all violations when the request or the response doesn't match the contract
+     */
+    public void verify(MvcRequestSpec request, MvcTransportResponse response) {
+        List<String> violations = validate(request, response);
+        if (!violations.isEmpty()) {
+            throw new AssertionError(request.getMethod() + " " + request.getUri().getPath() +
+                                     " violates the OpenAPI contract " + location + ":" +
+                                     System.lineSeparator() + "  " +
+                                     String.join(System.lineSeparator() + "  ", violations));
+        }
+    }
+
+    private static Map<String, List<String>> queryParams(MvcRequestSpec request) {
+        Map<String, List<String>> params = new HashMap<>();
+        request.forEachParam((name, value) -> params.computeIfAbsent(name, n -> new ArrayList<>(1)).add(value));
+        String query = request.getUri().getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                String name = separator < 0 ? pair : pair.substring(0, separator);
+                String value = separator < 0 ? "" : pair.substring(separator + 1);
+                params.computeIfAbsent(UriUtils.decode(name, StandardCharsets.UTF_8), n -> new ArrayList<>(1))
+                      .add(UriUtils.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static Map<String, List<String>> headers(MvcRequestSpec request) {
+        Map<String, List<String>> headers = new HashMap<>();
+        request.forEachHeader((name, value) -> headers.computeIfAbsent(name.toLowerCase(Locale.ROOT),
+                                                                        n -> new ArrayList<>(1))
+                                                      .add(value));
+        return headers;
+    }
+
+    private static OpenApiContract parse(String location) {
+        JsonNode document = read(location);
+        JsonNode components = document.path("components");
+        SchemaCompiler compiler = new SchemaCompiler(document, components);
+        String basePath = basePath(document);
+
+        PathTemplateTrie<Map<String, OpenApiOperation>> operations = new PathTemplateTrie<>();
+        Iterator<Map.Entry<String, JsonNode>> paths = document.path("paths").fields();
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            JsonNode pathItem = compiler.resolve(path.getValue());
+            Map<String, OpenApiOperation> methods = new LinkedHashMap<>();
+            for (String method : METHODS) {
+                JsonNode operation = pathItem.get(method);
+                if (operation != null) {
+                    String name = method.toUpperCase(Locale.ROOT);
+                    methods.put(name, compiler.operation(name + " " + path.getKey(), pathItem, operation));
+                }
+            }
+            operations.put(basePath + path.getKey(), methods);
+        }
+        return new OpenApiContract(location, operations);
+    }
+
+    /**
+     * @return path of the first server, like `/api/v1` for the server `https://example.com/api/v1`
+     */
+    private static String basePath(JsonNode document) {
+        String url = document.path("servers").path(0).path("url").asText("");
+        if (url.contains("{")) {
+            return "";
+        }
+        String path = URI.create(url).getPath();
+        if (path == null) {
+            return "";
+        }
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static JsonNode read(String location) {
+        boolean yaml = location.endsWith(".yaml") || location.endsWith(".yml");
+        ObjectMapper mapper = yaml ? new ObjectMapper(new YAMLFactory()) : new ObjectMapper();
+        try (InputStream stream = open(location)) {
+            return mapper.readTree(stream);
+        } catch (IOException e) {
+            throw new MvcRequestException(e);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        if (location.contains(":") && !location.startsWith(CLASSPATH)) {
+            return URI.create(location).toURL().openStream();
+        }
+        String resource = location.startsWith(CLASSPATH) ? location.substring(CLASSPATH.length()) : location;
+        resource = resource.startsWith("/") ? resource.substring(1) : resource;
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IllegalArgumentException("OpenAPI document is not found in the classpath: " + resource);
+        }
+        return stream;
+    }
+
+    /**
+     * Compiles schemas of the document, local references (`#/components/...`) are resolved
+     * against components of the document
+     */
+    private static final class SchemaCompiler {
+
+        private final JsonNode document;
+        private final JsonNode components;
+        private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+        private final SchemaValidatorsConfig bodyConfig = new SchemaValidatorsConfig();
+        private final SchemaValidatorsConfig parameterConfig = new SchemaValidatorsConfig();
+
+        private SchemaCompiler(JsonNode document, JsonNode components) {
+            this.document = document;
+            this.components = components;
+            bodyConfig.setHandleNullableField(true);
+            parameterConfig.setHandleNullableField(true);
+            // values of parameters are strings, `?page=1` matches the schema `type: integer`
+            parameterConfig.setTypeLoose(true);
+        }
+
+        private OpenApiOperation operation(String name, JsonNode pathItem, JsonNode operation) {
+            Map<String, OpenApiOperation.Parameter> parameters = new LinkedHashMap<>();
+            for (JsonNode declared : new JsonNode[]{pathItem.path("parameters"), operation.path("parameters")}) {
+                for (JsonNode node : declared) {
+                    OpenApiOperation.Parameter parameter = parameter(resolve(node));
+                    // parameters of the operation override parameters of the path
+                    parameters.put(parameter.getIn() + ":" + parameter.getName(), parameter);
+                }
+            }
+            JsonNode requestBody = resolve(operation.path("requestBody"));
+            Map<String, Map<MediaType, JsonSchema>> responses = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> statuses = operation.path("responses").fields();
+            while (statuses.hasNext()) {
+                Map.Entry<String, JsonNode> status = statuses.next();
+                responses.put(status.getKey().toUpperCase(Locale.ROOT), content(resolve(status.getValue())));
+            }
+            return new OpenApiOperation(name,
+                                        new ArrayList<>(parameters.values()),
+                                        requestBody.path("required").asBoolean(false),
+                                        content(requestBody),
+                                        responses);
+        }
+
+        private OpenApiOperation.Parameter parameter(JsonNode node) {
+            JsonNode schema = node.get("schema");
+            String in = node.path("in").asText();
+            boolean array = schema != null && "array".equals(resolve(schema).path("type").asText());
+            return new OpenApiOperation.Parameter(node.path("name").asText(),
+                                                  in,
+                                                  "path".equals(in) || node.path("required").asBoolean(false),
+                                                  array,
+                                                  schema == null ? null : compile(schema, parameterConfig));
+        }
+
+        private Map<MediaType, JsonSchema> content(JsonNode node) {
+            Map<MediaType, JsonSchema> content = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> mediaTypes = node.path("content").fields();
+            while (mediaTypes.hasNext()) {
+                Map.Entry<String, JsonNode> mediaType = mediaTypes.next();
+                JsonNode schema = mediaType.getValue().get("schema");
+                content.put(MediaType.parseMediaType(mediaType.getKey()),
+                            schema == null ? null : compile(schema, bodyConfig));
+            }
+            return content.isEmpty() ? Collections.emptyMap() : content;
+        }
+
+        private JsonSchema compile(JsonNode schema, SchemaValidatorsConfig config) {
+            // the schema is the root for the validator, so components are attached to resolve references
+            ObjectNode root = schema.deepCopy();
+            root.set("components", components);
+            JsonSchema compiled = factory.getSchema(root, config);
+            compiled.getValidators();
+            return compiled;
+        }
+
+        /**
+         * @return the node or the node referenced by its `$ref`
+         */
+        private JsonNode resolve(JsonNode node) {
+            JsonNode resolved = node;
+            for (int depth = 0; resolved.has("$ref") && depth < 16; depth++) {
+                String ref = resolved.get("$ref").asText();
+                if (!ref.startsWith("#/")) {
+                    throw new IllegalArgumentException("Only local references are supported in the OpenAPI document: " + ref);
+                }
+                resolved = document.at(JsonPointer.compile(ref.substring(1)));
+            }
+            return resolved;
+        }
+    }
+}
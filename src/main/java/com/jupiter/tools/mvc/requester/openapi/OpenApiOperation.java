@@ -0,0 +1,235 @@
+package com.jupiter.tools.mvc.requester.openapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Operation of the OpenAPI contract (a method of a path template) with compiled validators
+ * of parameters, request bodies and responses.
+ *
+ * @author Korovin Anatoliy
+ */
+final class OpenApiOperation {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final List<Parameter> parameters;
+    private final boolean bodyRequired;
+    /**
+     * validators of the request body by media types, a null validator accepts any content
+     */
+    private final Map<MediaType, JsonSchema> requestBodies;
+    /**
+     * validators of response bodies by status codes (`200`, `2XX`, `default`) and media types
+     */
+    private final Map<String, Map<MediaType, JsonSchema>> responses;
+
+    OpenApiOperation(String name,
+                     List<Parameter> parameters,
+                     boolean bodyRequired,
+                     Map<MediaType, JsonSchema> requestBodies,
+                     Map<String, Map<MediaType, JsonSchema>> responses) {
+        this.name = name;
+        this.parameters = parameters;
+        this.bodyRequired = bodyRequired;
+        this.requestBodies = requestBodies;
+        this.responses = responses;
+    }
+
+    /**
+     * @return name of the operation, like `GET /orders/{id}`
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @param pathVariables values of path variables
+     * @param query         values of query parameters
+     * @param headers       values of request headers, names are in the lower case
+     * @param violations    receives violations
+     */
+    void validateParameters(Map<String, String> pathVariables,
+                            Map<String, List<String>> query,
+                            Map<String, List<String>> headers,
+                            List<String> violations) {
+        for (Parameter parameter : parameters) {
+            List<String> values;
+            switch (parameter.in) {
+                case "path":
+                    String value = pathVariables.get(parameter.name);
+                    values = value == null ? null : Collections.singletonList(value);
+                    break;
+                case "query":
+                    values = query.get(parameter.name);
+                    break;
+                case "header":
+                    values = headers.get(parameter.name.toLowerCase(Locale.ROOT));
+                    break;
+                default:
+                    continue;
+            }
+            if (values == null || values.isEmpty()) {
+                if (parameter.required) {
+                    violations.add(parameter.label + " is required");
+                }
+                continue;
+            }
+            if (parameter.schema != null) {
+                validate(parameter.schema, parameter.toNode(values), parameter.label, violations);
+            }
+        }
+    }
+
+    /**
+     * @param contentType content type of the request body, null if the request hasn't a body
+     * @param content     request body
+     * @param violations  receives violations
+     */
+    void validateRequestBody(MediaType contentType, byte[] content, List<String> violations) {
+        if (content == null || content.length == 0) {
+            if (bodyRequired) {
+                violations.add("request body is required");
+            }
+            return;
+        }
+        validateContent(requestBodies, contentType, content, "request body", violations);
+    }
+
+    /**
+     * @param status      status code of the response
+     * @param contentType content type of the response body or null
+     * @param content     response body
+     * @param violations  receives violations
+     */
+    void validateResponse(int status, String contentType, byte[] content, List<String> violations) {
+        Map<MediaType, JsonSchema> bodies = responses.get(Integer.toString(status));
+        if (bodies == null) {
+            bodies = responses.get(status / 100 + "XX");
+        }
+        if (bodies == null) {
+            bodies = responses.get("default");
+        }
+        if (bodies == null) {
+            violations.add("response status " + status + " is not documented");
+            return;
+        }
+        if (content.length > 0 && !bodies.isEmpty()) {
+            validateContent(bodies,
+                            contentType == null ? null : MediaType.parseMediaType(contentType),
+                            content,
+                            "response body",
+                            violations);
+        }
+    }
+
+    private static void validateContent(Map<MediaType, JsonSchema> bodies,
+                                        MediaType contentType,
+                                        byte[] content,
+                                        String label,
+                                        List<String> violations) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        Map.Entry<MediaType, JsonSchema> documented = null;
+        for (Map.Entry<MediaType, JsonSchema> body : bodies.entrySet()) {
+            if (contentType == null ? bodies.size() == 1 : body.getKey().includes(contentType)) {
+                documented = body;
+                break;
+            }
+        }
+        if (documented == null) {
+            violations.add(label + " content type " + contentType + " is not documented, expected one of " + bodies.keySet());
+            return;
+        }
+        JsonSchema schema = documented.getValue();
+        if (schema == null || !isJson(contentType == null ? documented.getKey() : contentType)) {
+            return;
+        }
+        JsonNode document;
+        try {
+            document = JSON_MAPPER.readTree(content);
+        } catch (Exception e) {
+            violations.add(label + " is not a valid JSON: " + new String(content, StandardCharsets.UTF_8));
+            return;
+        }
+        validate(schema, document, label, violations);
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return mediaType.getSubtype().equals("json") || mediaType.getSubtype().endsWith("+json");
+    }
+
+    private static void validate(JsonSchema schema, JsonNode node, String label, List<String> violations) {
+        Set<ValidationMessage> messages = schema.validate(node);
+        List<String> sorted = new ArrayList<>(messages.size());
+        for (ValidationMessage message : messages) {
+            // messages start with the path of the value: `$.items[0].id: ...`
+            String text = message.getMessage();
+            sorted.add(text.startsWith("$: ") ? label + text.substring(1) : label + " " + text);
+        }
+        Collections.sort(sorted);
+        violations.addAll(sorted);
+    }
+
+    /**
+     * Parameter of the operation in the path, the query or headers
+     */
+    static final class Parameter {
+
+        private final String name;
+        private final String in;
+        private final boolean required;
+        private final boolean array;
+        private final JsonSchema schema;
+        private final String label;
+
+        Parameter(String name, String in, boolean required, boolean array, JsonSchema schema) {
+            this.name = name;
+            this.in = in;
+            this.required = required;
+            this.array = array;
+            this.schema = schema;
+            this.label = in + " parameter '" + name + "'";
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getIn() {
+            return in;
+        }
+
+        private JsonNode toNode(List<String> values) {
+            if (!array) {
+                return TextNode.valueOf(values.get(0));
+            }
+            ArrayNode node = JsonNodeFactory.instance.arrayNode();
+            for (String value : values) {
+                for (String element : value.split(",")) {
+                    node.add(element);
+                }
+            }
+            return node;
+        }
+    }
+}
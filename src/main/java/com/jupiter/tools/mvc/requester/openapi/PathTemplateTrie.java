@@ -0,0 +1,122 @@
+package com.jupiter.tools.mvc.requester.openapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Trie of path templates (like `/orders/{id}/items`) split by segments,
+ * a path is resolved in a count of steps which is equal to the count of its segments.
+ * Literal segments are preferred to segments with variables, so `/orders/new`
+ * wins over `/orders/{id}` for the path `/orders/new`.
+ *
+ * @param <T> type of values
+ * @author Korovin Anatoliy
+ */
+final class PathTemplateTrie<T> {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{([^}/]+)}");
+
+    private final Map<String, PathTemplateTrie<T>> literals = new HashMap<>();
+    private final List<TemplateSegment<T>> templates = new ArrayList<>();
+    private T value;
+
+    /**
+     * @param template path template, like `/orders/{id}`
+     * @param value    value of the template
+     */
+    void put(String template, T value) {
+        PathTemplateTrie<T> node = this;
+        for (String segment : split(template)) {
+            node = node.child(segment);
+        }
+        node.value = value;
+    }
+
+    /**
+     * @param path      path of a request, like `/orders/42`
+     * @param variables receives values of variables of the found template
+     * @return value of the template which matches the path or null
+     */
+    T find(String path, Map<String, String> variables) {
+        return find(split(path), 0, variables);
+    }
+
+    private T find(String[] segments, int index, Map<String, String> variables) {
+        if (index == segments.length) {
+            return value;
+        }
+        PathTemplateTrie<T> literal = literals.get(segments[index]);
+        if (literal != null) {
+            T found = literal.find(segments, index + 1, variables);
+            if (found != null) {
+                return found;
+            }
+        }
+        for (TemplateSegment<T> template : templates) {
+            Matcher matcher = template.pattern.matcher(segments[index]);
+            if (matcher.matches()) {
+                T found = template.node.find(segments, index + 1, variables);
+                if (found != null) {
+                    for (int group = 0; group < template.names.size(); group++) {
+                        variables.put(template.names.get(group), matcher.group(group + 1));
+                    }
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private PathTemplateTrie<T> child(String segment) {
+        if (!segment.contains("{")) {
+            return literals.computeIfAbsent(segment, s -> new PathTemplateTrie<>());
+        }
+        for (TemplateSegment<T> template : templates) {
+            if (template.segment.equals(segment)) {
+                return template.node;
+            }
+        }
+        TemplateSegment<T> template = new TemplateSegment<>(segment);
+        templates.add(template);
+        return template.node;
+    }
+
+    private static String[] split(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    /**
+     * Segment of the template with variables, like `{id}` or `{name}.json`
+     */
+    private static final class TemplateSegment<T> {
+
+        private final String segment;
+        private final Pattern pattern;
+        private final List<String> names = new ArrayList<>();
+        private final PathTemplateTrie<T> node = new PathTemplateTrie<>();
+
+        private TemplateSegment(String segment) {
+            this.segment = segment;
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = VARIABLE.matcher(segment);
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(segment.substring(last, matcher.start()))).append("([^/]+?)");
+                names.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(segment.substring(last)));
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+}
@@ -15,6 +15,10 @@ public class UriBuilder {
 
     public URI build(String pattern, Object[] args) {
         String urlPattern = pattern.trim();
+        if ((args == null || args.length == 0) && isPlainPath(urlPattern)) {
+            // nothing to expand or encode, so the URI template parsing is skipped
+            return URI.create(urlPattern.startsWith("/") ? urlPattern : '/' + urlPattern);
+        }
         URI uri = internalBuildUri(urlPattern, args);
         return startFromDash(uri)
                ? uri
@@ -30,6 +34,24 @@ public class UriBuilder {
         return components.encode().toUri();
     }
 
+    /**
+     * @return true if the path contains only unreserved characters and slashes
+     */
+    private boolean isPlainPath(String path) {
+        if (path.isEmpty() || path.startsWith("//")) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            boolean plain = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                            c == '/' || c == '-' || c == '.' || c == '_' || c == '~';
+            if (!plain) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private boolean startFromDash(URI uri) {
         return uri.toString().charAt(0) == '/';
     }
@@ -0,0 +1,213 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class EndpointCoverageTest {
+
+    private static AnnotationConfigWebApplicationContext context;
+    private static MockMvc mockMvc;
+
+    @BeforeAll
+    static void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(WebConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void countHitsByHandlerMethods() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        for (int id = 0; id < 3; id++) {
+            requester.to("/orders/{id}", id).get();
+        }
+        requester.to("/orders/{id}", 404).get();
+        requester.to("/orders").post();
+        // Assert
+        List<EndpointStats> endpoints = coverage.getEndpoints();
+        assertThat(endpoints).hasSize(2);
+        EndpointStats get = endpoints.get(0);
+        assertThat(get.getEndpoint()).isEqualTo("TestController#get(int)");
+        assertThat(get.getHits()).isEqualTo(4);
+        assertThat(get.getStatuses()).containsEntry(200, 3L)
+                                     .containsEntry(404, 1L);
+        assertThat(get.getTotalTime()).isGreaterThan(Duration.ZERO);
+        assertThat(get.getMeanTime()).isLessThanOrEqualTo(get.getTotalTime());
+        assertThat(endpoints.get(1).getEndpoint()).isEqualTo("TestController#create()");
+    }
+
+    @Test
+    void untestedEndpoints() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create()
+                                                    .withInventory(context.getBean(RequestMappingHandlerMapping.class));
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        requester.to("/orders/1").get();
+        // Assert
+        assertThat(coverage.getUntestedEndpoints()).hasSize(2)
+                                                   .anyMatch(e -> e.contains("/orders") && e.endsWith("TestController#create()"))
+                                                   .anyMatch(e -> e.contains("/orders/archive") && e.endsWith("TestController#archive()"));
+        assertThat(coverage.report()).contains("TestController#get(int) hits: 1")
+                                     .contains("Untested endpoints (2 of 3):");
+    }
+
+    @Test
+    void requestsWithoutHandlerAreCountedByPath() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        requester.to("/unknown").get();
+        // Assert
+        assertThat(coverage.getEndpoints()).extracting(EndpointStats::getEndpoint)
+                                           .containsExactly("GET /unknown");
+    }
+
+    @Test
+    void requestsWithoutHandlerAreCountedByUriTemplate() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        requester.to("/unknown/{id}", 1).get();
+        requester.to("/unknown/{id}?page={page}", 2, 3).get();
+        // Assert
+        assertThat(coverage.getEndpoints()).extracting(EndpointStats::getEndpoint)
+                                           .containsExactly("GET /unknown/{id}");
+        assertThat(coverage.getEndpoints().get(0).getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRequestsAreCountedAsErrors() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcTransport failing = request -> {
+            throw new IllegalStateException("connection refused");
+        };
+        MvcRequester requester = MvcRequester.on(failing, new ObjectMapper(), new ObjectMapper())
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        for (int id = 0; id < 2; id++) {
+            int orderId = id;
+            assertThatThrownBy(() -> requester.to("/orders/{id}", orderId).get()).isInstanceOf(MvcRequestException.class);
+        }
+        // Assert
+        assertThat(coverage.getEndpoints()).hasSize(1);
+        EndpointStats stats = coverage.getEndpoints().get(0);
+        assertThat(stats.getEndpoint()).isEqualTo("GET /orders/{id}");
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getErrors()).isEqualTo(2);
+        assertThat(stats.getStatuses()).isEmpty();
+    }
+
+    @Test
+    void countConcurrentRequests() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withEndpointCoverage(coverage);
+        // Act
+        CompletableFuture.allOf(IntStream.range(0, 200)
+                                         .mapToObj(i -> requester.to("/orders/{id}", i).getAsync())
+                                         .toArray(CompletableFuture[]::new))
+                         .join();
+        // Assert
+        assertThat(coverage.getEndpoints()).hasSize(1);
+        assertThat(coverage.getEndpoints().get(0).getHits()).isEqualTo(200);
+    }
+
+    @Test
+    void reset() {
+        // Arrange
+        EndpointCoverage coverage = EndpointCoverage.create();
+        MvcRequester.on(mockMvc)
+                    .withoutPrinting()
+                    .withEndpointCoverage(coverage)
+                    .to("/orders/1")
+                    .get();
+        // Act
+        coverage.reset();
+        // Assert
+        assertThat(coverage.getEndpoints()).isEmpty();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        public TestController testController() {
+            return new TestController();
+        }
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/orders/{id}")
+        public ResponseEntity<String> get(@PathVariable int id) {
+            return id == 404 ? ResponseEntity.notFound().build() : ResponseEntity.ok("order " + id);
+        }
+
+        @PostMapping("/orders")
+        public ResponseEntity<Void> create() {
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        }
+
+        @GetMapping("/orders/archive")
+        public String archive() {
+            return "archive";
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class FaultInjectionTest {
+
+    private final MvcRequester requester =
+            MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                        .withoutPrinting();
+
+    @Test
+    void errorsAreReproducibleWithTheSameSeed() {
+        // Act
+        List<Integer> first = statuses(FaultInjection.create(42).withErrorRate("/orders/{id}", 0.3, 503));
+        List<Integer> second = statuses(FaultInjection.create(42).withErrorRate("/orders/{id}", 0.3, 503));
+        List<Integer> other = statuses(FaultInjection.create(7).withErrorRate("/orders/{id}", 0.3, 503));
+        // Assert
+        assertThat(first).isEqualTo(second)
+                         .isNotEqualTo(other)
+                         .contains(200, 503);
+        assertThat(first.stream().filter(status -> status == 503).count()).isBetween(10L, 50L);
+    }
+
+    @Test
+    void latencyOfMatchingPaths() {
+        // Arrange
+        List<Long> pauses = new ArrayList<>();
+        FaultInjection faults = FaultInjection.create(1)
+                                              .withLatency("/orders/**", LatencyDistribution.fixed(Duration.ofMillis(5)))
+                                              .withSleeper(pauses::add);
+        MvcRequester degraded = requester.withFaultInjection(faults);
+        // Act
+        degraded.to("/orders/{id}", 1).get();
+        degraded.to("/health").get();
+        // Assert
+        assertThat(pauses).containsExactly(Duration.ofMillis(5).toNanos());
+        assertThat(faults.getDelayedRequests()).isEqualTo(1);
+        assertThat(faults.summary()).startsWith("requests: 2, delayed: 1, failed: 0");
+    }
+
+    @Test
+    void slowBodyDependsOnSize() {
+        // Arrange
+        List<Long> pauses = new ArrayList<>();
+        FaultInjection faults = FaultInjection.create(1)
+                                              .withSlowBody("/orders/*", 4, Duration.ofMillis(1))
+                                              .withSleeper(pauses::add);
+        // Act
+        requester.withFaultInjection(faults).to("/orders/{id}", 123456789).get();
+        // Assert
+        assertThat(pauses).containsExactly(Duration.ofMillis(3).toNanos());
+    }
+
+    @Test
+    void injectedLatencyInMeasurement() {
+        // Arrange
+        FaultInjection faults = FaultInjection.create(1).withLatency("/orders/*", LatencyDistribution.fixed(Duration.ofMillis(20)));
+        MvcRequester degraded = requester.withFaultInjection(faults);
+        // Act
+        RequestMeasurement measurement = degraded.to("/orders/{id}", 1)
+                                                 .withMeasurement(0, 3)
+                                                 .get()
+                                                 .returnMeasurement();
+        RequestMeasurement clean = requester.to("/orders/{id}", 1).get().returnMeasurement();
+        // Assert
+        assertThat(measurement.getInjectedLatency()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(measurement.getLatency()).isGreaterThanOrEqualTo(measurement.getInjectedLatency());
+        assertThat(measurement.getRealLatency()).isLessThan(measurement.getLatency());
+        long[] latencies = measurement.getLatencySamples();
+        long[] injected = measurement.getInjectedLatencySamples();
+        long[] real = measurement.getRealLatencySamples();
+        for (int i = 0; i < real.length; i++) {
+            assertThat(real[i]).isEqualTo(latencies[i] - injected[i]);
+        }
+        // the actual time of pauses is recorded
+        assertThat(faults.getInjectedTime()).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+        assertThat(measurement.toString()).contains("injected: ").contains("real: ");
+        assertThat(clean.getInjectedLatency()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void distributions() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(1);
+        LatencyDistribution uniform = LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(20));
+        LatencyDistribution logNormal = LatencyDistribution.logNormal(Duration.ofMillis(10), 0.5);
+        // Act
+        long[] uniformSamples = IntStream.range(0, 1000).mapToLong(i -> uniform.sampleNanos(random)).toArray();
+        long[] logNormalSamples = IntStream.range(0, 1001).mapToLong(i -> logNormal.sampleNanos(random)).toArray();
+        // Assert
+        assertThat(LongStream.of(uniformSamples).allMatch(nanos -> nanos >= 10_000_000 && nanos < 20_000_000)).isTrue();
+        assertThat(RequestMeasurement.median(logNormalSamples)).isBetween(9_000_000L, 11_000_000L);
+        assertThrows(IllegalArgumentException.class,
+                     () -> LatencyDistribution.uniform(Duration.ofMillis(20), Duration.ofMillis(10)));
+    }
+
+    private List<Integer> statuses(FaultInjection faults) {
+        MvcRequester degraded = requester.withFaultInjection(faults);
+        return IntStream.range(0, 100)
+                        .mapToObj(i -> degraded.to("/orders/{id}", i).get().returnStatus())
+                        .collect(Collectors.toList());
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/orders/{id}")
+        public String order(@PathVariable("id") String id) {
+            return id;
+        }
+
+        @GetMapping("/health")
+        public String health() {
+            return "ok";
+        }
+    }
+}
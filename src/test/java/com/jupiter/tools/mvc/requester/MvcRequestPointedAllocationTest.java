@@ -0,0 +1,130 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created on 19.10.2026.
+ * <p>
+ * Allocations of the request builder, requests are made by a stub transport
+ * to count only allocations of the requester itself. With Guava multimaps in the builder
+ * a plain GET took about 3100 bytes and a GET with two parameters and a header about 4950 bytes,
+ * with flat arrays of pairs they take about 450 and 660 bytes (JDK 8).
+ * <p>
+ * Sizes of objects depend on the JVM, so each request is compared with the baseline
+ * which is measured in the same test: the mock request with the same parameters
+ * and headers, which the MockMvc transport builds for every request anyway.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequestPointedAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 10_000;
+
+    private final MvcRequester requester = MvcRequester.on(request -> StubResponse.INSTANCE,
+                                                           new ObjectMapper(),
+                                                           new ObjectMapper());
+    private final MockServletContext servletContext = new MockServletContext();
+
+    @BeforeEach
+    void setUp() {
+        Assumptions.assumeTrue(AllocationCounter.isSupported());
+    }
+
+    @Test
+    void plainGet() {
+        long baseline = allocatedBytesPerRequest(() -> MockMvcRequestBuilders.get("/test/orders")
+                                                                             .buildRequest(servletContext));
+        long bytes = allocatedBytesPerRequest(() -> requester.to("/test/orders").get());
+        assertThat(bytes).isLessThan(baseline);
+    }
+
+    @Test
+    void getWithParamsAndHeaders() {
+        long baseline = allocatedBytesPerRequest(() -> MockMvcRequestBuilders.get("/test/orders")
+                                                                             .param("page", "1")
+                                                                             .param("size", "20")
+                                                                             .header("X-Tenant", "test")
+                                                                             .buildRequest(servletContext));
+        long bytes = allocatedBytesPerRequest(() -> requester.to("/test/orders")
+                                                             .withParam("page", "1")
+                                                             .withParam("size", "20")
+                                                             .withHeader("X-Tenant", "test")
+                                                             .get());
+        assertThat(bytes).isLessThan(baseline);
+    }
+
+    private static long allocatedBytesPerRequest(Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long[] samples = new long[5];
+        for (int sample = 0; sample < samples.length; sample++) {
+            long before = AllocationCounter.currentThreadAllocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                request.run();
+            }
+            samples[sample] = (AllocationCounter.currentThreadAllocatedBytes() - before) / ITERATIONS;
+        }
+        return RequestMeasurement.median(samples);
+    }
+
+    private static class StubResponse implements MvcTransportResponse {
+
+        private static final StubResponse INSTANCE = new StubResponse();
+
+        @Override
+        public int getStatus() {
+            return 200;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return null;
+        }
+
+        @Override
+        public List<String> getHeaders(String name) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public byte[] getContentAsByteArray() {
+            return new byte[0];
+        }
+
+        @Override
+        public <T> Stream<T> streamContent(ObjectReader reader) {
+            return Stream.empty();
+        }
+
+        @Override
+        public MvcResult getMvcResult() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void print() {
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = MvcRequesterAsyncTest.WebConfig.class)
+class MvcRequesterAsyncTest {
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(this.wac).build();
+        assertThat(mockMvc).isNotNull();
+    }
+
+    @Test
+    void getAsync() {
+        // Act
+        SimpleObject result = MvcRequester.on(mockMvc)
+                                          .to("/test/object/{id}", 7)
+                                          .getAsync()
+                                          .thenApply(r -> r.returnAs(SimpleObject.class))
+                                          .join();
+        // Assert
+        assertThat(result).extracting(SimpleObject::getName, SimpleObject::getValue)
+                          .containsOnly("object", 7);
+    }
+
+    @Test
+    void composeDependentRequests() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(mockMvc);
+        // Act
+        CompletableFuture<SimpleObject> future =
+                requester.to("/test/object")
+                         .postAsync(new SimpleObject("created", 1))
+                         .thenApply(r -> r.expectStatus(HttpStatus.CREATED)
+                                          .returnAs(SimpleObject.class))
+                         .thenCompose(created -> requester.to("/test/object/{id}", created.getValue() + 1)
+                                                          .getAsync())
+                         .thenApply(r -> r.returnAs(SimpleObject.class));
+        // Assert
+        assertThat(future.join()).extracting(SimpleObject::getValue)
+                                 .isEqualTo(2);
+    }
+
+    @Test
+    void customExecutor() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-executor"));
+        AtomicInteger executions = new AtomicInteger();
+        try {
+            // Act
+            MvcRequestResult result = MvcRequester.on(mockMvc)
+                                                  .withAsyncExecutor(task -> {
+                                                      executions.incrementAndGet();
+                                                      executor.execute(task);
+                                                  })
+                                                  .to("/test/object/{id}", 1)
+                                                  .getAsync()
+                                                  .join();
+            // Assert
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(result.returnAs(SimpleObject.class)).extracting(SimpleObject::getValue)
+                                                           .isEqualTo(1);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void reactive() {
+        // Act
+        SimpleObject result = MvcRequester.on(mockMvc)
+                                          .to("/test/object/{id}", 42)
+                                          .reactive()
+                                          .get()
+                                          .map(r -> r.returnAs(SimpleObject.class))
+                                          .block();
+        // Assert
+        assertThat(result).extracting(SimpleObject::getValue)
+                          .isEqualTo(42);
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig implements WebMvcConfigurer {
+
+        @RestController
+        @RequestMapping("/test")
+        public class TestController {
+
+            @GetMapping("/object/{id}")
+            public SimpleObject get(@PathVariable("id") int id) {
+                return new SimpleObject("object", id);
+            }
+
+            @PostMapping("/object")
+            @ResponseStatus(HttpStatus.CREATED)
+            public SimpleObject create(@RequestBody SimpleObject body) {
+                return body;
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimpleObject {
+        private String name;
+        private int value;
+    }
+}
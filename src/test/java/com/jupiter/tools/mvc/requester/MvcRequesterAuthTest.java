@@ -1,7 +1,11 @@
 package com.jupiter.tools.mvc.requester;
 
+import java.util.Collections;
+
 import javax.servlet.http.HttpServletRequest;
 
+import com.jupiter.tools.mvc.requester.auth.Credentials;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,6 +97,49 @@ class MvcRequesterAuthTest {
         assertThat(result).isEqualTo("cm9vdDoxMjM0NQ==");
     }
 
+    @Test
+    void getWithCredentialsOfRequester() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withCredentials(Credentials.bearer(TOKEN));
+        // Act
+        String result = requester.to("/test/oauth")
+                                 .get()
+                                 .returnAsPrimitive(String.class);
+        // Asserts
+        assertThat(result).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void credentialsOfRequestReplaceCredentialsOfRequester() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withCredentials(Credentials.bearer(TOKEN));
+        // Act
+        String result = requester.to("/test/basic")
+                                 .withCredentials(Credentials.basic("root", "12345"))
+                                 .get()
+                                 .returnAsPrimitive(String.class);
+        // Asserts
+        assertThat(result).isEqualTo("cm9vdDoxMjM0NQ==");
+    }
+
+    @Test
+    void explicitHeaderReplacesCredentialsOfRequester() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withCredentials(() -> {
+                                                 throw new IllegalStateException("credentials must not be asked");
+                                             });
+        // Act
+        String result = requester.to("/test/authorizations")
+                                 .withOAuth(TOKEN)
+                                 .get()
+                                 .returnAsPrimitive(String.class);
+        // Asserts
+        assertThat(result).isEqualTo("Bearer " + TOKEN);
+    }
+
     @Test
     void postWithNullToken() {
         // Act
@@ -129,6 +176,11 @@ class MvcRequesterAuthTest {
                 return authorization.replaceFirst("Bearer ", "");
             }
 
+            @GetMapping(value = "/authorizations", produces = "text/plain")
+            public String getAuthorizations(HttpServletRequest request) {
+                return String.join(", ", Collections.list(request.getHeaders("Authorization")));
+            }
+
             @GetMapping("/basic")
             public String getBasicAuth(HttpServletRequest request) {
 
@@ -0,0 +1,168 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ITERATIONS = 200;
+
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                                       .withoutPrinting()
+                                                       .withDefaultHeader("X-Tenant", "shared");
+
+    @Test
+    void shareRequesterBetweenThreads() throws Exception {
+        // Arrange
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        ConcurrentLinkedQueue<String> mismatches = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+        // Act
+        for (int thread = 0; thread < THREADS; thread++) {
+            int id = thread;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    String expected = "shared:" + id + ":" + i;
+                    MvcRequestResult result = requester.to("/test/echo")
+                                                       .withParam("value", i)
+                                                       .withHeader("X-Thread", id)
+                                                       .get()
+                                                       .expectStatus(OK);
+                    // each thread reads the result with its own charset copy
+                    Charset charset = id % 2 == 0 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+                    String actual = result.withCharset(charset).returnAsPrimitive(String.class);
+                    if (!expected.equals(actual)) {
+                        mismatches.add(expected + " != " + actual);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+        // Assert
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void shareConfiguredRequestBetweenThreads() throws Exception {
+        // Arrange
+        MvcRequestPointed request = requester.to("/test/echo")
+                                             .withParam("value", "same")
+                                             .withHeader("X-Thread", "any");
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<String>> futures = new ArrayList<>();
+        // Act
+        for (int i = 0; i < THREADS * 10; i++) {
+            futures.add(pool.submit(() -> request.get().returnAsPrimitive(String.class)));
+        }
+        // Assert
+        for (Future<String> future : futures) {
+            assertThat(future.get(1, TimeUnit.MINUTES)).isEqualTo("shared:any:same");
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void asyncRequestIsCapturedAtTheCall() {
+        // Arrange
+        List<Runnable> tasks = new ArrayList<>();
+        MvcRequestPointed request = requester.withAsyncExecutor(tasks::add)
+                                             .to("/test/echo")
+                                             .withParam("value", 1)
+                                             .withHeader("X-Thread", "async");
+        // Act
+        CompletableFuture<MvcRequestResult> future = request.getAsync();
+        // changes after the call don't affect the started request
+        request.withParam("value", 2).withHeader("X-Thread", "changed");
+        tasks.forEach(Runnable::run);
+        // Assert
+        assertThat(future.join().returnAsPrimitive(String.class)).isEqualTo("shared:async:1");
+    }
+
+    @Test
+    void withCharsetMakesCopyOfResult() {
+        // Arrange
+        MvcRequestResult result = requester.to("/test/echo")
+                                           .withParam("value", "й")
+                                           .withHeader("X-Thread", 1)
+                                           .get();
+        // Act
+        MvcRequestResult latin = result.withCharset(StandardCharsets.ISO_8859_1);
+        // Assert
+        assertThat(latin).isNotSameAs(result);
+        assertThat(result.returnAsPrimitive(String.class)).isEqualTo("shared:1:й");
+        assertThat(latin.returnAsPrimitive(String.class)).isNotEqualTo("shared:1:й");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void charsetChangesResult() {
+        // Arrange
+        MvcRequestResult result = requester.to("/test/echo")
+                                           .withParam("value", "й")
+                                           .withHeader("X-Thread", 1)
+                                           .get();
+        // Act
+        MvcRequestResult latin = result.charset(StandardCharsets.ISO_8859_1);
+        // Assert
+        assertThat(latin).isSameAs(result);
+        assertThat(result.returnAsPrimitive(String.class)).isNotEqualTo("shared:1:й");
+    }
+
+    @Test
+    void copiesDontChangeOriginalRequester() {
+        // Act
+        MvcRequester tenant = requester.withDefaultHeader("X-Tenant", "other");
+        // Assert
+        assertThat(tenant).isNotSameAs(requester);
+        assertThat(requester.to("/test/tenants").get().returnAsPrimitive(String.class)).isEqualTo("[shared]");
+        assertThat(tenant.to("/test/tenants").get().returnAsPrimitive(String.class)).isEqualTo("[shared, other]");
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping(value = "/test/echo", produces = "text/plain;charset=UTF-8")
+        public String echo(@RequestHeader("X-Tenant") String tenant,
+                           @RequestHeader("X-Thread") String thread,
+                           @RequestParam("value") String value) {
+            return tenant + ":" + thread + ":" + value;
+        }
+
+        @GetMapping("/test/tenants")
+        public String tenants(@RequestHeader("X-Tenant") List<String> tenants) {
+            return tenants.toString();
+        }
+    }
+}
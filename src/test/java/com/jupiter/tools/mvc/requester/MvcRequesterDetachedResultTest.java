@@ -0,0 +1,146 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterDetachedResultTest {
+
+    private static final int RETAINED_RESULTS = 5_000;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestController()).build();
+    }
+
+    @Test
+    void detach() {
+        // Act
+        MvcRequestResult result = MvcRequester.on(mockMvc)
+                                              .to("/test/object/{id}", 7)
+                                              .get()
+                                              .detach();
+        // Assert
+        result.expectStatus(OK)
+              .expectHeader("custom-header", "first")
+              .doExpect(header().stringValues("custom-header", "first", "second"));
+        assertThat(result.returnAs(SimpleObject.class)).isEqualTo(new SimpleObject("object-7", 7));
+        assertThat(result.returnResponse().getHeaders("custom-header")).containsExactly("first", "second");
+    }
+
+    @Test
+    void detachWithDigest() {
+        // Arrange
+        MvcRequestResult origin = MvcRequester.on(mockMvc)
+                                              .to("/test/object/{id}", 7)
+                                              .get();
+        // Act
+        MvcRequestResult result = origin.detachWithDigest();
+        // Assert
+        result.expectStatus(OK)
+              .expectHeader("custom-header", "first");
+        assertThat(result.returnBodyDigest()).isEqualTo(origin.returnBodyDigest())
+                                             .hasSize(64);
+        assertThatThrownBy(() -> result.returnAs(SimpleObject.class))
+                .isInstanceOf(MvcRequestException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> result.returnResponse().getContentAsString())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> result.doExpect(content().string("")))
+                .isInstanceOf(MvcRequestException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void requesterWithDetachedResults() {
+        // Act
+        SimpleObject result = MvcRequester.on(mockMvc)
+                                          .withDetachedResults()
+                                          .to("/test/object/{id}", 3)
+                                          .get()
+                                          .expectStatus(OK)
+                                          .returnAs(SimpleObject.class);
+        // Assert
+        assertThat(result).isEqualTo(new SimpleObject("object-3", 3));
+    }
+
+    @Test
+    void detachedResultsRetainLessMemory() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(mockMvc);
+        // Act
+        long detached = retainedBytesPerResult(() -> requester.to("/test/object/{id}", 1).get().detach());
+        long attached = retainedBytesPerResult(() -> requester.to("/test/object/{id}", 1).get());
+        // Assert
+        assertThat(detached).isLessThan(1_024)
+                            .isLessThan(attached / 4);
+    }
+
+    private static long retainedBytesPerResult(ResultSupplier supplier) {
+        List<MvcRequestResult> results = new ArrayList<>(RETAINED_RESULTS);
+        long before = usedHeap();
+        for (int i = 0; i < RETAINED_RESULTS; i++) {
+            results.add(supplier.get());
+        }
+        long after = usedHeap();
+        assertThat(results).hasSize(RETAINED_RESULTS);
+        return (after - before) / RETAINED_RESULTS;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface ResultSupplier {
+        MvcRequestResult get();
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/test/object/{id}")
+        public ResponseEntity<SimpleObject> get(@PathVariable("id") int id) {
+            return ResponseEntity.ok()
+                                 .header("custom-header", "first", "second")
+                                 .body(new SimpleObject("object-" + id, id));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimpleObject {
+        private String name;
+        private int value;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MimeType;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterHttpTransportTest {
+
+    private static HttpServer server;
+    private static URI baseUri;
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/test/hello", exchange -> respond(exchange, 200, "hello world"));
+        server.createContext("/test/error", exchange -> respond(exchange, 500, "error"));
+        server.createContext("/test/echo", exchange -> {
+            String body = readBody(exchange);
+            respond(exchange, 200, exchange.getRequestMethod() + "|" +
+                                   exchange.getRequestURI().getRawQuery() + "|" +
+                                   exchange.getRequestHeaders().getFirst("custom-header") + "|" +
+                                   exchange.getRequestHeaders().getFirst("Authorization") + "|" +
+                                   body);
+        });
+        server.createContext("/test/port", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200, "ok");
+        });
+        server.start();
+        baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void get() {
+        // Act
+        String result = MvcRequester.on(baseUri)
+                                    .to("/test/hello")
+                                    .get()
+                                    .expectStatus(OK)
+                                    .returnAsPrimitive(String.class);
+        // Assert
+        assertThat(result).isEqualTo("hello world");
+    }
+
+    @Test
+    void postWithParamsHeadersAndBody() {
+        // Act
+        String result = MvcRequester.on(baseUri)
+                                    .to("/test/echo")
+                                    .withParam("name", "a b")
+                                    .withHeader("custom-header", 12345)
+                                    .withOAuth("token")
+                                    .post(1987)
+                                    .returnAsPrimitive(String.class);
+        // Assert
+        assertThat(result).isEqualTo("POST|name=a%20b|12345|Bearer token|1987");
+    }
+
+    @Test
+    void uploadFile() {
+        // Act
+        String result = MvcRequester.on(baseUri)
+                                    .to("/test/echo")
+                                    .withFile("data",
+                                              "filename.txt",
+                                              MimeType.valueOf("text/plain"),
+                                              "file content".getBytes())
+                                    .upload()
+                                    .returnAsPrimitive(String.class);
+        // Assert
+        assertThat(result).startsWith("POST|null|null|null|--")
+                          .contains("Content-Disposition: form-data; name=\"data\"; filename=\"filename.txt\"")
+                          .contains("file content");
+    }
+
+    @Test
+    void errorStatus() {
+        Assertions.assertThrows(AssertionError.class,
+                                () -> MvcRequester.on(baseUri)
+                                                  .to("/test/error")
+                                                  .get()
+                                                  .expectStatus(HttpStatus.OK));
+    }
+
+    @Test
+    void unsupportedMethods() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(baseUri);
+        // Act & Assert
+        assertThatThrownBy(() -> requester.to("/test/echo").perform(HttpMethod.PATCH, null, null))
+                .isInstanceOf(MvcRequestException.class)
+                .hasStackTraceContaining("Method PATCH is not supported by the HTTP transport");
+        assertThatThrownBy(() -> requester.to("/test/echo").get("body"))
+                .isInstanceOf(MvcRequestException.class)
+                .hasStackTraceContaining("GET request with a body is not supported by the HTTP transport");
+    }
+
+    @Test
+    void reuseConnection() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(baseUri);
+        // Act
+        for (int i = 0; i < 20; i++) {
+            requester.to("/test/port").get().expectStatus(OK);
+        }
+        // Assert
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return StreamUtils.copyToString(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
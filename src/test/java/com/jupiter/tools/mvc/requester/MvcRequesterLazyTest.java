@@ -0,0 +1,156 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterLazyTest {
+
+    private final TestController controller = new TestController();
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build())
+                                                       .withoutPrinting()
+                                                       .withLazyExecution();
+
+    @Test
+    void notUsedResultIsNotRequested() {
+        // Act
+        MvcRequestResult result = requester.to("/test/counter").get();
+        // Assert
+        assertThat(result.isPending()).isTrue();
+        assertThat(controller.calls).hasValue(0);
+    }
+
+    @Test
+    void requestOnFirstExpectation() {
+        // Act
+        MvcRequestResult result = requester.to("/test/counter").get();
+        result.expectStatus(OK);
+        String body = result.returnAsPrimitive(String.class);
+        // Assert
+        assertThat(result.isPending()).isFalse();
+        assertThat(body).isEqualTo("1");
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    void requestIsCapturedAtTheCall() {
+        // Arrange
+        MvcRequestPointed request = requester.to("/test/echo").withParam("value", 1);
+        MvcRequestResult result = request.get();
+        // Act
+        request.withParam("value", 2);
+        // Assert
+        assertThat(result.returnAsPrimitive(String.class)).isEqualTo("[1]");
+    }
+
+    @Test
+    void charsetCopySharesRequest() {
+        // Arrange
+        MvcRequestResult result = requester.to("/test/counter").get();
+        // Act
+        MvcRequestResult latin = result.withCharset(StandardCharsets.ISO_8859_1);
+        // Assert
+        assertThat(latin.returnAsPrimitive(String.class)).isEqualTo("1");
+        assertThat(result.isPending()).isFalse();
+        assertThat(result.returnAsPrimitive(String.class)).isEqualTo("1");
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    void dispatchRequestWithoutReadingResult() {
+        // Act
+        requester.to("/test/reset").post().dispatch();
+        // Assert
+        assertThat(controller.calls).hasValue(-100);
+    }
+
+    @Test
+    void failedExpectationAfterRequest() {
+        // Arrange
+        MvcRequestResult result = requester.to("/test/counter").get();
+        // Act & Assert
+        assertThatThrownBy(() -> result.expectStatus(HttpStatus.CREATED)).isInstanceOf(AssertionError.class);
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    void concurrentFirstUseMakesOneRequest() throws Exception {
+        // Arrange
+        int threads = 16;
+        MvcRequestResult result = requester.to("/test/counter").get();
+        CyclicBarrier start = new CyclicBarrier(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<String>> futures = new ArrayList<>();
+        // Act
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return result.returnAsPrimitive(String.class);
+            }));
+        }
+        // Assert
+        for (Future<String> future : futures) {
+            assertThat(future.get(1, TimeUnit.MINUTES)).isEqualTo("1");
+        }
+        pool.shutdown();
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    void eagerRequesterIsNotPending() {
+        // Act
+        MvcRequestResult result = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build())
+                                              .withoutPrinting()
+                                              .to("/test/counter")
+                                              .get();
+        // Assert
+        assertThat(result.isPending()).isFalse();
+        assertThat(result.dispatch()).isSameAs(result);
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @RestController
+    public static class TestController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @GetMapping(value = "/test/counter", produces = "text/plain")
+        public String counter() {
+            return String.valueOf(calls.incrementAndGet());
+        }
+
+        @GetMapping("/test/echo")
+        public String echo(@RequestParam("value") List<String> values) {
+            return values.toString();
+        }
+
+        @PostMapping("/test/reset")
+        public void reset() {
+            calls.set(-100);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterMeasurementTest {
+
+    private static final int ALLOCATION_SIZE = 1024 * 1024;
+
+    private TestController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TestController();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void expectLatencyBelow() {
+        MvcRequester.on(mockMvc)
+                    .to("/test/hello")
+                    .get()
+                    .expectStatus(OK)
+                    .expectLatencyBelow(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void failWhenLatencyExceedsBudget() {
+        MvcRequestResult result = MvcRequester.on(mockMvc)
+                                              .to("/test/hello")
+                                              .get();
+
+        assertThatThrownBy(() -> result.expectLatencyBelow(Duration.ofNanos(1)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("exceeds the budget");
+    }
+
+    @Test
+    void expectAllocatedBytesBelow() {
+        // Act
+        MvcRequestResult result = MvcRequester.on(mockMvc)
+                                              .to("/test/allocate")
+                                              .withMeasurement(0, 1)
+                                              .get();
+        // Assert
+        result.expectAllocatedBytesBelow(64 * ALLOCATION_SIZE);
+        assertThat(result.returnMeasurement().getAllocatedBytes()).isGreaterThan(ALLOCATION_SIZE);
+        assertThatThrownBy(() -> result.expectAllocatedBytesBelow(ALLOCATION_SIZE / 2))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("exceeds the budget " + ALLOCATION_SIZE / 2 + " bytes");
+    }
+
+    @Test
+    void failWhenAllocationsAreUnknown() {
+        // Act
+        MvcRequestResult result = MvcRequester.on(mockMvc)
+                                              .to("/test/allocate")
+                                              .get();
+        // Assert
+        assertThat(result.returnMeasurement().getAllocatedBytes()).isEqualTo(-1);
+        assertThat(result.returnMeasurement().getRuns()).isEqualTo(1);
+        assertThatThrownBy(() -> result.expectAllocatedBytesBelow(64 * ALLOCATION_SIZE))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Allocated bytes are unknown");
+    }
+
+    @Test
+    void medianOfMeasuredRuns() {
+        // Act
+        RequestMeasurement measurement = MvcRequester.on(mockMvc)
+                                                     .to("/test/hello")
+                                                     .withMeasurement(3, 5)
+                                                     .get()
+                                                     .expectStatus(OK)
+                                                     .expectLatencyBelow(Duration.ofSeconds(10))
+                                                     .returnMeasurement();
+        // Assert
+        assertThat(controller.calls.get()).isEqualTo(8);
+        assertThat(measurement.getRuns()).isEqualTo(5);
+        assertThat(measurement.getLatency()).isGreaterThan(Duration.ZERO);
+    }
+
+    @RestController
+    public static class TestController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @GetMapping("/test/hello")
+        public String hello() {
+            calls.incrementAndGet();
+            return "hello world";
+        }
+
+        @GetMapping("/test/allocate")
+        public int allocate() {
+            return new byte[ALLOCATION_SIZE].length;
+        }
+    }
+}
@@ -110,6 +110,28 @@ class MvcRequesterReturnAsTest {
                           .containsOnly("body-test", 1987);
     }
 
+    @Test
+    void returnValueAt() {
+        // Act
+        Integer value = MvcRequester.on(mockMvc)
+                                    .to("/test/object")
+                                    .get()
+                                    .returnValueAt("/value", Integer.class);
+        // Asserts
+        assertThat(value).isEqualTo(1987);
+    }
+
+    @Test
+    void returnMissingValueAt() {
+        // Act
+        String value = MvcRequester.on(mockMvc)
+                                   .to("/test/object")
+                                   .get()
+                                   .returnValueAt("/unknown", String.class);
+        // Asserts
+        assertThat(value).isNull();
+    }
+
     @Test
     void getEmpty() {
         // Act
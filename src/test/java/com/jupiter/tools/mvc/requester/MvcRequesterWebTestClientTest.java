@@ -0,0 +1,195 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcRequesterWebTestClientTest {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(new TestController()).build();
+    }
+
+    @Test
+    void returnAs() {
+        // Act
+        SimpleObject result = MvcRequester.on(webTestClient)
+                                          .to("/test/object")
+                                          .get()
+                                          .expectStatus(OK)
+                                          .returnAs(SimpleObject.class);
+        // Asserts
+        assertThat(result).isNotNull()
+                          .extracting(SimpleObject::getName, SimpleObject::getValue)
+                          .containsOnly("test-name", 1987);
+    }
+
+    @Test
+    void getWithParamsAndHeaders() {
+        // Act
+        SimpleObject result = MvcRequester.on(webTestClient)
+                                          .to("/test/custom-object")
+                                          .withParam("name", "custom value")
+                                          .withHeader("custom-header", 10101)
+                                          .get()
+                                          .returnAs(SimpleObject.class);
+        // Asserts
+        assertThat(result).isNotNull()
+                          .extracting(SimpleObject::getName, SimpleObject::getValue)
+                          .containsOnly("custom value", 10101);
+    }
+
+    @Test
+    void postWithBody() {
+        // Act
+        SimpleObject result = MvcRequester.on(webTestClient)
+                                          .to("/test/object-body")
+                                          .post(new SimpleObject("body", 987))
+                                          .expectStatus(HttpStatus.CREATED)
+                                          .returnAs(SimpleObject.class);
+        // Asserts
+        assertThat(result).isNotNull()
+                          .extracting(SimpleObject::getName, SimpleObject::getValue)
+                          .containsOnly("body-test", 1987);
+    }
+
+    @Test
+    void withOAuth() {
+        // Act
+        String result = MvcRequester.on(webTestClient)
+                                    .to("/test/oauth")
+                                    .withOAuth("12345")
+                                    .get()
+                                    .returnAsPrimitive(String.class);
+        // Asserts
+        assertThat(result).isEqualTo("Bearer 12345");
+    }
+
+    @Test
+    void returnAsStream() {
+        // Act
+        List<SimpleObject> result;
+        try (Stream<SimpleObject> stream = MvcRequester.on(webTestClient)
+                                                       .to("/test/list")
+                                                       .withParam("size", 1000)
+                                                       .get()
+                                                       .expectStatus(OK)
+                                                       .returnAsStream(SimpleObject.class)) {
+
+            result = stream.collect(Collectors.toList());
+        }
+        // Asserts
+        assertThat(result).hasSize(1000);
+        assertThat(result.get(999)).extracting(SimpleObject::getName, SimpleObject::getValue)
+                                   .containsOnly("item", 999);
+    }
+
+    @Test
+    void bodyIsNotAvailableAfterStreaming() {
+        // Arrange
+        MvcRequestResult result = MvcRequester.on(webTestClient)
+                                              .to("/test/list")
+                                              .withParam("size", 10)
+                                              .get();
+        result.returnAsStream(SimpleObject.class).close();
+        // Act & Assert
+        MvcRequestException exception = Assertions.assertThrows(MvcRequestException.class,
+                                                                () -> result.returnAs(SimpleObject[].class));
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void doExpectWithMockMvcMatcher() {
+        MvcRequester.on(webTestClient)
+                    .to("/test/hello")
+                    .get()
+                    .doExpect(MockMvcResultMatchers.content().string("hello world"));
+    }
+
+    @Test
+    void wrongStatusMustThrowAssertionError() {
+        Assertions.assertThrows(AssertionError.class,
+                                () -> MvcRequester.on(webTestClient)
+                                                  .to("/test/hello")
+                                                  .get()
+                                                  .expectStatus(HttpStatus.CREATED));
+    }
+
+    @RestController
+    @RequestMapping("/test")
+    public static class TestController {
+
+        @GetMapping("/hello")
+        public String hello() {
+            return "hello world";
+        }
+
+        @GetMapping("/object")
+        public SimpleObject getObject() {
+            return new SimpleObject("test-name", 1987);
+        }
+
+        @GetMapping("/custom-object")
+        public SimpleObject getWithParams(@RequestParam("name") String name,
+                                          @RequestHeader("custom-header") int value) {
+            return new SimpleObject(name, value);
+        }
+
+        @PostMapping("/object-body")
+        @ResponseStatus(HttpStatus.CREATED)
+        public SimpleObject postWithBody(@RequestBody SimpleObject body) {
+            return new SimpleObject(body.getName() + "-test",
+                                    body.getValue() + 1000);
+        }
+
+        @GetMapping("/oauth")
+        public String oauth(@RequestHeader("Authorization") String authorization) {
+            return authorization;
+        }
+
+        @GetMapping("/list")
+        public Flux<SimpleObject> list(@RequestParam("size") int size) {
+            return Flux.range(0, size)
+                       .map(i -> new SimpleObject("item", i));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimpleObject {
+        private String name;
+        private int value;
+    }
+}
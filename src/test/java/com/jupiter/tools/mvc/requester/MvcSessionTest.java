@@ -0,0 +1,170 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class MvcSessionTest {
+
+    private MvcRequester requester;
+
+    @BeforeEach
+    void setUp() {
+        requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new SessionController())
+                                                   .addFilters(new CsrfFilter(new HttpSessionCsrfTokenRepository()))
+                                                   .build())
+                                .withoutPrinting();
+    }
+
+    @Test
+    void httpSessionIsReused() {
+        // Arrange
+        MvcRequester user = requester.withSession(MvcSession.create());
+        // Act
+        user.to("/counter").get();
+        int counter = user.to("/counter").get().returnAsPrimitive(Integer.class);
+        // Assert
+        assertThat(counter).isEqualTo(2);
+        assertThat(requester.to("/counter").get().returnAsPrimitive(Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void cookiesAreReused() {
+        // Arrange
+        MvcSession session = MvcSession.create();
+        MvcRequester user = requester.withSession(session);
+        // Act
+        user.to("/theme/set").get();
+        String theme = user.to("/theme").get().returnAsPrimitive(String.class);
+        // Assert
+        assertThat(theme).isEqualTo("dark");
+        assertThat(session.getCookies()).extracting(Cookie::getName).containsExactly("theme");
+    }
+
+    @Test
+    void csrfTokenIsReused() {
+        // Arrange
+        MvcSession session = MvcSession.create();
+        MvcRequester user = requester.withSession(session);
+        user.to("/counter").get();
+        // Act
+        user.to("/orders").post().expectStatus(HttpStatus.OK);
+        user.to("/orders").post().expectStatus(HttpStatus.OK);
+        // Assert
+        assertThat(session.getCsrfToken()).isNotNull();
+        requester.to("/orders").post().expectStatus(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void poolOfSessions() {
+        // Arrange
+        MvcSessionPool pool = MvcSessionPool.authenticate(requester, 3, user -> user.to("/counter").get());
+        // Act
+        List<CompletableFuture<Integer>> counters =
+                IntStream.range(0, 30)
+                         .mapToObj(i -> CompletableFuture.supplyAsync(
+                                 () -> pool.call(user -> user.to("/counter").get().returnAsPrimitive(Integer.class))))
+                         .collect(Collectors.toList());
+        // Assert
+        counters.forEach(CompletableFuture::join);
+        int total = IntStream.range(0, pool.size())
+                             .map(i -> pool.requester(i).to("/counter").get().returnAsPrimitive(Integer.class))
+                             .sum();
+        // 3 logins + 30 calls + 3 last calls
+        assertThat(total).isEqualTo(36);
+    }
+
+    @Test
+    void poolHasSessionForEachVirtualUser() {
+        // Arrange
+        MvcSessionPool pool = MvcSessionPool.authenticate(requester, 3, user -> user.to("/counter").get());
+        // Act & Assert
+        assertThat(pool.requester(2)).isNotSameAs(pool.requester(1));
+        assertThatThrownBy(() -> pool.requester(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pool.requester(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void requestsOfSessionAreNotCached() {
+        // Arrange
+        ResponseCache cache = ResponseCache.create();
+        MvcRequester user = requester.withSession(MvcSession.create())
+                                     .withResponseCache(cache);
+        // Act
+        user.to("/counter").get();
+        int counter = user.to("/counter").get().returnAsPrimitive(Integer.class);
+        // Assert
+        assertThat(counter).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void sessionAfterDetachedResultsFails() {
+        // Arrange
+        MvcRequester user = requester.withDetachedResults()
+                                     .withSession(MvcSession.create());
+        // Act & Assert
+        assertThatThrownBy(() -> user.to("/counter").get()).hasStackTraceContaining("apply withSession before withDetachedResults");
+    }
+
+    @Test
+    void requesterHasSingleSession() {
+        // Arrange
+        MvcRequester user = requester.withSession(MvcSession.create());
+        // Act & Assert
+        assertThatThrownBy(() -> user.withSession(MvcSession.create())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @RestController
+    public static class SessionController {
+
+        @GetMapping("/counter")
+        public int counter(HttpSession session) {
+            Integer counter = (Integer) session.getAttribute("counter");
+            int next = counter == null ? 1 : counter + 1;
+            session.setAttribute("counter", next);
+            return next;
+        }
+
+        @GetMapping("/theme/set")
+        public String setTheme(HttpServletResponse response) {
+            response.addCookie(new Cookie("theme", "dark"));
+            return "ok";
+        }
+
+        @GetMapping("/theme")
+        public String theme(@CookieValue("theme") String theme) {
+            return theme;
+        }
+
+        @PostMapping("/orders")
+        public String createOrder() {
+            return "created";
+        }
+    }
+}
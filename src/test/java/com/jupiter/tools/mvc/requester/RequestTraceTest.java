@@ -0,0 +1,190 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class RequestTraceTest {
+
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                                       .withoutPrinting();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writePhasesOfRequests() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("trace.json");
+        // Act
+        try (RequestTrace trace = RequestTrace.open(file)) {
+            MvcRequester traced = requester.withTrace(trace);
+            Item item = traced.to("/items/{id}", 7)
+                              .get()
+                              .returnAs(Item.class);
+            traced.to("/items")
+                  .post(item);
+        }
+        // Assert
+        List<JsonNode> events = readEvents(file);
+        assertThat(events).hasSize(5);
+        assertThat(events.get(0).get("ph").asText()).isEqualTo("M");
+        assertThat(events.get(0).get("args").get("name").asText()).isEqualTo(Thread.currentThread().getName());
+
+        JsonNode get = events.get(1);
+        assertThat(get.get("name").asText()).isEqualTo("GET /items/{id}");
+        assertThat(get.get("cat").asText()).isEqualTo("dispatch");
+        assertThat(get.get("ph").asText()).isEqualTo("X");
+        assertThat(get.get("tid").asLong()).isEqualTo(Thread.currentThread().getId());
+        assertThat(get.get("dur").asDouble()).isPositive();
+        assertThat(get.get("args").get("uri").asText()).isEqualTo("/items/7");
+        assertThat(get.get("args").get("status").asText()).isEqualTo("200");
+
+        JsonNode deserialize = events.get(2);
+        assertThat(deserialize.get("cat").asText()).isEqualTo("deserialize");
+        assertThat(deserialize.get("args").get("type").asText()).isEqualTo(Item.class.getName());
+        assertThat(deserialize.get("ts").asDouble()).isGreaterThanOrEqualTo(get.get("ts").asDouble());
+
+        assertThat(events.get(3).get("cat").asText()).isEqualTo("serialize");
+        assertThat(events.get(3).get("args").get("uriTemplate").asText()).isEqualTo("/items");
+        assertThat(events.get(4).get("name").asText()).isEqualTo("POST /items");
+    }
+
+    @Test
+    void traceThreadsOfAsyncRequests() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("async-trace.json");
+        RequestTrace trace = RequestTrace.open(file);
+        MvcRequester traced = requester.withTrace(trace);
+        // Act
+        CompletableFuture.allOf(IntStream.range(0, 50)
+                                         .mapToObj(i -> traced.to("/items/{id}", i).getAsync())
+                                         .toArray(CompletableFuture[]::new))
+                         .join();
+        trace.close();
+        // Assert
+        List<JsonNode> events = readEvents(file);
+        assertThat(events).filteredOn(event -> event.get("ph").asText().equals("X"))
+                          .hasSize(50)
+                          .allMatch(event -> event.get("name").asText().equals("GET /items/{id}"));
+        long threads = events.stream().filter(event -> event.get("ph").asText().equals("M")).count();
+        assertThat(threads).isPositive();
+        assertThat(trace.getWrittenEvents() + trace.getDroppedEvents()).isEqualTo(50 + threads);
+    }
+
+    @Test
+    void countEventsAfterCloseAsDropped() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("closed-trace.json");
+        RequestTrace trace = RequestTrace.open(file);
+        trace.close();
+        // Act
+        requester.withTrace(trace)
+                 .to("/items/{id}", 1)
+                 .get()
+                 .returnAs(Item.class);
+        trace.close();
+        // Assert
+        assertThat(readEvents(file)).isEmpty();
+        assertThat(trace.getWrittenEvents()).isZero();
+        // the dispatch and the deserialization
+        assertThat(trace.getDroppedEvents()).isEqualTo(2);
+    }
+
+    @Test
+    void countEventsRecordedConcurrentlyWithClose() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("concurrent-close-trace.json");
+        RequestTrace trace = RequestTrace.open(file, 1 << 20);
+        int threads = 4;
+        int eventsPerThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+        // Act
+        for (int i = 0; i < threads; i++) {
+            pool.execute(() -> {
+                started.countDown();
+                for (int event = 0; event < eventsPerThread; event++) {
+                    long now = System.nanoTime();
+                    trace.serialized("/items", now, now);
+                }
+            });
+        }
+        started.await();
+        trace.close();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // Assert
+        long names = readEvents(file).stream().filter(event -> event.get("ph").asText().equals("M")).count();
+        assertThat(trace.getWrittenEvents() + trace.getDroppedEvents()).isEqualTo(threads * eventsPerThread + names);
+    }
+
+    @Test
+    void failOpeningOfTraceInMissingDirectory() {
+        // Arrange
+        Path file = tempDir.resolve("missing").resolve("trace.json");
+        // Act & Assert
+        assertThatThrownBy(() -> RequestTrace.open(file)).isInstanceOf(MvcRequestException.class)
+                                                          .hasCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    private static List<JsonNode> readEvents(Path file) throws Exception {
+        JsonNode document = new ObjectMapper().readTree(file.toFile());
+        assertThat(document.get("displayTimeUnit").asText()).isEqualTo("ms");
+        List<JsonNode> events = new ArrayList<>();
+        document.get("traceEvents").forEach(events::add);
+        return events;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int id;
+        private String name;
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/items/{id}")
+        public Item get(@PathVariable int id) {
+            return new Item(id, "item " + id);
+        }
+
+        @PostMapping("/items")
+        public Item create(@RequestBody Item item) {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ResponseCacheTest {
+
+    private final TestController controller = new TestController();
+    private final AtomicLong time = new AtomicLong();
+    private final ResponseCache cache = ResponseCache.create()
+                                                     .withTimeToLive(Duration.ofSeconds(10))
+                                                     .withKeyHeaders("Accept-Language")
+                                                     .withTicker(time::get);
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build())
+                                                       .withoutPrinting()
+                                                       .withResponseCache(cache);
+
+    @Test
+    void returnCachedResponse() {
+        // Act
+        Color first = requester.to("/dictionaries/colors/{id}", 1).get().expectStatus(OK).returnAs(Color.class);
+        Color second = requester.to("/dictionaries/colors/{id}", 1).get().expectStatus(OK).returnAs(Color.class);
+        // Assert
+        assertThat(second).isEqualTo(first)
+                          .isNotSameAs(first);
+        assertThat(controller.calls).hasValue(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.summary()).contains("hits: 1, misses: 1, hit rate: 50.0%");
+    }
+
+    @Test
+    void cachedBodyCantBeChanged() {
+        // Arrange
+        requester.to("/dictionaries/colors/{id}", 1).get().returnBodyAsBytes()[0] = 'x';
+        // Act
+        Color color = requester.to("/dictionaries/colors/{id}", 1).get().returnAs(Color.class);
+        // Assert
+        assertThat(color).isEqualTo(new Color(1, "color-1"));
+    }
+
+    @Test
+    void keyContainsParamsAndSelectedHeaders() {
+        // Act
+        requester.to("/dictionaries/colors/{id}", 1).withParam("v", 1).get().returnAs(Color.class);
+        requester.to("/dictionaries/colors/{id}", 1).withParam("v", 2).get().returnAs(Color.class);
+        String english = requester.to("/dictionaries/title").withHeader("Accept-Language", "en").get().returnAsPrimitive(String.class);
+        String french = requester.to("/dictionaries/title").withHeader("Accept-Language", "fr").get().returnAsPrimitive(String.class);
+        // other headers are not a part of the key
+        String cached = requester.to("/dictionaries/title")
+                                 .withHeader("Accept-Language", "fr")
+                                 .withHeader("X-Trace", "1")
+                                 .get()
+                                 .returnAsPrimitive(String.class);
+        // Assert
+        assertThat(english).isEqualTo("title:en");
+        assertThat(french).isEqualTo("title:fr");
+        assertThat(cached).isEqualTo("title:fr");
+        assertThat(controller.calls).hasValue(4);
+    }
+
+    @Test
+    void expireAfterTimeToLive() {
+        // Arrange
+        requester.to("/dictionaries/colors/{id}", 1).get();
+        time.addAndGet(Duration.ofSeconds(11).toNanos());
+        // Act
+        requester.to("/dictionaries/colors/{id}", 1).get();
+        // Assert
+        assertThat(controller.calls).hasValue(2);
+        assertThat(cache.getExpirations()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        // Arrange
+        ResponseCache small = cache.withMaxEntries(2);
+        MvcRequester cached = requester.withResponseCache(small);
+        cached.to("/dictionaries/colors/{id}", 1).get();
+        cached.to("/dictionaries/colors/{id}", 2).get();
+        cached.to("/dictionaries/colors/{id}", 1).get();
+        // Act
+        cached.to("/dictionaries/colors/{id}", 3).get();
+        cached.to("/dictionaries/colors/{id}", 1).get();
+        cached.to("/dictionaries/colors/{id}", 2).get();
+        // Assert
+        assertThat(small.getEvictions()).isEqualTo(2);
+        assertThat(small.getHits()).isEqualTo(2);
+        assertThat(small.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictBySize() {
+        // Arrange
+        ResponseCache small = cache.withMaxBytes(200);
+        MvcRequester cached = requester.withResponseCache(small);
+        // Act
+        cached.to("/dictionaries/colors/{id}", 1).get();
+        cached.to("/dictionaries/colors/{id}", 2).get();
+        cached.to("/dictionaries/colors/{id}", 3).get();
+        // Assert
+        assertThat(small.getBytes()).isLessThanOrEqualTo(200);
+        assertThat(small.getEvictions()).isPositive();
+    }
+
+    @Test
+    void invalidateByChangingRequest() {
+        // Arrange
+        requester.to("/dictionaries/colors").get();
+        requester.to("/dictionaries/colors/{id}", 1).get();
+        requester.to("/dictionaries/title").get();
+        // Act
+        requester.to("/dictionaries/colors").post(new Color(5, "new"));
+        // Assert
+        assertThat(cache.getInvalidations()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        List<?> colors = requester.to("/dictionaries/colors").get().returnAs(List.class);
+        assertThat(colors).hasSize(1);
+    }
+
+    @Test
+    void dontStoreResponseReceivedDuringInvalidation() {
+        // Arrange
+        controller.onRequest = () -> cache.invalidate("/dictionaries/colors");
+        // Act
+        requester.to("/dictionaries/colors/{id}", 1).get().expectStatus(OK);
+        controller.onRequest = () -> { };
+        requester.to("/dictionaries/colors/{id}", 1).get().expectStatus(OK);
+        requester.to("/dictionaries/colors/{id}", 1).get().expectStatus(OK);
+        // Assert
+        assertThat(controller.calls).hasValue(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void dontCacheFailedResponses() {
+        // Act
+        requester.to("/dictionaries/colors/{id}", 404).get().expectStatus(NOT_FOUND);
+        requester.to("/dictionaries/colors/{id}", 404).get().expectStatus(NOT_FOUND);
+        // Assert
+        assertThat(controller.calls).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void overlappingPaths() {
+        assertThat(ResponseCache.overlaps("/colors", "/colors")).isTrue();
+        assertThat(ResponseCache.overlaps("/colors/1", "/colors")).isTrue();
+        assertThat(ResponseCache.overlaps("/colors", "/colors/1")).isTrue();
+        assertThat(ResponseCache.overlaps("/colors/", "/colors/1")).isTrue();
+        assertThat(ResponseCache.overlaps("/colorset", "/colors")).isFalse();
+        assertThat(ResponseCache.overlaps("/sizes", "/colors")).isFalse();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Color {
+        private int id;
+        private String name;
+    }
+
+    @RestController
+    public static class TestController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private volatile Runnable onRequest = () -> { };
+
+        @GetMapping("/dictionaries/colors/{id}")
+        public ResponseEntity<Color> color(@PathVariable("id") int id) {
+            calls.incrementAndGet();
+            onRequest.run();
+            return id == 404
+                   ? ResponseEntity.notFound().build()
+                   : ResponseEntity.ok(new Color(id, "color-" + id));
+        }
+
+        @GetMapping("/dictionaries/colors")
+        public Color[] colors() {
+            calls.incrementAndGet();
+            Color[] colors = new Color[created.get()];
+            for (int i = 0; i < colors.length; i++) {
+                colors[i] = new Color(i, "color-" + i);
+            }
+            return colors;
+        }
+
+        @PostMapping("/dictionaries/colors")
+        public void create() {
+            created.incrementAndGet();
+        }
+
+        @GetMapping(value = "/dictionaries/title", produces = "text/plain")
+        public String title(@RequestHeader(value = "Accept-Language", defaultValue = "en") String language) {
+            calls.incrementAndGet();
+            return "title:" + language;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.jupiter.tools.mvc.requester;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ServerTimingsTest {
+
+    private static final Duration DELAY = Duration.ofMillis(30);
+
+    @Test
+    void phasesOfStandaloneSetup() {
+        // Arrange
+        MvcRequester requester = MvcRequester.instrumented(MockMvcBuilders.standaloneSetup(new TestController())
+                                                                          .addFilters(new SlowFilter()))
+                                             .withoutPrinting();
+        requester.to("/slow-filter").get();
+        // Act
+        ServerTimings timings = requester.to("/slow-handler")
+                                         .post(Collections.nCopies(1000, "value"))
+                                         .returnServerTimings();
+        // Assert
+        assertThat(timings.getHandler()).isGreaterThanOrEqualTo(DELAY)
+                                        .isGreaterThan(timings.getFilters());
+        assertThat(timings.getRead()).isGreaterThan(Duration.ZERO);
+        assertThat(timings.getWrite()).isGreaterThan(Duration.ZERO);
+        assertThat(timings.getTotal()).isGreaterThanOrEqualTo(timings.getFilters()
+                                                                     .plus(timings.getHandler())
+                                                                     .plus(timings.getRead())
+                                                                     .plus(timings.getWrite())
+                                                                     .plus(timings.getCompletion()));
+        assertThat(timings.toString()).startsWith("total: ").contains("handler: ");
+    }
+
+    @Test
+    void slowFilterIsCounted() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController())
+                                                                .apply(ServerTimings.instrumentation())
+                                                                .addFilters(new SlowFilter())
+                                                                .build())
+                                             .withoutPrinting();
+        requester.to("/slow-filter").get();
+        // Act
+        ServerTimings timings = requester.to("/slow-filter")
+                                         .withHeader("X-Slow", "true")
+                                         .get()
+                                         .returnServerTimings();
+        // Assert
+        assertThat(timings.getFilters()).isGreaterThanOrEqualTo(DELAY)
+                                        .isGreaterThan(timings.getHandler());
+    }
+
+    @Test
+    void controllerAdviceSetAfterInstrumentation() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController())
+                                                                .apply(ServerTimings.instrumentation())
+                                                                .setControllerAdvice(new TestAdvice())
+                                                                .build())
+                                             .withoutPrinting();
+        // Act
+        MvcRequestResult result = requester.to("/slow-handler")
+                                           .post(Collections.nCopies(100, "value"));
+        // Assert
+        assertThat(result.returnResponse().getHeader("X-Advice")).isEqualTo("true");
+        assertThat(result.returnServerTimings().getRead()).isGreaterThan(Duration.ZERO);
+        assertThat(result.returnServerTimings().getWrite()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    void advicesOfApplicationContext() {
+        // Arrange
+        AnnotationConfigWebApplicationContext context = context(WebConfig.class);
+        MvcRequester requester = MvcRequester.instrumented(MockMvcBuilders.webAppContextSetup(context))
+                                             .withoutPrinting();
+        // Act
+        ServerTimings timings = requester.to("/slow-handler")
+                                         .post(Collections.singletonList("value"))
+                                         .returnServerTimings();
+        // Assert
+        assertThat(timings.getRead()).isGreaterThan(Duration.ZERO);
+        assertThat(timings.getWrite()).isGreaterThan(Duration.ZERO);
+        assertThat(timings.getHandler()).isGreaterThanOrEqualTo(DELAY);
+        assertThat(context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters())
+                .allMatch(converter -> converter.getClass().getName().startsWith("org.springframework."));
+        context.close();
+    }
+
+    @Test
+    void handlerIsUnknownWithoutInterceptor() {
+        // Arrange
+        AnnotationConfigWebApplicationContext context = context(PlainWebConfig.class);
+        MvcRequester requester = MvcRequester.instrumented(MockMvcBuilders.webAppContextSetup(context))
+                                             .withoutPrinting();
+        // Act
+        ServerTimings timings = requester.to("/slow-handler")
+                                         .post(Collections.singletonList("value"))
+                                         .returnServerTimings();
+        // Assert
+        assertThat(timings.getHandler()).isEqualTo(Duration.ZERO);
+        assertThat(timings.getRead()).isEqualTo(Duration.ZERO);
+        assertThat(timings.getWrite()).isEqualTo(Duration.ZERO);
+        assertThat(timings.getFilters()).isGreaterThanOrEqualTo(DELAY);
+        context.close();
+    }
+
+    @Test
+    void jsonViewIsApplied() {
+        // Arrange
+        MvcRequester requester = MvcRequester.instrumented(MockMvcBuilders.standaloneSetup(new TestController())
+                                                                          .setControllerAdvice(new TestAdvice()))
+                                             .withoutPrinting();
+        // Act
+        MvcRequestResult result = requester.to("/json-view").get();
+        // Assert
+        assertThat(result.returnAsPrimitive(String.class)).isEqualTo("{\"name\":\"public\"}");
+        assertThat(result.returnResponse().getHeader("X-Advice")).isEqualTo("true");
+        assertThat(result.returnServerTimings().getWrite()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    void withoutInstrumentation() {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                             .withoutPrinting();
+        // Act & Assert
+        assertThat(requester.to("/slow-filter").get().returnServerTimings()).isNull();
+    }
+
+    private static AnnotationConfigWebApplicationContext context(Class<?> configuration) {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(configuration);
+        context.refresh();
+        return context;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(ServerTimingAdvice.class)
+    static class WebConfig implements WebMvcConfigurer {
+
+        @Bean
+        public TestController testController() {
+            return new TestController();
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(ServerTimings.interceptor());
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class PlainWebConfig {
+
+        @Bean
+        public TestController testController() {
+            return new TestController();
+        }
+    }
+
+    @ControllerAdvice
+    static class TestAdvice implements ResponseBodyAdvice<Object> {
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body,
+                                      MethodParameter returnType,
+                                      MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request,
+                                      ServerHttpResponse response) {
+            response.getHeaders().add("X-Advice", "true");
+            return body;
+        }
+    }
+
+    interface PublicView {
+    }
+
+    static class Item {
+
+        @JsonView(PublicView.class)
+        public String name = "public";
+
+        public String secret = "internal";
+    }
+
+    static class SlowFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            if (request.getHeader("X-Slow") != null) {
+                sleep();
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    @RestController
+    public static class TestController {
+
+        @PostMapping("/slow-handler")
+        public List<String> slowHandler(@RequestBody List<String> values) {
+            sleep();
+            return IntStream.range(0, values.size())
+                            .mapToObj(i -> values.get(i) + i)
+                            .collect(Collectors.toList());
+        }
+
+        @GetMapping("/slow-filter")
+        public String slowFilter() {
+            return "ok";
+        }
+
+        @JsonView(PublicView.class)
+        @GetMapping("/json-view")
+        public Item jsonView() {
+            return new Item();
+        }
+    }
+}
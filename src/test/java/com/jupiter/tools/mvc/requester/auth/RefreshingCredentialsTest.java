@@ -0,0 +1,107 @@
+package com.jupiter.tools.mvc.requester.auth;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class RefreshingCredentialsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger logins = new AtomicInteger();
+
+    @Test
+    void tokenIsCachedUntilRefresh() {
+        // Arrange
+        RefreshingCredentials credentials = credentials(() -> AccessToken.of("token-" + logins.incrementAndGet(),
+                                                                             Duration.ofSeconds(60)));
+        // Act
+        String first = credentials.getAuthorization();
+        clock.set(Duration.ofSeconds(49).toNanos());
+        String cached = credentials.getAuthorization();
+        clock.set(Duration.ofSeconds(51).toNanos());
+        String refreshed = credentials.getAuthorization();
+        // Assert
+        assertThat(first).isEqualTo("Bearer token-1");
+        assertThat(cached).isSameAs(first);
+        assertThat(refreshed).isEqualTo("Bearer token-2");
+        assertThat(logins).hasValue(2);
+    }
+
+    @Test
+    void failedRefreshKeepsValidToken() {
+        // Arrange
+        RefreshingCredentials credentials = credentials(() -> {
+            if (logins.incrementAndGet() > 1) {
+                throw new IllegalStateException("login endpoint is down");
+            }
+            return AccessToken.of("token", Duration.ofSeconds(60));
+        });
+        credentials.getAuthorization();
+        // Act
+        clock.set(Duration.ofSeconds(55).toNanos());
+        String beforeExpiry = credentials.getAuthorization();
+        clock.set(Duration.ofSeconds(61).toNanos());
+        // Assert
+        assertThat(beforeExpiry).isEqualTo("Bearer token");
+        assertThrows(IllegalStateException.class, credentials::getAuthorization);
+    }
+
+    @Test
+    void invalidate() {
+        // Arrange
+        RefreshingCredentials credentials = credentials(() -> AccessToken.of("token-" + logins.incrementAndGet()));
+        credentials.getAuthorization();
+        // Act
+        credentials.invalidate();
+        // Assert
+        assertThat(credentials.getAuthorization()).isEqualTo("Bearer token-2");
+    }
+
+    @Test
+    void concurrentRequestsMakeOneLogin() throws Exception {
+        // Arrange
+        CountDownLatch start = new CountDownLatch(1);
+        RefreshingCredentials credentials = credentials(() -> AccessToken.of("token-" + logins.incrementAndGet(),
+                                                                             Duration.ofMinutes(5)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // Act
+            List<Future<String>> headers = IntStream.range(0, 32)
+                                                    .mapToObj(i -> executor.submit(() -> {
+                                                        start.await();
+                                                        return credentials.getAuthorization();
+                                                    }))
+                                                    .collect(Collectors.toList());
+            start.countDown();
+            // Assert
+            for (Future<String> header : headers) {
+                assertThat(header.get()).isEqualTo("Bearer token-1");
+            }
+            assertThat(logins).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RefreshingCredentials credentials(Supplier<AccessToken> login) {
+        return new RefreshingCredentials(login, Duration.ofSeconds(10), clock::get);
+    }
+}
@@ -0,0 +1,163 @@
+package com.jupiter.tools.mvc.requester.baseline;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import com.jupiter.tools.mvc.requester.RequestMeasurement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class PerformanceBaselineTest {
+
+    private Path file;
+    private TestController controller;
+    private MvcRequester requester;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("perf-baseline", ".json");
+        Files.delete(file);
+        controller = new TestController();
+        requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void recordMissingBaselineAndCompareNextRun() {
+        // Act
+        BaselineComparison first = PerformanceBaseline.load(file).verify(measure());
+        BaselineComparison second = PerformanceBaseline.load(file).withTolerance(10).verify(measure());
+        // Assert
+        assertThat(first.isRecorded()).isTrue();
+        assertThat(first.getEndpoint()).isEqualTo("GET /test/object/{id}");
+        assertThat(file).exists();
+        assertThat(second.isRecorded()).isFalse();
+        assertThat(second.isRegression()).isFalse();
+    }
+
+    @Test
+    void failOnLatencyRegression() {
+        // Arrange
+        PerformanceBaseline baseline = PerformanceBaseline.load(file);
+        baseline.verify(measure());
+        controller.delayMillis = 5;
+        // Act
+        RequestMeasurement slow = measure();
+        // Assert
+        assertThatThrownBy(() -> baseline.verify(slow))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Performance regression of GET /test/object/{id}: REGRESSION");
+    }
+
+    @Test
+    void warnOnAllocationRegression() {
+        // Arrange
+        List<String> warnings = new ArrayList<>();
+        PerformanceBaseline baseline = PerformanceBaseline.load(file).warnOnRegression(warnings::add);
+        baseline.verify(measure());
+        controller.allocation = 1024 * 1024;
+        // Act
+        BaselineComparison comparison = baseline.verify(measure());
+        // Assert
+        assertThat(comparison.isAllocationRegression()).isTrue();
+        assertThat(warnings).containsExactly("Performance regression of " + comparison);
+        assertThat(comparison.getCurrentAllocatedBytes()).isGreaterThan(1024 * 1024);
+    }
+
+    @Test
+    void settingsMakeCopies() {
+        // Arrange
+        PerformanceBaseline baseline = PerformanceBaseline.load(file);
+        baseline.verify(measure());
+        controller.delayMillis = 5;
+        RequestMeasurement slow = measure();
+        // Act
+        PerformanceBaseline tolerant = baseline.withTolerance(1_000_000);
+        // Assert
+        assertThat(tolerant).isNotSameAs(baseline);
+        assertThat(tolerant.verify(slow).isRegression()).isFalse();
+        assertThatThrownBy(() -> baseline.verify(slow)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void updateBaseline() {
+        // Arrange
+        PerformanceBaseline.load(file).verify(measure());
+        controller.delayMillis = 5;
+        // Act
+        BaselineComparison comparison = PerformanceBaseline.load(file).withUpdate(true).verify(measure());
+        // Assert
+        assertThat(comparison.isRecorded()).isTrue();
+        assertThat(PerformanceBaseline.load(file).compare(measure()).isRegression()).isFalse();
+    }
+
+    @Test
+    void rejectMeasurementWithFewRuns() {
+        // Arrange
+        RequestMeasurement single = requester.to("/test/object/{id}", 1)
+                                             .get()
+                                             .returnMeasurement();
+        // Act & Assert
+        assertThatThrownBy(() -> PerformanceBaseline.load(file).verify(single))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least 5 runs are required");
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void mannWhitneyTest() {
+        long[] baseline = {10, 12, 11, 13, 10, 12, 11, 14, 10, 12};
+        long[] same = {11, 10, 12, 13, 12, 10, 11, 12, 14, 10};
+        long[] shifted = {20, 22, 21, 23, 20, 22, 21, 24, 20, 22};
+
+        assertThat(MannWhitneyTest.pValueGreater(baseline, same)).isGreaterThan(0.3);
+        assertThat(MannWhitneyTest.pValueGreater(baseline, shifted)).isLessThan(0.001);
+        assertThat(MannWhitneyTest.pValueGreater(shifted, baseline)).isGreaterThan(0.999);
+    }
+
+    private RequestMeasurement measure() {
+        return requester.to("/test/object/{id}", 1)
+                        .withMeasurement(5, 20)
+                        .get()
+                        .expectStatus(OK)
+                        .returnMeasurement();
+    }
+
+    @RestController
+    public static class TestController {
+
+        private volatile long delayMillis;
+        private volatile int allocation;
+
+        @GetMapping("/test/object/{id}")
+        public int get(@PathVariable("id") int id) throws InterruptedException {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            return id + new byte[allocation].length;
+        }
+    }
+}
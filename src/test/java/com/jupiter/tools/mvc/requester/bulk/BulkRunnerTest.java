@@ -0,0 +1,221 @@
+package com.jupiter.tools.mvc.requester.bulk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class BulkRunnerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Path input;
+    private Path output;
+    private TestController controller;
+    private MvcRequester requester;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        input = Files.createTempFile("bulk-input", ".txt");
+        output = Files.createTempFile("bulk-output", ".jsonl");
+        controller = new TestController();
+        requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Test
+    void runJsonLines() throws IOException {
+        // Arrange
+        write("{\"method\":\"POST\",\"uri\":\"/test/echo\",\"body\":{\"name\" : \"first\"},\"expectStatus\":201,\"expectBody\":{\"name\":\"first\"}}",
+              "{\"uri\":\"/test/hello/{name}\",\"uriVariables\":[\"world\"],\"params\":{\"suffix\":\"!\"},\"expectBody\":\"hello world!\"}",
+              "",
+              "{\"uri\":\"/test/header\",\"headers\":{\"X-Tenant\":\"alpha\"},\"expectBody\":\"alpha\"}",
+              "{\"uri\":\"/test/hello/{name}\",\"uriVariables\":[\"world\"],\"expectStatus\":404}",
+              "not a json");
+        // Act
+        BulkReport report = BulkRunner.of(requester)
+                                      .withParallelism(2)
+                                      .withOutput(output)
+                                      .runJsonLines(input);
+        // Assert
+        assertThat(report.getRequests()).isEqualTo(5);
+        assertThat(report.getPassed()).isEqualTo(3);
+        assertThat(report.getMismatches()).isEqualTo(1);
+        assertThat(report.getErrors()).isEqualTo(1);
+        assertThat(report.getLatency().getTotalCount()).isEqualTo(4);
+
+        List<JsonNode> results = readOutput();
+        assertThat(results).hasSize(5);
+        JsonNode mismatch = findLine(results, 5);
+        assertThat(mismatch.get("outcome").asText()).isEqualTo("mismatch");
+        assertThat(mismatch.get("status").asInt()).isEqualTo(200);
+        assertThat(mismatch.get("message").asText()).contains("Expected status 404");
+        assertThat(findLine(results, 6).get("outcome").asText()).isEqualTo("error");
+        assertThat(findLine(results, 1).get("outcome").asText()).isEqualTo("passed");
+        // the body is sent as it is written in the file
+        assertThat(controller.lastBody).isEqualTo("{\"name\" : \"first\"}");
+    }
+
+    @Test
+    void runCsv() throws IOException {
+        // Arrange
+        write("method,uri,param.suffix,header.X-Tenant,body,expectStatus,expectBody",
+              "GET,/test/hello/csv,?,,,200,hello csv?",
+              "GET,/test/header,,beta,,,beta",
+              "POST,/test/echo,,,\"{\"\"name\"\":\"\"quoted, value\"\"}\",201,\"{\"\"name\"\":\"\"quoted, value\"\"}\"",
+              "GET,/test/hello/csv,,,,200,wrong");
+        // Act
+        BulkReport report = BulkRunner.of(requester)
+                                      .withOutput(output)
+                                      .withFailuresOnly()
+                                      .runCsv(input);
+        // Assert
+        assertThat(report.getRequests()).isEqualTo(4);
+        assertThat(report.getPassed()).isEqualTo(3);
+        assertThat(report.getMismatches()).isEqualTo(1);
+        List<JsonNode> results = readOutput();
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(5);
+    }
+
+    @Test
+    void boundedCountOfRequestsInFlight() throws IOException {
+        // Arrange
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add("{\"uri\":\"/test/slow\"}");
+        }
+        write(lines.toArray(new String[0]));
+        // Act
+        BulkReport report = BulkRunner.of(requester)
+                                      .withParallelism(4)
+                                      .runJsonLines(input);
+        // Assert
+        assertThat(report.getPassed()).isEqualTo(200);
+        assertThat(controller.maxConcurrency.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void readLongLinesWithCrLf() throws IOException {
+        // Arrange
+        String name = String.join("", Collections.nCopies(10_000, "x"));
+        String line = "{\"method\":\"POST\",\"uri\":\"/test/echo\",\"body\":{\"name\":\"" + name + "\"},\"expectStatus\":201}";
+        Files.write(input, (line + "\r\n" + line + "\r\n" + line).getBytes(StandardCharsets.UTF_8));
+        // Act
+        BulkReport report = BulkRunner.of(requester).runJsonLines(input);
+        // Assert
+        assertThat(report.getRequests()).isEqualTo(3);
+        assertThat(report.getPassed()).isEqualTo(3);
+        assertThat(controller.lastBody).isEqualTo("{\"name\":\"" + name + "\"}");
+    }
+
+    @Test
+    void failWhenOutputIsNotWritten() throws IOException {
+        // Arrange
+        Path full = Paths.get("/dev/full");
+        assumeTrue(Files.isWritable(full));
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add("{\"uri\":\"/test/hello/{name}\",\"uriVariables\":[\"world\"]}");
+        }
+        write(lines.toArray(new String[0]));
+        // Act & Assert
+        assertThatThrownBy(() -> BulkRunner.of(requester)
+                                           .withParallelism(2)
+                                           .withOutput(full)
+                                           .runJsonLines(input))
+                .isInstanceOf(MvcRequestException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    private void write(String... lines) throws IOException {
+        Files.write(input, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> readOutput() throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : Files.readAllLines(output, StandardCharsets.UTF_8)) {
+            results.add(mapper.readTree(line));
+        }
+        return results;
+    }
+
+    private static JsonNode findLine(List<JsonNode> results, long line) {
+        return results.stream()
+                      .filter(result -> result.get("line").asLong() == line)
+                      .findFirst()
+                      .orElseThrow(() -> new AssertionError("Line " + line + " isn't found"));
+    }
+
+    @RestController
+    public static class TestController {
+
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private volatile String lastBody;
+
+        @PostMapping("/test/echo")
+        @ResponseStatus(HttpStatus.CREATED)
+        public String echo(@RequestBody String body) {
+            lastBody = body;
+            return body;
+        }
+
+        @GetMapping("/test/hello/{name}")
+        public String hello(@PathVariable("name") String name,
+                            @RequestParam(value = "suffix", defaultValue = "") String suffix) {
+            return "hello " + name + suffix;
+        }
+
+        @GetMapping("/test/header")
+        public String header(@RequestHeader("X-Tenant") String tenant) {
+            return tenant;
+        }
+
+        @GetMapping("/test/slow")
+        public String slow() throws InterruptedException {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            concurrency.decrementAndGet();
+            return "ok";
+        }
+    }
+}
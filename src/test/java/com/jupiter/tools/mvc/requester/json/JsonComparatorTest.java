@@ -0,0 +1,201 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class JsonComparatorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void equalDocuments() {
+        // Act
+        JsonDiff diff = compare("{\"a\":1,\"b\":[1,2,{\"c\":\"x\"}]}",
+                                "{\"b\":[1,2,{\"c\":\"x\"}],\"a\":1.0}",
+                                JsonCompareOptions.strict());
+        // Assert
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void reportDifferencesByPaths() {
+        // Act
+        JsonDiff diff = compare("{\"name\":\"a\",\"items\":[{\"id\":1},{\"id\":2}],\"gone\":true}",
+                                "{\"name\":\"b\",\"items\":[{\"id\":1},{\"id\":3}],\"extra\":null}",
+                                JsonCompareOptions.strict());
+        // Assert
+        assertThat(diff.getDifferences()).containsExactly("/name: expected \"a\" but was \"b\"",
+                                                          "/items/1/id: expected 2 but was 3",
+                                                          "/gone: missing field, expected true",
+                                                          "/extra: unexpected field null");
+        assertThat(diff.toString()).startsWith("4 differences:");
+    }
+
+    @Test
+    void ignoreArrayOrder() {
+        // Act
+        JsonDiff equal = compare("[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"tags\":[]}]",
+                                 "[{\"id\":2,\"tags\":[]},{\"tags\":[\"b\",\"a\"],\"id\":1}]",
+                                 JsonCompareOptions.strict().ignoringArrayOrder());
+        JsonDiff different = compare("[1,1,2]",
+                                     "[1,2,2]",
+                                     JsonCompareOptions.strict().ignoringArrayOrder());
+        // Assert
+        assertThat(equal.isEmpty()).isTrue();
+        assertThat(different.getDifferences()).containsExactly("/: expected element 1 not found",
+                                                               "/: unexpected element [2] 2");
+    }
+
+    @Test
+    void ignorePaths() {
+        // Act
+        JsonDiff diff = compare("{\"createdAt\":1,\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]}",
+                                "{\"createdAt\":2,\"items\":[{\"id\":7,\"name\":\"b\"},{\"name\":\"a\"}]}",
+                                JsonCompareOptions.strict()
+                                                  .ignoringArrayOrder()
+                                                  .ignoringPaths("/createdAt", "/items/*/id"));
+        // Assert
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void numericTolerance() {
+        // Act
+        JsonDiff equal = compare("[1.0, 2.5]", "[2.5004, 0.9999]",
+                                 JsonCompareOptions.strict().ignoringArrayOrder().withNumericTolerance(0.001));
+        JsonDiff different = compare("[1.0]", "[1.01]",
+                                     JsonCompareOptions.strict().withNumericTolerance(0.001));
+        // Assert
+        assertThat(equal.isEmpty()).isTrue();
+        assertThat(different.getDifferences()).containsExactly("/0: expected 1.0 but was 1.01");
+    }
+
+    @Test
+    void ignoreExtraFields() {
+        // Act
+        JsonDiff diff = compare("[{\"id\":1},{\"id\":2}]",
+                                "[{\"id\":2,\"name\":\"b\"},{\"id\":1,\"name\":\"a\"}]",
+                                JsonCompareOptions.strict().ignoringArrayOrder().ignoringExtraFields());
+        // Assert
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void compareLargeUnorderedArrays() {
+        // Arrange
+        int size = 20_000;
+        ArrayNode expected = mapper.createArrayNode();
+        List<ObjectNode> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ObjectNode element = mapper.createObjectNode()
+                                       .put("id", i)
+                                       .put("name", "item-" + i);
+            element.putArray("tags").add("t" + i % 7).add("common");
+            elements.add(element);
+        }
+        expected.addAll(elements);
+        Collections.shuffle(elements, new Random(42));
+        ArrayNode copy = mapper.createArrayNode().addAll(elements).deepCopy();
+        ((ObjectNode) copy.get(100)).put("name", "changed");
+        CountingArrayNode actual = new CountingArrayNode(mapper);
+        actual.addAll(copy);
+        // Act
+        JsonDiff diff = JsonComparator.compare(expected, actual, JsonCompareOptions.strict().ignoringArrayOrder());
+        // Assert
+        assertThat(diff.getCount()).isEqualTo(2);
+        // each actual element is hashed once and compared only with expected elements of the same hash,
+        // a pairwise matching would read actual elements about size * size / 2 times
+        assertThat(actual.reads).isLessThan(3L * size);
+    }
+
+    @Test
+    void expectJsonEquals(@TempDir Path directory) throws Exception {
+        // Arrange
+        MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                             .withoutPrinting();
+        Path file = directory.resolve("expected.json");
+        Files.write(file, "[{\"id\":2,\"name\":\"b\"},{\"id\":1,\"name\":\"a\"}]".getBytes(StandardCharsets.UTF_8));
+        // Act & Assert
+        requester.to("/test/items")
+                 .get()
+                 .expectJsonEquals(new Item[]{new Item(1, "a"), new Item(2, "b")})
+                 .expectJsonEquals(file, JsonCompareOptions.strict().ignoringArrayOrder())
+                 .expectJsonEquals("[{\"id\":0,\"name\":\"a\"},{\"id\":0,\"name\":\"b\"}]",
+                                   JsonCompareOptions.strict().ignoringPaths("/*/id"));
+
+        assertThatThrownBy(() -> requester.to("/test/items").get().expectJsonEquals(file))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("/0/id: expected 2 but was 1");
+    }
+
+    private JsonDiff compare(String expected, String actual, JsonCompareOptions options) {
+        try {
+            return JsonComparator.compare(mapper.readTree(expected), mapper.readTree(actual), options);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Array which counts reads of its elements
+     */
+    private static class CountingArrayNode extends ArrayNode {
+
+        private long reads;
+
+        private CountingArrayNode(ObjectMapper mapper) {
+            super(mapper.getNodeFactory());
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            reads++;
+            return super.get(index);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int id;
+        private String name;
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/test/items")
+        public Item[] items() {
+            return new Item[]{new Item(1, "a"), new Item(2, "b")};
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.jupiter.tools.mvc.requester.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jupiter.tools.mvc.requester.MvcRequestException;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class JsonSchemasTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                                       .withoutPrinting();
+
+    @Test
+    void validDocument() throws Exception {
+        // Act
+        List<String> violations = JsonSchemas.validate("schemas/order.json",
+                                                       mapper.readTree("{\"id\":1,\"status\":\"NEW\"," +
+                                                                       "\"items\":[{\"name\":\"a\",\"count\":2}]}"));
+        // Assert
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    void reportAllViolations() throws Exception {
+        // Act
+        List<String> violations = JsonSchemas.validate("classpath:schemas/order.json",
+                                                       mapper.readTree("{\"id\":\"1\",\"status\":\"LOST\",\"extra\":1," +
+                                                                       "\"items\":[{\"name\":\"a\",\"count\":0},{\"count\":1}]}"));
+        // Assert
+        assertThat(violations).hasSize(5)
+                              .anyMatch(violation -> violation.startsWith("$.id"))
+                              .anyMatch(violation -> violation.startsWith("$.status"))
+                              .anyMatch(violation -> violation.contains("extra"))
+                              .anyMatch(violation -> violation.startsWith("$.items[0].count"))
+                              .anyMatch(violation -> violation.startsWith("$.items[1].name"));
+    }
+
+    @Test
+    void compileSchemaOnce() throws Exception {
+        // Arrange
+        JsonSchemas.validate("schemas/item.json", mapper.readTree("{}"));
+        int size = JsonSchemas.size();
+        // Act
+        for (int i = 0; i < 100; i++) {
+            JsonSchemas.validate("schemas/item.json", mapper.readTree("{\"name\":\"a\",\"count\":" + i + "}"));
+        }
+        // Assert
+        assertThat(JsonSchemas.size()).isEqualTo(size);
+    }
+
+    @Test
+    void schemaIsNotFound() {
+        assertThatThrownBy(() -> JsonSchemas.validate("schemas/unknown.json", mapper.readTree("{}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("schemas/unknown.json");
+    }
+
+    @Test
+    void expectMatchesSchema() {
+        // Act & Assert
+        requester.to("/test/orders/valid")
+                 .get()
+                 .expectMatchesSchema("schemas/order.json");
+
+        assertThatThrownBy(() -> requester.to("/test/orders/invalid").get().expectMatchesSchema("schemas/order.json"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2 violation(s)")
+                .hasMessageContaining("$.status")
+                .hasMessageContaining("$.items");
+    }
+
+    @Test
+    void notJsonResponse() {
+        assertThatThrownBy(() -> requester.to("/test/text").get().expectMatchesSchema("schemas/order.json"))
+                .isInstanceOf(MvcRequestException.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Order {
+        private long id;
+        private String status;
+        private List<Item> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String name;
+        private int count;
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/test/orders/valid")
+        public Order valid() {
+            return new Order(1, "PAID", Arrays.asList(new Item("a", 1), new Item("b", 2)));
+        }
+
+        @GetMapping("/test/orders/invalid")
+        public Order invalid() {
+            return new Order(1, "UNKNOWN", Collections.emptyList());
+        }
+
+        @GetMapping(value = "/test/text", produces = "text/plain")
+        public String text() {
+            return "not a json";
+        }
+    }
+}
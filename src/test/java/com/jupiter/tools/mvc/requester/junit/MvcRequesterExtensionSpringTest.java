@@ -0,0 +1,58 @@
+package com.jupiter.tools.mvc.requester.junit;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+@ExtendWith({SpringExtension.class, MvcRequesterExtension.class})
+@WebAppConfiguration
+@ContextConfiguration(classes = MvcRequesterExtensionSpringTest.WebConfig.class)
+class MvcRequesterExtensionSpringTest {
+
+    @Test
+    void injectRequesterFromApplicationContext(MvcRequester requester) {
+        Integer result = requester.to("/test/twice/{value}", 21)
+                                  .get()
+                                  .expectStatus(OK)
+                                  .returnAsPrimitive(Integer.class);
+        assertThat(result).isEqualTo(42);
+    }
+
+    @PerformanceTest(warmup = 2, iterations = 10)
+    void performanceTestWithApplicationContext(MvcRequester requester) {
+        requester.to("/test/twice/{value}", 1)
+                 .get()
+                 .expectStatus(OK);
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @RestController
+        public static class TestController {
+
+            @GetMapping("/test/twice/{value}")
+            public int twice(@PathVariable("value") int value) {
+                return value * 2;
+            }
+        }
+    }
+}
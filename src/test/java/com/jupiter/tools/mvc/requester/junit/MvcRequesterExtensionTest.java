@@ -0,0 +1,74 @@
+package com.jupiter.tools.mvc.requester.junit;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+@ExtendWith(MvcRequesterExtension.class)
+class MvcRequesterExtensionTest {
+
+    private static final MockMvc MOCK_MVC = MockMvcBuilders.standaloneSetup(new TestController()).build();
+    private static final AtomicInteger performanceInvocations = new AtomicInteger();
+    private static final Set<String> performanceThreads = ConcurrentHashMap.newKeySet();
+    private static final Set<MvcRequester> requesters = ConcurrentHashMap.newKeySet();
+
+    private MockMvc mockMvc = MOCK_MVC;
+
+    @AfterAll
+    static void checkInvocations() {
+        assertThat(performanceInvocations.get()).isEqualTo(5 + 40);
+        assertThat(performanceThreads).isNotEmpty()
+                                      .allMatch(name -> name.startsWith("mvc-requester-performance-"));
+        // the same requester is shared by all tests of the class
+        assertThat(requesters).hasSize(1);
+    }
+
+    @Test
+    void injectRequester(MvcRequester requester) {
+        requesters.add(requester);
+        String result = requester.to("/test/hello")
+                                 .get()
+                                 .expectStatus(OK)
+                                 .returnAsPrimitive(String.class);
+        assertThat(result).isEqualTo("hello world");
+    }
+
+    @PerformanceTest(warmup = 5, iterations = 40, threads = 2)
+    void repeatPerformanceTest(MvcRequester requester) {
+        requesters.add(requester);
+        performanceInvocations.incrementAndGet();
+        if (performanceInvocations.get() > 5) {
+            performanceThreads.add(Thread.currentThread().getName());
+        }
+        requester.to("/test/hello")
+                 .get()
+                 .expectStatus(OK);
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/test/hello")
+        public String hello() {
+            return "hello world";
+        }
+    }
+}
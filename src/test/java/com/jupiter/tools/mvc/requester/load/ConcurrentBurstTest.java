@@ -0,0 +1,125 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jupiter.tools.mvc.requester.MvcRequestPointed;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ConcurrentBurstTest {
+
+    private final AccountController controller = new AccountController();
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(controller).build())
+                                                       .withoutPrinting();
+
+    @Test
+    void consistentOutcomeOfSafeEndpoint() {
+        // Act
+        BurstReport report = ConcurrentBurst.of(requester.to("/accounts/safe/withdraw"))
+                                            .withThreads(8)
+                                            .withRounds(20)
+                                            .withBeforeRound(() -> controller.balance.set(100))
+                                            .run(MvcRequestPointed::post);
+        // Assert
+        assertThat(report.getRequests()).isEqualTo(160);
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getRoundOutcomes()).containsOnlyKeys("200x1, 409x7");
+        assertThat(report.getStatuses()).containsEntry(200, 20L)
+                                        .containsEntry(409, 140L);
+        assertThat(report.getBodyDigests()).hasSize(2);
+        assertThat(report.getLatency().getTotalCount()).isEqualTo(160);
+        assertThat(report.getStartSkew().getTotalCount()).isEqualTo(20);
+        assertThat(report.summary()).contains("rounds: 20, threads: 8, errors: 0");
+    }
+
+    @Test
+    void detectDoubleSpending() {
+        // Act
+        BurstReport report = ConcurrentBurst.of(requester.to("/accounts/unsafe/withdraw"))
+                                            .withThreads(8)
+                                            .withRounds(20)
+                                            .withBeforeRound(() -> controller.balance.set(100))
+                                            .run(MvcRequestPointed::post);
+        // Assert
+        assertThat(report.getRoundOutcomes().keySet()).anyMatch(outcome -> !outcome.startsWith("200x1,"));
+        assertThat(report.getStatuses().get(200)).isGreaterThan(20L);
+    }
+
+    @Test
+    void countFailedRequests() {
+        // Act
+        AtomicInteger counter = new AtomicInteger();
+        BurstReport report = ConcurrentBurst.of(requester.to("/accounts/safe/withdraw"))
+                                            .withThreads(4)
+                                            .withRounds(3)
+                                            .run(request -> {
+                                                if (counter.incrementAndGet() % 4 == 0) {
+                                                    throw new AssertionError("fail");
+                                                }
+                                                return request.post();
+                                            });
+        // Assert
+        assertThat(report.getErrors()).isEqualTo(3);
+        assertThat(report.getRoundOutcomes().keySet()).allMatch(outcome -> outcome.endsWith("errorx1"));
+    }
+
+    @Test
+    void stopOnFailedPreparationOfRound() {
+        // Arrange
+        AtomicInteger rounds = new AtomicInteger();
+        ConcurrentBurst burst = ConcurrentBurst.of(requester.to("/accounts/safe/withdraw"))
+                                               .withThreads(4)
+                                               .withRounds(5)
+                                               .withBeforeRound(() -> {
+                                                   if (rounds.incrementAndGet() == 3) {
+                                                       throw new IllegalStateException("reset failed");
+                                                   }
+                                               });
+        // Act & Assert
+        assertThatThrownBy(() -> burst.run(MvcRequestPointed::post)).isInstanceOf(IllegalStateException.class)
+                                                                    .hasMessage("reset failed");
+    }
+
+    @RestController
+    public static class AccountController {
+
+        private final AtomicInteger balance = new AtomicInteger(100);
+
+        @PostMapping("/accounts/safe/withdraw")
+        public synchronized ResponseEntity<String> safeWithdraw() {
+            return unsafeWithdraw();
+        }
+
+        @PostMapping("/accounts/unsafe/withdraw")
+        public ResponseEntity<String> unsafeWithdraw() {
+            if (balance.get() < 100) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("insufficient funds");
+            }
+            sleep();
+            balance.addAndGet(-100);
+            return ResponseEntity.ok("withdrawn");
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jupiter.tools.mvc.requester.FaultInjection;
+import com.jupiter.tools.mvc.requester.LatencyDistribution;
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ConstantArrivalRateLoadTest {
+
+    private static final long STALL_MILLIS = 300;
+
+    @Test
+    void runWithFixedRate() {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestController()).build();
+        MvcRequester requester = MvcRequester.on(mockMvc).withoutPrinting();
+        // Act
+        LoadReport report = ConstantArrivalRateLoad.of(500)
+                                                   .withDuration(Duration.ofSeconds(1))
+                                                   .withWorkers(4)
+                                                   .run(() -> requester.to("/hello")
+                                                                       .get()
+                                                                       .expectStatus(OK));
+        // Assert
+        assertThat(report.getRequests()).isEqualTo(500);
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getResponseTime().getTotalCount()).isEqualTo(500);
+        assertThat(report.getSchedulingLag().getTotalCount()).isEqualTo(500);
+        assertThat(report.summary()).contains("requests: 500, errors: 0");
+    }
+
+    @Test
+    void correctCoordinatedOmission() {
+        // Arrange
+        AtomicInteger counter = new AtomicInteger();
+        // Act
+        LoadReport report = ConstantArrivalRateLoad.of(100)
+                                                   .withDuration(Duration.ofMillis(500))
+                                                   .withWorkers(1)
+                                                   .run(() -> {
+                                                       // the first request stalls the single worker
+                                                       if (counter.getAndIncrement() == 0) {
+                                                           sleep(STALL_MILLIS);
+                                                       }
+                                                   });
+        // Assert
+        long stall = TimeUnit.MILLISECONDS.toNanos(STALL_MILLIS);
+        long serviceP90 = report.getServiceTime().getValueAtPercentile(90);
+        long responseP90 = report.getResponseTime().getValueAtPercentile(90);
+        // only one request stalled, but requests which waited for it are counted from their intended start
+        assertThat(serviceP90).isLessThan(stall / 2);
+        assertThat(responseP90).isGreaterThan(stall / 3)
+                               .isGreaterThan(serviceP90);
+    }
+
+    @Test
+    void splitInjectedLatency() {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestController()).build();
+        MvcRequester requester = MvcRequester.on(mockMvc)
+                                             .withoutPrinting()
+                                             .withFaultInjection(FaultInjection.create(1)
+                                                                               .withLatency("/hello", LatencyDistribution.fixed(Duration.ofMillis(20))));
+        // Act
+        LoadReport report = ConstantArrivalRateLoad.of(50)
+                                                   .withDuration(Duration.ofMillis(200))
+                                                   .withWorkers(4)
+                                                   .run(() -> requester.to("/hello").get());
+        // Assert
+        assertThat(report.getInjectedTime()).isGreaterThanOrEqualTo(Duration.ofMillis(20 * report.getRequests()));
+        assertThat(report.getRealServiceTime().getTotalCount()).isEqualTo(report.getRequests());
+        assertThat(report.getServiceTime().getValueAtPercentile(50)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(report.getRealServiceTime().getValueAtPercentile(50)).isLessThan(report.getServiceTime().getValueAtPercentile(50));
+        assertThat(report.summary()).contains("real service time");
+    }
+
+    @Test
+    void countErrors() {
+        // Act
+        LoadReport report = ConstantArrivalRateLoad.of(100)
+                                                   .withDuration(Duration.ofMillis(200))
+                                                   .run(() -> {
+                                                       throw new AssertionError("fail");
+                                                   });
+        // Assert
+        assertThat(report.getErrors()).isEqualTo(report.getRequests())
+                                      .isEqualTo(20);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/hello")
+        public String hello() {
+            return "hello world";
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ForkedLoadTest {
+
+    @Test
+    void mergeHistogramsOfWorkers() {
+        // Act
+        ForkedLoadReport report = ForkedLoad.of(HelloLoadTask.class, 200)
+                                            .withWorkers(2)
+                                            .withDuration(Duration.ofSeconds(1))
+                                            .withReportInterval(Duration.ofMillis(200))
+                                            .withJvmArgs("-Xmx128m")
+                                            .run();
+        // Assert
+        assertThat(report.getTotal().getRequests()).isEqualTo(200);
+        assertThat(report.getTotal().getErrors()).isZero();
+        assertThat(report.getTotal().getResponseTime().getTotalCount()).isEqualTo(200);
+        assertThat(report.getWorkers()).extracting(WorkerLoadReport::getWorker)
+                                       .containsExactly(0, 1);
+        assertThat(report.getWorkers()).allSatisfy(worker -> {
+            assertThat(worker.getRequests()).isEqualTo(100);
+            assertThat(worker.getResponseTime().getTotalCount()).isEqualTo(100);
+        });
+        assertThat(report.summary()).contains("worker 1: requests: 100, errors: 0");
+    }
+
+    @Test
+    void failWhenPreparationFailed() {
+        assertThatThrownBy(() -> ForkedLoad.of(FailedLoadTask.class, 10)
+                                           .withWorkers(1)
+                                           .withDuration(Duration.ofMillis(100))
+                                           .run())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Worker 0 failed: java.lang.IllegalArgumentException: wrong setup");
+    }
+
+    @Test
+    void failWhenWorkerDiedBeforeConnection() {
+        // Arrange
+        long start = System.nanoTime();
+        // Act & Assert
+        assertThatThrownBy(() -> ForkedLoad.of(HelloLoadTask.class, 10)
+                                           .withWorkers(1)
+                                           .withDuration(Duration.ofMillis(100))
+                                           .withJvmArgs("-XX:+UnknownOptionOfTest")
+                                           .run())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Worker 0 exited with the code")
+                .hasMessageContaining("see the log: ")
+                .hasMessageContaining("UnknownOptionOfTest");
+        // failed before the default start timeout
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(30));
+    }
+
+    public static class HelloLoadTask implements ForkedLoadTask {
+
+        @Override
+        public Runnable prepare(int worker) {
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestController()).build();
+            MvcRequester requester = MvcRequester.on(mockMvc).withoutPrinting();
+            return () -> requester.to("/hello").get().expectStatus(OK);
+        }
+    }
+
+    public static class FailedLoadTask implements ForkedLoadTask {
+
+        @Override
+        public Runnable prepare(int worker) {
+            throw new IllegalArgumentException("wrong setup");
+        }
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/hello")
+        public String hello() {
+            return "hello world";
+        }
+    }
+}
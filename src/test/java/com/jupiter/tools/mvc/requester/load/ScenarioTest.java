@@ -0,0 +1,178 @@
+package com.jupiter.tools.mvc.requester.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class ScenarioTest {
+
+    private OrderController controller;
+    private MvcRequester requester;
+
+    @BeforeEach
+    void setUp() {
+        controller = new OrderController();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        requester = MvcRequester.on(mockMvc);
+    }
+
+    @Test
+    void runScenarioByVirtualUsers() {
+        // Act
+        ScenarioReport report =
+                Scenario.of(requester)
+                        .step("create order", (r, session) -> r.to("/orders").post())
+                        .extract("orderId", "/id")
+                        .step("add item", (r, session) -> r.to("/orders/{id}/items", session.get("orderId"))
+                                                           .post(new Item("item-" + session.getVirtualUser())))
+                        .step("checkout", (r, session) -> r.to("/orders/{id}/checkout", session.get("orderId"))
+                                                           .post()
+                                                           .expectStatus(HttpStatus.OK))
+                        .extract("items", "/items")
+                        .withVirtualUsers(4)
+                        .withIterations(10)
+                        .run();
+        // Assert
+        assertThat(report.getSteps()).extracting(StepReport::getName)
+                                     .containsExactly("create order", "add item", "checkout");
+        assertThat(report.getSteps()).allSatisfy(step -> {
+            assertThat(step.getRequests()).isEqualTo(40);
+            assertThat(step.getErrors()).isZero();
+            assertThat(step.getLatency().getTotalCount()).isEqualTo(40);
+        });
+        assertThat(controller.orders).hasSize(40)
+                                     .allSatisfy((id, order) -> assertThat(order.getItems()).hasSize(1)
+                                                                                            .isNotNull());
+        assertThat(report.summary()).contains("checkout: requests: 40, errors: 0");
+    }
+
+    @Test
+    void skipNextStepsWhenExtractionFailed() {
+        // Act
+        ScenarioReport report =
+                Scenario.of(requester)
+                        .step("create order", (r, session) -> r.to("/orders").post())
+                        .extract("orderId", "/unknown")
+                        .step("checkout", (r, session) -> r.to("/orders/{id}/checkout", session.get("orderId"))
+                                                           .post())
+                        .withIterations(3)
+                        .run();
+        // Assert
+        assertThat(report.getStep("create order").getErrors()).isEqualTo(3);
+        assertThat(report.getStep("checkout").getRequests()).isZero();
+    }
+
+    @Test
+    void errorStatusFailsStep() {
+        // Act
+        ScenarioReport report =
+                Scenario.of(requester)
+                        .step("unknown order", (r, session) -> r.to("/orders/{id}/unknown", 1).post())
+                        .step("create order", (r, session) -> r.to("/orders").post())
+                        .withIterations(2)
+                        .run();
+        // Assert
+        assertThat(report.getStep("unknown order").getErrors()).isEqualTo(2);
+        assertThat(report.getStep("create order").getRequests()).isZero();
+    }
+
+    @Test
+    void iterationsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Scenario.of(requester).withIterations(0));
+    }
+
+    @Test
+    void durationMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Scenario.of(requester).withDuration(null));
+        assertThrows(IllegalArgumentException.class, () -> Scenario.of(requester).withDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Scenario.of(requester).withDuration(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void stepsWithoutExtractionsAreSentByLazyRequester() {
+        // Act
+        ScenarioReport report =
+                Scenario.of(requester.withLazyExecution())
+                        .step("create order", (r, session) -> r.to("/orders").post())
+                        .extract("orderId", "/id")
+                        .step("add item", (r, session) -> r.to("/orders/{id}/items", session.get("orderId"))
+                                                           .post(new Item("item")))
+                        .withIterations(5)
+                        .run();
+        // Assert
+        assertThat(report.getStep("add item").getErrors()).isZero();
+        assertThat(controller.orders).hasSize(5)
+                                     .allSatisfy((id, order) -> assertThat(order.getItems()).hasSize(1));
+    }
+
+    @RestController
+    @RequestMapping("/orders")
+    public static class OrderController {
+
+        private final AtomicLong ids = new AtomicLong();
+        private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+
+        @PostMapping
+        @ResponseStatus(HttpStatus.CREATED)
+        public Order create() {
+            Order order = new Order(ids.incrementAndGet(), new CopyOnWriteArrayList<>());
+            orders.put(order.getId(), order);
+            return order;
+        }
+
+        @PostMapping("/{id}/items")
+        public Order addItem(@PathVariable("id") long id, @RequestBody Item item) {
+            Order order = orders.get(id);
+            order.getItems().add(item);
+            return order;
+        }
+
+        @PostMapping("/{id}/checkout")
+        public Order checkout(@PathVariable("id") long id) {
+            return orders.get(id);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Order {
+        private long id;
+        private List<Item> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String name;
+    }
+}
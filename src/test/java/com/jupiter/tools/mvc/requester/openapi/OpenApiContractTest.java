@@ -0,0 +1,200 @@
+package com.jupiter.tools.mvc.requester.openapi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jupiter.tools.mvc.requester.MvcRequester;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created on 19.10.2026.
+ *
+ * @author Korovin Anatoliy
+ */
+class OpenApiContractTest {
+
+    private final MvcRequester requester = MvcRequester.on(MockMvcBuilders.standaloneSetup(new TestController()).build())
+                                                       .withoutPrinting()
+                                                       .withOpenApiContract("openapi/orders.yaml");
+
+    @Test
+    void validRequests() {
+        // Act & Assert
+        requester.to("/api/orders")
+                 .withParam("page", 1)
+                 .withParam("status", "NEW", "PAID")
+                 .get()
+                 .expectStatus(HttpStatus.OK);
+
+        requester.to("/api/orders/{id}", 42)
+                 .get()
+                 .expectStatus(HttpStatus.OK);
+
+        requester.to("/api/orders")
+                 .post(order(1, "NEW"))
+                 .expectStatus(HttpStatus.CREATED);
+    }
+
+    @Test
+    void literalSegmentWinsOverTemplate() {
+        // Act & Assert
+        requester.to("/api/orders/latest")
+                 .get()
+                 .expectStatus(HttpStatus.OK);
+    }
+
+    @Test
+    void invalidQueryParameters() {
+        assertThatThrownBy(() -> requester.to("/api/orders")
+                                          .withParam("page", -1)
+                                          .withParam("status", "LOST")
+                                          .get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("GET /api/orders violates the OpenAPI contract openapi/orders.yaml")
+                .hasMessageContaining("query parameter 'page'")
+                .hasMessageContaining("query parameter 'status'");
+    }
+
+    @Test
+    void missedRequiredParameter() {
+        assertThatThrownBy(() -> requester.to("/api/orders").get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("query parameter 'page' is required");
+    }
+
+    @Test
+    void invalidPathVariable() {
+        assertThatThrownBy(() -> requester.to("/api/orders/abc").get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("path parameter 'id'");
+    }
+
+    @Test
+    void invalidResponseBody() {
+        assertThatThrownBy(() -> requester.to("/api/orders/{id}", 13).get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("response body $.status");
+    }
+
+    @Test
+    void undocumentedStatus() {
+        assertThatThrownBy(() -> requester.to("/api/orders/{id}", 500).get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("response status 503 is not documented");
+    }
+
+    @Test
+    void undocumentedOperation() {
+        assertThatThrownBy(() -> requester.to("/api/customers").get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("GET /api/customers is not described");
+
+        assertThatThrownBy(() -> requester.to("/api/orders/{id}", 1).post(order(1, "NEW")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("documented methods: [GET]");
+    }
+
+    @Test
+    void invalidRequestIsAllowedForClientErrors() {
+        // Act & Assert
+        requester.to("/api/orders")
+                 .post(order(1, "LOST"))
+                 .expectStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void loadDocumentOnce() {
+        // Act
+        OpenApiContract contract = OpenApiContract.load("classpath:openapi/orders.yaml");
+        // Assert
+        assertThat(contract).isSameAs(OpenApiContract.load("classpath:openapi/orders.yaml"));
+    }
+
+    @Test
+    void documentIsNotFound() {
+        assertThatThrownBy(() -> OpenApiContract.load("openapi/unknown.yaml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("openapi/unknown.yaml");
+    }
+
+    @Test
+    void pathTemplateTrie() {
+        // Arrange
+        PathTemplateTrie<String> trie = new PathTemplateTrie<>();
+        trie.put("/orders/{id}", "order");
+        trie.put("/orders/{id}/items/{item}", "item");
+        trie.put("/orders/new", "new");
+        trie.put("/files/{name}.json", "file");
+        Map<String, String> variables = new HashMap<>();
+        // Act & Assert
+        assertThat(trie.find("/orders/new", variables)).isEqualTo("new");
+        assertThat(variables).isEmpty();
+        assertThat(trie.find("/orders/7/items/3", variables)).isEqualTo("item");
+        assertThat(variables).containsEntry("id", "7").containsEntry("item", "3");
+        assertThat(trie.find("/files/report.json", variables)).isEqualTo("file");
+        assertThat(variables).containsEntry("name", "report");
+        assertThat(trie.find("/files/report.xml", variables)).isNull();
+        assertThat(trie.find("/orders", variables)).isNull();
+    }
+
+    private static Map<String, Object> order(long id, String status) {
+        Map<String, Object> order = new HashMap<>();
+        order.put("id", id);
+        order.put("status", status);
+        order.put("comment", null);
+        return order;
+    }
+
+    @RestController
+    public static class TestController {
+
+        @GetMapping("/api/orders")
+        public List<Map<String, Object>> orders(@RequestParam(required = false) Integer page) {
+            return Collections.singletonList(order(1, "NEW"));
+        }
+
+        @PostMapping("/api/orders")
+        public ResponseEntity<Object> create(@RequestBody Map<String, Object> order) {
+            if (!"NEW".equals(order.get("status"))) {
+                return ResponseEntity.badRequest().body(Collections.singletonMap("message", "wrong status"));
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(order);
+        }
+
+        @GetMapping("/api/orders/latest")
+        public Map<String, Object> latest() {
+            return order(2, "PAID");
+        }
+
+        @GetMapping("/api/orders/{id}")
+        public ResponseEntity<Map<String, Object>> get(@PathVariable String id) {
+            if ("13".equals(id)) {
+                return ResponseEntity.ok(order(13, "LOST"));
+            }
+            if ("500".equals(id)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(order(1, "PAID"));
+        }
+
+        @PostMapping("/api/orders/{id}")
+        public Map<String, Object> update(@PathVariable String id) {
+            return order(1, "PAID");
+        }
+    }
+}
@@ -60,4 +60,18 @@ class UriBuilderTest {
                                 new Object[]{"/path", 123});
         assertThat(uri.toString()).isEqualTo("/path/123/test");
     }
-}
\ No newline at end of file
+
+    @Test
+    void plainPathWithoutPrefix() {
+        UriBuilder builder = new UriBuilder();
+        URI uri = builder.build(" path/test-1.json ", null);
+        assertThat(uri.toString()).isEqualTo("/path/test-1.json");
+    }
+
+    @Test
+    void encodePathWithoutArgs() {
+        UriBuilder builder = new UriBuilder();
+        URI uri = builder.build("/path/a b?query=1", null);
+        assertThat(uri.toString()).isEqualTo("/path/a%20b?query=1");
+    }
+}